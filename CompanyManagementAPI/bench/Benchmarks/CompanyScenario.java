@@ -0,0 +1,233 @@
+package Benchmarks;
+
+import CompanyManagement.ManageCompany;
+import DataStructures.AdjacencyListStorage;
+import Locals.Market;
+import Locals.Warehouse;
+import SellersManagement.Seller;
+import java.util.Random;
+
+/**
+ * A company built through the public ManageCompany API from a seed: many
+ * markets with long client queues, a few warehouses and sellers that visit
+ * many markets. The same scenario always builds the same company, with the
+ * locals, roads and sellers added in the same order.
+ *
+ * <p>
+ * The roads connect every local to one added before it, so every local can
+ * be reached from the company, plus random roads until each local has the
+ * given average number of roads.</p>
+ *
+ * @author Simão
+ */
+public class CompanyScenario {
+
+    private final long seed;
+    private final int markets;
+    private final int warehouses;
+    private final int sellers;
+    private final int clients;
+    private final int minSellerMarkets;
+    private final int maxSellerMarkets;
+    private final int degree;
+
+    /**
+     * CompanyScenario class constructor, with 30 clients per market, sellers
+     * with 20 to 50 markets and 4 roads per local.
+     *
+     * @param seed the seed
+     * @param markets the number of markets
+     * @param warehouses the number of warehouses
+     * @param sellers the number of sellers
+     * @throws IllegalArgumentException if a number is invalid
+     */
+    public CompanyScenario(long seed, int markets, int warehouses,
+            int sellers) {
+
+        this(seed, markets, warehouses, sellers, 30, 20, 50, 4);
+    }
+
+    /**
+     * CompanyScenario class constructor.
+     *
+     * @param seed the seed
+     * @param markets the number of markets
+     * @param warehouses the number of warehouses
+     * @param sellers the number of sellers
+     * @param clients the average number of clients of a market
+     * @param minSellerMarkets the minimum number of markets of a seller
+     * @param maxSellerMarkets the maximum number of markets of a seller
+     * @param degree the average number of roads of a local
+     * @throws IllegalArgumentException if a number is invalid
+     */
+    public CompanyScenario(long seed, int markets, int warehouses, int sellers,
+            int clients, int minSellerMarkets, int maxSellerMarkets,
+            int degree) {
+
+        if (markets <= 0 || warehouses <= 0 || sellers < 0 || clients < 0
+                || degree <= 0) {
+            throw new IllegalArgumentException("The sizes are invalid.");
+        }
+        if (minSellerMarkets < 0 || maxSellerMarkets < minSellerMarkets) {
+            throw new IllegalArgumentException(
+                    "The markets of a seller are invalid.");
+        }
+        this.seed = seed;
+        this.markets = markets;
+        this.warehouses = warehouses;
+        this.sellers = sellers;
+        this.clients = clients;
+        this.minSellerMarkets = Math.min(minSellerMarkets, markets);
+        this.maxSellerMarkets = Math.min(maxSellerMarkets, markets);
+        this.degree = degree;
+    }
+
+    /**
+     * Getter for the number of locals, without the company.
+     *
+     * @return the number of locals
+     */
+    public int getNumberOfLocals() {
+        return this.markets + this.warehouses;
+    }
+
+    /**
+     * Getter for the number of roads added by addRoads.
+     *
+     * @return the number of roads
+     */
+    public int getNumberOfRoads() {
+        int locals = this.getNumberOfLocals();
+        return Math.max(locals, (locals + 1) * this.degree / 2);
+    }
+
+    /**
+     * Returns the name of a market.
+     *
+     * @param index the index of the market
+     * @return the name of the market
+     */
+    public static String marketName(int index) {
+        return "Market " + index;
+    }
+
+    /**
+     * Returns the name of a warehouse.
+     *
+     * @param index the index of the warehouse
+     * @return the name of the warehouse
+     */
+    public static String warehouseName(int index) {
+        return "Warehouse " + index;
+    }
+
+    /**
+     * Returns the id of a seller.
+     *
+     * @param index the index of the seller
+     * @return the id of the seller
+     */
+    public static String sellerId(int index) {
+        return "S" + index;
+    }
+
+    private String localName(ManageCompany company, int index) {
+        if (index == 0) {
+            return company.getCompanyName();
+        }
+        index--;
+        if (index < this.warehouses) {
+            return warehouseName(index);
+        }
+        return marketName(index - this.warehouses);
+    }
+
+    /**
+     * Builds the company, with its locals, roads and sellers.
+     *
+     * @return the company
+     */
+    public ManageCompany build() {
+        ManageCompany company = this.buildWithoutRoads();
+        this.addRoads(company);
+        return company;
+    }
+
+    /**
+     * Builds the company with its locals and sellers but without roads, that
+     * can then be added by addRoads.
+     *
+     * @return the company
+     */
+    public ManageCompany buildWithoutRoads() {
+        ManageCompany company = new ManageCompany("Company",
+                new AdjacencyListStorage(this.getNumberOfLocals() + 1));
+        Random random = new Random(this.seed);
+
+        for (int i = 0; i < this.warehouses; i++) {
+            int capacity = 5000 + random.nextInt(5000);
+            Warehouse warehouse = new Warehouse(warehouseName(i), capacity);
+            warehouse.loadStock(capacity / 2 + random.nextInt(capacity / 2));
+            company.addLocal(warehouse);
+        }
+        for (int i = 0; i < this.markets; i++) {
+            Market market = new Market(marketName(i));
+            int count = this.clients == 0 ? 0
+                    : this.clients / 2 + random.nextInt(this.clients + 1);
+            for (int j = 0; j < count; j++) {
+                market.addClient(1 + random.nextInt(20));
+            }
+            company.addLocal(market);
+        }
+        for (int i = 0; i < this.sellers; i++) {
+            Seller seller = new Seller(sellerId(i), "Seller " + i,
+                    100 + random.nextInt(401));
+            int count = this.minSellerMarkets + random.nextInt(
+                    this.maxSellerMarkets - this.minSellerMarkets + 1);
+            while (count > 0) {
+                if (seller.addMarketToVisit(marketName(
+                        random.nextInt(this.markets)))) {
+                    count--;
+                }
+            }
+            company.addSeller(seller);
+        }
+        return company;
+    }
+
+    /**
+     * Adds the roads of the scenario, one at a time, to a company built by
+     * buildWithoutRoads.
+     *
+     * @param company the company
+     * @throws IllegalArgumentException if the company is null
+     * @return the number of roads added
+     */
+    public int addRoads(ManageCompany company) {
+        if (company == null) {
+            throw new IllegalArgumentException("The company is null.");
+        }
+        Random random = new Random(this.seed + 1);
+        int locals = this.getNumberOfLocals() + 1;
+        int roads = this.getNumberOfRoads();
+        int added = 0;
+
+        for (int i = 0; i < roads; i++) {
+            int start;
+            int destination;
+            if (i < locals - 1) {
+                start = random.nextInt(i + 1);
+                destination = i + 1;
+            } else {
+                start = random.nextInt(locals);
+                destination = random.nextInt(locals);
+            }
+            if (company.addRoad(this.localName(company, start),
+                    this.localName(company, destination),
+                    1 + random.nextInt(100))) {
+                added++;
+            }
+        }
+        return added;
+    }
+}
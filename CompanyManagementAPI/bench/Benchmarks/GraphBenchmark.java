@@ -0,0 +1,208 @@
+package Benchmarks;
+
+import DataStructures.Graph;
+import DataStructures.Network;
+import DataStructures.VertexRemoval;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the traversals, of the shortest path and of adding and
+ * removing vertices and edges, on the synthetic graphs. The sizes and the
+ * storages are the parameters of {@link SmallGraphBenchmark}, over both
+ * storages, and of {@link LargeGraphBenchmark}, over adjacency lists only, as
+ * an adjacency matrix of 10^5 vertices takes gigabytes.
+ *
+ * <p>
+ * The traversals and the shortest path go from the first vertex to the last,
+ * that are the farthest apart on the path through every vertex. The graphs
+ * keep their vertices and edges between the invocations: what is added is
+ * removed in the same invocation and the other way around. A removed vertex
+ * is added back with its edges, at the end, so the vertices removed are
+ * taken in turn to not always remove the last one. The graph removes them
+ * with SHIFT, its default, and the network with SWAP_WITH_LAST, like the
+ * network of the company.</p>
+ *
+ * @author Simão
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public abstract class GraphBenchmark {
+
+    private Graph<Integer> graph;
+    private Network<Integer> network;
+    private Integer[] vertices;
+    private int[][] neighbours;
+    private double[][] weights;
+    private Integer first;
+    private Integer last;
+    private Integer missing;
+    private Integer absent;
+    private Integer neighbour;
+    private double neighbourWeight;
+    private int next;
+
+    /**
+     * Builds the graph and the network.
+     *
+     * @param storage the name of the storage, see {@link SyntheticGraphs}
+     * @param size the number of vertices
+     * @param degree the average number of neighbours of a vertex
+     */
+    protected void build(String storage, int size, int degree) {
+        SyntheticGraphs.Edges edges = SyntheticGraphs.edges(size, degree);
+        this.vertices = SyntheticGraphs.vertices(size + 1);
+        Integer[] present = Arrays.copyOf(this.vertices, size);
+        this.graph = SyntheticGraphs.graph(storage, present, edges, size + 1);
+        this.network = SyntheticGraphs.network(storage, present, edges,
+                size + 1);
+        this.network.setVertexRemoval(VertexRemoval.SWAP_WITH_LAST);
+
+        int[] degrees = new int[size];
+        for (int i = 0; i < edges.starts.length; i++) {
+            degrees[edges.starts[i]]++;
+            if (edges.destinations[i] != edges.starts[i]) {
+                degrees[edges.destinations[i]]++;
+            }
+        }
+        this.neighbours = new int[size][];
+        this.weights = new double[size][];
+        for (int v = 0; v < size; v++) {
+            this.neighbours[v] = new int[degrees[v]];
+            this.weights[v] = new double[degrees[v]];
+            degrees[v] = 0;
+        }
+        for (int i = 0; i < edges.starts.length; i++) {
+            int start = edges.starts[i];
+            int destination = edges.destinations[i];
+            this.neighbours[start][degrees[start]] = destination;
+            this.weights[start][degrees[start]++] = edges.weights[i];
+            if (destination != start) {
+                this.neighbours[destination][degrees[destination]] = start;
+                this.weights[destination][degrees[destination]++]
+                        = edges.weights[i];
+            }
+        }
+
+        this.first = this.vertices[0];
+        this.last = this.vertices[size - 1];
+        this.missing = this.vertices[size];
+        int[] firstNeighbours = this.neighbours[0];
+        this.neighbour = this.vertices[firstNeighbours[
+                firstNeighbours.length - 1]];
+        this.neighbourWeight = this.weights[0][firstNeighbours.length - 1];
+        this.absent = null;
+        for (int v = size - 1; v > 0 && this.absent == null; v--) {
+            boolean adjacent = false;
+            for (int n : firstNeighbours) {
+                adjacent |= n == v;
+            }
+            if (!adjacent) {
+                this.absent = this.vertices[v];
+            }
+        }
+        this.next = 0;
+    }
+
+    private int nextRemoved() {
+        int removed = this.next;
+        this.next = (this.next + 1) % this.neighbours.length;
+        return removed;
+    }
+
+    @Benchmark
+    public void iteratorBFS(Blackhole blackhole) {
+        Iterator iterator = this.graph.iteratorBFS(this.first);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void iteratorDFS(Blackhole blackhole) {
+        Iterator iterator = this.graph.iteratorDFS(this.first);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public double shortestPathWeight() {
+        return this.network.shortestPathWeight(this.first, this.last);
+    }
+
+    @Benchmark
+    public void graphAddRemoveVertex() {
+        this.graph.addVertex(this.missing);
+        this.graph.removeVertex(this.missing);
+    }
+
+    @Benchmark
+    public void graphRemoveAddVertex() {
+        int removed = this.nextRemoved();
+        Integer vertex = this.vertices[removed];
+        this.graph.removeVertex(vertex);
+        this.graph.addVertex(vertex);
+        for (int n : this.neighbours[removed]) {
+            this.graph.addEdge(vertex, this.vertices[n]);
+        }
+    }
+
+    @Benchmark
+    public void networkAddRemoveVertex() {
+        this.network.addVertex(this.missing);
+        this.network.removeVertex(this.missing);
+    }
+
+    @Benchmark
+    public void networkRemoveAddVertex() {
+        int removed = this.nextRemoved();
+        Integer vertex = this.vertices[removed];
+        this.network.removeVertex(vertex);
+        this.network.addVertex(vertex);
+        int[] vertexNeighbours = this.neighbours[removed];
+        for (int i = 0; i < vertexNeighbours.length; i++) {
+            this.network.addEdge(vertex, this.vertices[vertexNeighbours[i]],
+                    this.weights[removed][i]);
+        }
+    }
+
+    @Benchmark
+    public void graphAddRemoveEdge() {
+        this.graph.addEdge(this.first, this.absent);
+        this.graph.removeEdge(this.first, this.absent);
+    }
+
+    @Benchmark
+    public void graphRemoveAddEdge() {
+        this.graph.removeEdge(this.first, this.neighbour);
+        this.graph.addEdge(this.first, this.neighbour);
+    }
+
+    @Benchmark
+    public void networkAddRemoveEdge() {
+        this.network.addEdge(this.first, this.absent, 1);
+        this.network.removeEdge(this.first, this.absent);
+    }
+
+    @Benchmark
+    public void networkRemoveAddEdge() {
+        this.network.removeEdge(this.first, this.neighbour);
+        this.network.addEdge(this.first, this.neighbour, this.neighbourWeight);
+    }
+}
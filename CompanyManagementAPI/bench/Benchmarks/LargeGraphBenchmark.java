@@ -0,0 +1,33 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * The graph benchmarks with 10^5 vertices, over adjacency lists only.
+ *
+ * @author Simão
+ */
+public class LargeGraphBenchmark extends GraphBenchmark {
+
+    /**
+     * The number of vertices.
+     */
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * The average number of neighbours of a vertex.
+     */
+    @Param({"4"})
+    public int degree;
+
+    /**
+     * Builds the graph and the network.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        super.build(SyntheticGraphs.LIST, this.size, this.degree);
+    }
+}
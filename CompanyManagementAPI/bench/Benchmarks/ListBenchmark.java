@@ -0,0 +1,124 @@
+package Benchmarks;
+
+import DataStructures.LinkedOrderedList;
+import DataStructures.LinkedUnorderedList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the linked lists. The lists keep their size between the
+ * invocations: what is added is removed in the same invocation. The elements
+ * searched are the ones in the lists, as LinkedList.remove compares them by
+ * reference.
+ *
+ * @author Simão
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ListBenchmark {
+
+    /**
+     * The number of elements in the lists.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private LinkedUnorderedList<Integer> unordered;
+    private LinkedOrderedList<Integer> ordered;
+    private Integer middle;
+    private Integer previous;
+    private Integer missing;
+
+    /**
+     * Fills the lists with the elements from 0 to size - 1.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Integer[] elements = new Integer[this.size + 1];
+        this.unordered = new LinkedUnorderedList<>();
+        this.ordered = new LinkedOrderedList<>();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+        for (int i = 0; i < this.size; i++) {
+            this.unordered.addToRear(elements[i]);
+            this.ordered.add(elements[i]);
+        }
+        this.middle = elements[this.size / 2];
+        this.previous = elements[this.size / 2 - 1];
+        this.missing = elements[this.size];
+    }
+
+    @Benchmark
+    public Integer addToFrontRemoveFirst() {
+        this.unordered.addToFront(this.missing);
+        return this.unordered.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addToRearRemoveLast() {
+        this.unordered.addToRear(this.missing);
+        return this.unordered.removeLast();
+    }
+
+    @Benchmark
+    public Integer removeMiddle() {
+        Integer removed = this.unordered.remove(this.middle);
+        this.unordered.addAfter(removed, this.previous);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean containsMiddle() {
+        return this.unordered.contains(this.middle);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return this.unordered.contains(this.missing);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        Iterator<Integer> iterator = this.unordered.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public Integer orderedAddRemoveMiddle() {
+        this.ordered.add(this.middle);
+        return this.ordered.remove(this.middle);
+    }
+
+    @Benchmark
+    public boolean orderedContainsMiddle() {
+        return this.ordered.contains(this.middle);
+    }
+
+    @Benchmark
+    public void orderedIterate(Blackhole blackhole) {
+        Iterator<Integer> iterator = this.ordered.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package Benchmarks;
+
+import DataStructures.LinkedQueue;
+import DataStructures.LinkedStack;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the linked queue and stack. Both keep their size between the
+ * invocations, and the stack has no iterator nor contains, so it is searched
+ * by popping and pushing back its elements.
+ *
+ * @author Simão
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueueStackBenchmark {
+
+    /**
+     * The number of elements in the queue and in the stack.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private LinkedQueue<Integer> queue;
+    private LinkedStack<Integer> stack;
+    private LinkedStack<Integer> buffer;
+
+    /**
+     * Fills the queue and the stack with the elements from 0 to size - 1.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.queue = new LinkedQueue<>();
+        this.stack = new LinkedStack<>();
+        this.buffer = new LinkedStack<>();
+        for (int i = 0; i < this.size; i++) {
+            this.queue.enqueue(i);
+            this.stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        this.queue.enqueue(this.size);
+        return this.queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer queueFirst() {
+        return this.queue.first();
+    }
+
+    @Benchmark
+    public void queueIterate(Blackhole blackhole) {
+        Iterator<Integer> iterator = this.queue.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        this.stack.push(this.size);
+        return this.stack.pop();
+    }
+
+    @Benchmark
+    public Integer stackPeek() {
+        return this.stack.peek();
+    }
+
+    @Benchmark
+    public boolean stackContainsBottom() {
+        boolean found = false;
+        while (!found && !this.stack.isEmpty()) {
+            Integer element = this.stack.pop();
+            this.buffer.push(element);
+            found = element == 0;
+        }
+        while (!this.buffer.isEmpty()) {
+            this.stack.push(this.buffer.pop());
+        }
+        return found;
+    }
+}
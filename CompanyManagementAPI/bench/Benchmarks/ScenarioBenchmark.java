@@ -0,0 +1,232 @@
+package Benchmarks;
+
+import CompanyManagement.ManageCompany;
+import SellersManagement.ISeller;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.simple.JSONValue;
+
+/**
+ * Times the route planning workload on the companies of a CompanyScenario:
+ * adding every road with addRoad, generating the route of every seller with
+ * generateRouteForSeller, one after the other, and writing the company with
+ * companyToJson. Each operation is measured on a company that was built
+ * before the clock started, and the bytes it allocates are read from the
+ * thread, so the building is not counted.
+ *
+ * <p>
+ * The arguments are name=value pairs: seed, markets, warehouses, sellers,
+ * warmup and rounds, the number of times each operation is measured, and
+ * out, a file to write the results to as JSON.</p>
+ *
+ * @author Simão
+ */
+public class ScenarioBenchmark {
+
+    private static final int JSON_WRITES = 5;
+
+    /**
+     * The measurements of an operation.
+     */
+    private static class Result {
+
+        private final String operation;
+        private long operations;
+        private long nanos;
+        private long bytes;
+
+        private Result(String operation) {
+            this.operation = operation;
+        }
+
+        private double nanosPerOperation() {
+            return (double) this.nanos / this.operations;
+        }
+
+        private double operationsPerSecond() {
+            return this.operations * 1e9 / this.nanos;
+        }
+
+        private double bytesPerOperation() {
+            return this.bytes < 0 ? -1 : (double) this.bytes / this.operations;
+        }
+
+        private Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("operation", this.operation);
+            json.put("operations", this.operations);
+            json.put("nanosPerOperation", this.nanosPerOperation());
+            json.put("operationsPerSecond", this.operationsPerSecond());
+            json.put("bytesPerOperation", this.bytesPerOperation());
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %12d ops %14.1f ns/op %14.1f ops/s "
+                    + "%14.1f B/op", this.operation, this.operations,
+                    this.nanosPerOperation(), this.operationsPerSecond(),
+                    this.bytesPerOperation());
+        }
+    }
+
+    private final CompanyScenario scenario;
+    private final int sellers;
+    private final com.sun.management.ThreadMXBean threads;
+    private final Path json;
+    private long startNanos;
+    private long startBytes;
+
+    private ScenarioBenchmark(CompanyScenario scenario, int sellers)
+            throws IOException {
+
+        this.scenario = scenario;
+        this.sellers = sellers;
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean)
+                        .isThreadAllocatedMemorySupported()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+            this.threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threads = null;
+        }
+        this.json = Files.createTempFile("company", ".json");
+        this.json.toFile().deleteOnExit();
+    }
+
+    private void start() {
+        this.startBytes = this.threads == null ? 0
+                : this.threads.getCurrentThreadAllocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    private void stop(Result result, long operations) {
+        long nanos = System.nanoTime() - this.startNanos;
+        if (this.threads == null) {
+            result.bytes = -1;
+        } else if (result.bytes >= 0) {
+            result.bytes += this.threads.getCurrentThreadAllocatedBytes()
+                    - this.startBytes;
+        }
+        result.nanos += nanos;
+        result.operations += operations;
+    }
+
+    private void runRound(Result addRoad, Result route, Result toJson) {
+        ManageCompany company = this.scenario.buildWithoutRoads();
+        this.start();
+        this.scenario.addRoads(company);
+        this.stop(addRoad, this.scenario.getNumberOfRoads());
+
+        for (int i = 0; i < JSON_WRITES; i++) {
+            this.start();
+            company.companyToJson(this.json.toString());
+            this.stop(toJson, 1);
+        }
+
+        for (int i = 0; i < this.sellers; i++) {
+            ISeller seller = company.getSeller(CompanyScenario.sellerId(i));
+            this.start();
+            company.generateRouteForSeller(company.getCompany(), seller);
+            this.stop(route, 1);
+        }
+    }
+
+    private Result[] run(int warmup, int rounds) {
+        for (int i = 0; i < warmup; i++) {
+            this.runRound(new Result("addRoad"),
+                    new Result("generateRouteForSeller"),
+                    new Result("companyToJson"));
+        }
+        Result[] results = {new Result("addRoad"),
+            new Result("generateRouteForSeller"), new Result("companyToJson")};
+        for (int i = 0; i < rounds; i++) {
+            System.gc();
+            this.runRound(results[0], results[1], results[2]);
+        }
+        return results;
+    }
+
+    private static long argument(String[] args, String name, long value) {
+        String prefix = name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                try {
+                    return Long.parseLong(arg.substring(prefix.length()));
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Invalid " + name
+                            + ": " + arg, ex);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the name=value pairs
+     * @throws IOException if the results can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        long seed = argument(args, "seed", 42);
+        int markets = (int) argument(args, "markets", 2000);
+        int warehouses = (int) argument(args, "warehouses", 20);
+        int sellers = (int) argument(args, "sellers", 50);
+        int warmup = (int) argument(args, "warmup", 2);
+        int rounds = (int) argument(args, "rounds", 5);
+        String out = null;
+        for (String arg : args) {
+            if (arg.startsWith("out=")) {
+                out = arg.substring("out=".length());
+            }
+        }
+
+        CompanyScenario scenario = new CompanyScenario(seed, markets,
+                warehouses, sellers);
+        Result[] results = new ScenarioBenchmark(scenario, sellers)
+                .run(warmup, rounds);
+
+        System.out.printf("seed=%d markets=%d warehouses=%d sellers=%d "
+                + "roads=%d rounds=%d%n", seed, markets, warehouses, sellers,
+                scenario.getNumberOfRoads(), rounds);
+        List<Object> array = new ArrayList<>();
+        for (Result result : results) {
+            System.out.println(result);
+            array.add(result.toJson());
+        }
+
+        if (out != null) {
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("seed", seed);
+            parameters.put("markets", markets);
+            parameters.put("warehouses", warehouses);
+            parameters.put("sellers", sellers);
+            parameters.put("roads", scenario.getNumberOfRoads());
+            parameters.put("warmup", warmup);
+            parameters.put("rounds", rounds);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("scenario", parameters);
+            json.put("results", array);
+            Path path = Paths.get(out);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path,
+                    StandardCharsets.UTF_8)) {
+                JSONValue.writeJSONString(json, writer);
+            }
+        }
+    }
+}
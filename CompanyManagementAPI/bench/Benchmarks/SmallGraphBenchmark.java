@@ -0,0 +1,40 @@
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * The graph benchmarks over both storages, up to 10^4 vertices, with the
+ * adjacency matrix the company uses by default.
+ *
+ * @author Simão
+ */
+public class SmallGraphBenchmark extends GraphBenchmark {
+
+    /**
+     * The storage of the edges, see {@link SyntheticGraphs}.
+     */
+    @Param({SyntheticGraphs.LIST, SyntheticGraphs.MATRIX})
+    public String storage;
+
+    /**
+     * The number of vertices.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    /**
+     * The average number of neighbours of a vertex.
+     */
+    @Param({"4"})
+    public int degree;
+
+    /**
+     * Builds the graph and the network.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        super.build(this.storage, this.size, this.degree);
+    }
+}
@@ -0,0 +1,155 @@
+package Benchmarks;
+
+import DataStructures.AdjacencyListStorage;
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructures.Graph;
+import DataStructures.Network;
+import DataStructuresInterfaces.GraphStorageADT;
+import java.util.Random;
+
+/**
+ * Builds the graphs of the benchmarks: a path through every vertex, so the
+ * graph is connected, with more random edges until each vertex has the
+ * given average degree. The same size and seed always give the same graph,
+ * and the graph and the network of a size have the same edges.
+ *
+ * @author Simão
+ */
+final class SyntheticGraphs {
+
+    /**
+     * The seed of the random edges.
+     */
+    static final long SEED = 42L;
+
+    /**
+     * The name of the adjacency list storage.
+     */
+    static final String LIST = "list";
+
+    /**
+     * The name of the adjacency matrix storage.
+     */
+    static final String MATRIX = "matrix";
+
+    private SyntheticGraphs() {
+    }
+
+    /**
+     * The edges of a synthetic graph, by the indices of their vertices.
+     */
+    static final class Edges {
+
+        final int[] starts;
+        final int[] destinations;
+        final double[] weights;
+
+        private Edges(int count) {
+            this.starts = new int[count];
+            this.destinations = new int[count];
+            this.weights = new double[count];
+        }
+    }
+
+    /**
+     * Returns the vertices from 0 to size - 1.
+     *
+     * @param size the number of vertices
+     * @return the vertices
+     */
+    static Integer[] vertices(int size) {
+        Integer[] vertices = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = i;
+        }
+        return vertices;
+    }
+
+    /**
+     * Returns the edges of the graph of a size, with weights from 1 to 100.
+     *
+     * @param size the number of vertices
+     * @param degree the average number of neighbours of a vertex
+     * @return the edges
+     */
+    static Edges edges(int size, int degree) {
+        Edges edges = new Edges(Math.max(size - 1, size * degree / 2));
+        Random random = new Random(SEED);
+        for (int i = 0; i < edges.starts.length; i++) {
+            if (i < size - 1) {
+                edges.starts[i] = i;
+                edges.destinations[i] = i + 1;
+            } else {
+                edges.starts[i] = random.nextInt(size);
+                edges.destinations[i] = random.nextInt(size);
+            }
+            edges.weights[i] = 1 + random.nextInt(100);
+        }
+        return edges;
+    }
+
+    /**
+     * Returns an empty storage.
+     *
+     * @param storage the name of the storage, LIST or MATRIX
+     * @param capacity the number of vertices to hold without resizing
+     * @throws IllegalArgumentException if the name is not a storage
+     * @return the storage
+     */
+    static GraphStorageADT storage(String storage, int capacity) {
+        if (LIST.equals(storage)) {
+            return new AdjacencyListStorage(capacity);
+        }
+        if (MATRIX.equals(storage)) {
+            return new AdjacencyMatrixStorage(capacity);
+        }
+        throw new IllegalArgumentException("Unknown storage: " + storage);
+    }
+
+    /**
+     * Returns a graph with the vertices and the edges.
+     *
+     * @param storage the name of the storage, LIST or MATRIX
+     * @param vertices the vertices
+     * @param edges the edges
+     * @param capacity the number of vertices to hold without resizing
+     * @return the graph
+     */
+    static Graph<Integer> graph(String storage, Integer[] vertices,
+            Edges edges, int capacity) {
+
+        Graph<Integer> graph = new Graph<>(storage(storage, capacity),
+                capacity);
+        graph.addVertices(vertices);
+        for (int i = 0; i < edges.starts.length; i++) {
+            graph.addEdge(vertices[edges.starts[i]],
+                    vertices[edges.destinations[i]]);
+        }
+        return graph;
+    }
+
+    /**
+     * Returns a network with the vertices and the edges.
+     *
+     * @param storage the name of the storage, LIST or MATRIX
+     * @param vertices the vertices
+     * @param edges the edges
+     * @param capacity the number of vertices to hold without resizing
+     * @return the network
+     */
+    static Network<Integer> network(String storage, Integer[] vertices,
+            Edges edges, int capacity) {
+
+        Network<Integer> network = new Network<>(storage(storage, capacity),
+                capacity);
+        network.addVertices(vertices);
+        Integer[] starts = new Integer[edges.starts.length];
+        Integer[] destinations = new Integer[edges.starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = vertices[edges.starts[i]];
+            destinations[i] = vertices[edges.destinations[i]];
+        }
+        network.addEdges(starts, destinations, edges.weights);
+        return network;
+    }
+}
@@ -1,9 +1,15 @@
 package AdaptedDataStructures;
 
-import DataStructures.LinkedUnorderedList;
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructures.ArrayUnorderedList;
 import DataStructures.Network;
+import DataStructures.ShortestPathEngine;
+import DataStructures.ShortestPathTree;
+import DataStructuresInterfaces.EdgeCursorADT;
+import DataStructuresInterfaces.GraphStorageADT;
 import DataStructuresInterfaces.UnorderedListADT;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 /**
  *
@@ -13,17 +19,461 @@ import java.util.Iterator;
 public class AdaptedNetwork<T> extends Network<T> implements IAdaptedNetwork<T> {
 
     /**
-     * Returns the vertices iterator.
+     * The default maximum number of cached shortest path trees.
+     */
+    public static final int DEFAULT_SHORTEST_PATH_CACHE_CAPACITY = 64;
+
+    /**
+     * The cached shortest path trees, indexed by their source vertex.
+     */
+    private ShortestPathTree[] treeCache;
+
+    /**
+     * When each cached tree was last used, indexed by their source vertex.
+     */
+    private long[] treeUses;
+
+    /**
+     * The number of times a cached tree was used.
+     */
+    private long uses;
+
+    /**
+     * The number of cached shortest path trees.
+     */
+    private int cachedTrees;
+
+    /**
+     * The maximum number of cached shortest path trees.
+     */
+    private int shortestPathCacheCapacity;
+
+    /**
+     * If the shortest path trees are cached.
+     */
+    private boolean shortestPathCacheEnabled;
+
+    /**
+     * AdaptedNetwork class constructor, the edges are stored in an adjacency
+     * matrix.
+     */
+    public AdaptedNetwork() {
+        this(ShortestPathEngine.BINARY_HEAP);
+    }
+
+    /**
+     * AdaptedNetwork class constructor, the edges are stored in an adjacency
+     * matrix.
+     *
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public AdaptedNetwork(ShortestPathEngine shortestPathEngine) {
+        this(new AdjacencyMatrixStorage(), shortestPathEngine);
+    }
+
+    /**
+     * AdaptedNetwork class constructor.
+     *
+     * @param storage the storage of the edges
+     * @throws IllegalArgumentException if the storage is null or not empty
+     */
+    public AdaptedNetwork(GraphStorageADT storage) {
+        this(storage, ShortestPathEngine.BINARY_HEAP);
+    }
+
+    /**
+     * AdaptedNetwork class constructor.
+     *
+     * @param storage the storage of the edges
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the storage is null or not empty
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public AdaptedNetwork(GraphStorageADT storage,
+            ShortestPathEngine shortestPathEngine) {
+
+        super(storage, shortestPathEngine);
+        this.treeCache = new ShortestPathTree[super.vertices.length];
+        this.treeUses = new long[super.vertices.length];
+        this.uses = 0;
+        this.cachedTrees = 0;
+        this.shortestPathCacheCapacity = DEFAULT_SHORTEST_PATH_CACHE_CAPACITY;
+        this.shortestPathCacheEnabled = true;
+    }
+
+    /**
+     * Returns true if the shortest path trees are cached. The cache is only
+     * used with the BINARY_HEAP engine.
+     *
+     * @return true if the shortest path trees are cached
+     */
+    public boolean isShortestPathCacheEnabled() {
+        return this.shortestPathCacheEnabled;
+    }
+
+    /**
+     * Enables or disables the cache of shortest path trees. Disabling it
+     * drops every cached tree.
+     *
+     * @param enabled true to cache the shortest path trees
+     */
+    public void setShortestPathCacheEnabled(boolean enabled) {
+        this.shortestPathCacheEnabled = enabled;
+        if (!enabled) {
+            this.invalidateShortestPathCache();
+        }
+    }
+
+    /**
+     * Returns the maximum number of cached shortest path trees. Each tree
+     * takes memory linear in the number of vertices.
+     *
+     * @return the maximum number of cached shortest path trees
+     */
+    public int getShortestPathCacheCapacity() {
+        return this.shortestPathCacheCapacity;
+    }
+
+    /**
+     * Sets the maximum number of cached shortest path trees. When the cache is
+     * full, the tree used the longest time ago is dropped.
+     *
+     * @param capacity the maximum number of cached shortest path trees
+     * @throws IllegalArgumentException if the capacity is less or equal than
+     * zero
+     */
+    public void setShortestPathCacheCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        this.shortestPathCacheCapacity = capacity;
+        while (this.cachedTrees > capacity) {
+            this.evictLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Drops every cached shortest path tree.
+     */
+    protected void invalidateShortestPathCache() {
+        if (this.cachedTrees > 0) {
+            this.treeCache = new ShortestPathTree[super.vertices.length];
+            this.treeUses = new long[super.vertices.length];
+            this.cachedTrees = 0;
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        int oldest = -1;
+        for (int i = 0; i < this.treeCache.length; i++) {
+            if (this.treeCache[i] != null
+                    && (oldest < 0 || this.treeUses[i] < this.treeUses[oldest])) {
+                oldest = i;
+            }
+        }
+        if (oldest >= 0) {
+            this.treeCache[oldest] = null;
+            this.cachedTrees--;
+        }
+    }
+
+    private boolean usesShortestPathCache() {
+        return this.shortestPathCacheEnabled
+                && super.shortestPathEngine == ShortestPathEngine.BINARY_HEAP;
+    }
+
+    /**
+     * Returns the shortest path tree of a source vertex, building and caching
+     * it if it is not cached. The cache scan to drop a tree when it is full
+     * costs less than the search that builds the new one.
+     *
+     * @param index the index of the source vertex
+     * @return the shortest path tree
+     */
+    protected ShortestPathTree cachedShortestPathTree(int index) {
+        if (index >= this.treeCache.length) {
+            ShortestPathTree[] temp = new ShortestPathTree[super.vertices.length];
+            System.arraycopy(this.treeCache, 0, temp, 0, this.treeCache.length);
+            this.treeCache = temp;
+            long[] tempUses = new long[super.vertices.length];
+            System.arraycopy(this.treeUses, 0, tempUses, 0, this.treeUses.length);
+            this.treeUses = tempUses;
+        }
+        if (this.treeCache[index] == null) {
+            if (this.cachedTrees >= this.shortestPathCacheCapacity) {
+                this.evictLeastRecentlyUsed();
+            }
+            this.treeCache[index] = super.shortestPathTree(index);
+            this.cachedTrees++;
+        }
+        this.treeUses[index] = ++this.uses;
+        return this.treeCache[index];
+    }
+
+    /**
+     * Returns true if a tree is still the one Dijkstra would build after the
+     * edge between two vertices changes its weight. It is when the edge is not
+     * in the tree and, with the new weight, it is strictly longer than the
+     * paths the tree already has to both vertices.
+     */
+    private boolean isStillValid(ShortestPathTree tree, int index1,
+            int index2, double weight) {
+
+        if (tree.getPredecessor(index2) == index1
+                || tree.getPredecessor(index1) == index2) {
+            return false;
+        }
+        if (weight == Double.POSITIVE_INFINITY) {
+            return true;
+        }
+        double distance1 = tree.getDistance(index1);
+        double distance2 = tree.getDistance(index2);
+        if (distance1 == Double.POSITIVE_INFINITY
+                && distance2 == Double.POSITIVE_INFINITY) {
+            return true;
+        }
+        return distance1 + weight > distance2 && distance2 + weight > distance1;
+    }
+
+    private void edgeChanged(int index1, int index2, double weight) {
+        if (index1 < 0 || index2 < 0) {
+            return;
+        }
+        for (int i = 0; i < this.treeCache.length && this.cachedTrees > 0; i++) {
+            ShortestPathTree tree = this.treeCache[i];
+            if (tree != null
+                    && !this.isStillValid(tree, index1, index2, weight)) {
+                this.treeCache[i] = null;
+                this.cachedTrees--;
+            }
+        }
+    }
+
+    /**
+     * Inserts an edge between two vertices of this graph. Only the cached
+     * trees that the edge changes are dropped.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2) {
+        super.addEdge(vertex1, vertex2);
+        this.edgeChanged(super.findVertex(vertex1), super.findVertex(vertex2),
+                Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Inserts an edge between two vertices of this graph. Only the cached
+     * trees that the edge changes are dropped.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @param weight the weight
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        super.addEdge(vertex1, vertex2, weight);
+        this.edgeChanged(super.findVertex(vertex1), super.findVertex(vertex2),
+                weight);
+    }
+
+    /**
+     * Inserts an edge between the vertices at the same positions of two
+     * arrays for each weight, at once. Every cached tree is dropped.
+     *
+     * @param vertices1 the first vertices
+     * @param vertices2 the second vertices
+     * @param weights the weights
+     */
+    @Override
+    public void addEdges(T[] vertices1, T[] vertices2, double[] weights) {
+        super.addEdges(vertices1, vertices2, weights);
+        this.invalidateShortestPathCache();
+    }
+
+    /**
+     * Removes an edge between two vertices of this graph. Only the cached
+     * trees that used the edge are dropped.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        super.removeEdge(vertex1, vertex2);
+        this.edgeChanged(super.findVertex(vertex1), super.findVertex(vertex2),
+                Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Returns true if there is an edge between two vertices, asking the
+     * storage directly.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if both vertices are in this network and there is an edge
+     * between them
+     */
+    @Override
+    public boolean hasEdge(T vertex1, T vertex2) {
+        int index1 = super.findVertex(vertex1);
+        int index2 = super.findVertex(vertex2);
+
+        return index1 >= 0 && index2 >= 0
+                && super.storage.hasEdge(index1, index2);
+    }
+
+    /**
+     * Removes a single vertex with the given value from this graph. The
+     * indices of the vertices change, so every cached tree is dropped.
+     *
+     * @param vertex the vertex to be removed from this graph
+     */
+    @Override
+    public void removeVertex(T vertex) {
+        if (super.findVertex(vertex) >= 0) {
+            this.invalidateShortestPathCache();
+        }
+        super.removeVertex(vertex);
+    }
+
+    /**
+     * Returns the weight of the shortest path in this network.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the shortest path in this network
+     */
+    @Override
+    public double shortestPathWeight(T vertex1, T vertex2) {
+        if (!this.usesShortestPathCache()) {
+            return super.shortestPathWeight(vertex1, vertex2);
+        }
+        int index1 = super.findVertex(vertex1);
+        int index2 = super.findVertex(vertex2);
+
+        if (index1 < 0 || index2 < 0) {
+            return -1;
+        }
+        return this.cachedShortestPathTree(index1).getDistance(index2);
+    }
+
+    /**
+     * Returns the shortest paths from a vertex to every vertex of this
+     * network, in one search.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree, null if the source is not in this
+     * network
+     */
+    @Override
+    public ShortestPathTree getShortestPathTree(T source) {
+        int index = super.findVertex(source);
+
+        if (index < 0) {
+            return null;
+        }
+        if (this.usesShortestPathCache()) {
+            return this.cachedShortestPathTree(index);
+        }
+        return super.shortestPathTree(index);
+    }
+
+    /**
+     * Builds the shortest paths from a vertex to every vertex of this network,
+     * without caching them. Only reads this network, so it can run in several
+     * threads while nothing changes the network.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree, null if the source is not in this
+     * network
+     */
+    @Override
+    public ShortestPathTree buildShortestPathTree(T source) {
+        int index = super.findVertex(source);
+
+        if (index < 0) {
+            return null;
+        }
+        return super.shortestPathTree(index);
+    }
+
+    /**
+     * Returns the vertex, matching the predicate, with the shortest path from
+     * the source. A cached tree of the source is scanned, otherwise a search
+     * runs until the first matching vertex is reached. Ties are broken by the
+     * lowest index.
+     *
+     * @param source the source vertex
+     * @param predicate the predicate the vertex must match
+     * @throws IllegalArgumentException if the predicate is null
+     * @return the nearest matching vertex, null if the source is not in this
+     * network or if no reachable vertex matches
+     */
+    @Override
+    public T getNearestVertex(T source, Predicate<T> predicate) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate is null.");
+        }
+        int index = super.findVertex(source);
+
+        if (index < 0) {
+            return null;
+        }
+        int nearest = -1;
+        if (this.usesShortestPathCache() && index < this.treeCache.length
+                && this.treeCache[index] != null) {
+            ShortestPathTree tree = this.treeCache[index];
+            this.treeUses[index] = ++this.uses;
+            for (int i = 0; i < super.numVertices; i++) {
+                if (tree.isReachable(i) && predicate.test(super.vertices[i])
+                        && (nearest < 0
+                        || tree.getDistance(i) < tree.getDistance(nearest))) {
+                    nearest = i;
+                }
+            }
+        } else {
+            nearest = super.nearestVertexIndex(index, predicate);
+        }
+        return nearest < 0 ? null : super.vertices[nearest];
+    }
+
+    /**
+     * Returns the index of a vertex, valid until a vertex is removed.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex, -1 if it is not in this network
+     */
+    @Override
+    public int getVertexIndex(T vertex) {
+        return super.findVertex(vertex);
+    }
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param index the index
+     * @return the vertex, null if the index is out of bounds
+     */
+    @Override
+    public T getVertex(int index) {
+        if (index < 0 || index >= super.numVertices) {
+            return null;
+        }
+        return super.vertices[index];
+    }
+
+    /**
+     * Returns the vertices iterator. It walks the vertices array, so it fails
+     * if the network is changed while it is used.
      *
      * @return the vertices iterator
      */
     @Override
     public Iterator<T> vertices() {
-        UnorderedListADT<T> unorderedList = new LinkedUnorderedList<>();
-        for (int i = 0; i < super.numVertices; i++) {
-            unorderedList.addToRear(super.vertices[i]);
-        }
-        return unorderedList.iterator();
+        return new VerticesIterator();
     }
 
     /**
@@ -37,13 +487,18 @@ public class AdaptedNetwork<T> extends Network<T> implements IAdaptedNetwork<T>
     public Iterator<T> getShortestPath(T vertex1, T vertex2) {
         int index1 = super.findVertex(vertex1);
         int index2 = super.findVertex(vertex2);
-        UnorderedListADT<T> path = new LinkedUnorderedList<>();
+        UnorderedListADT<T> path = new ArrayUnorderedList<>();
 
         if (index1 < 0 || index2 < 0) {
             return path.iterator();
         }
 
-        Iterator<Integer> it = iteratorShortestPathIndices(index1, index2);
+        Iterator<Integer> it;
+        if (this.usesShortestPathCache()) {
+            it = this.cachedShortestPathTree(index1).iteratorPathIndices(index2);
+        } else {
+            it = super.iteratorShortestPathIndices(index1, index2);
+        }
         while (it.hasNext()) {
             int currentIndex = it.next();
             path.addToRear(super.vertices[currentIndex]);
@@ -52,21 +507,156 @@ public class AdaptedNetwork<T> extends Network<T> implements IAdaptedNetwork<T>
     }
 
     /**
-     * Returns all the paths.
+     * Returns all the paths. The paths are found as the iterator is used, so
+     * it fails if the network is changed while it is used.
      *
      * @return the paths iterator
      */
     @Override
     public Iterator<Path<T>> getPaths() {
-        UnorderedListADT<Path<T>> paths = new LinkedUnorderedList<>();
-        for (int i = 0; i < super.numVertices; i++) {
-            for (int j = i; j < super.numVertices; j++) {
-                if (this.weights[i][j] != Double.POSITIVE_INFINITY) {
-                    paths.addToRear(new Path<>(super.vertices[i],
-                            super.vertices[j], this.weights[i][j]));
+        return new PathsIterator();
+    }
+
+    /**
+     * Returns a cursor over the edges with a weight, the same ones as
+     * getPaths(), that does not create a Path for each one. It fails if the
+     * network is changed while it is used.
+     *
+     * @return the edge cursor
+     */
+    @Override
+    public EdgeCursorADT<T> edgeCursor() {
+        return new EdgeCursor();
+    }
+
+    private class VerticesIterator implements Iterator<T> {
+
+        private final int expectedModcount;
+        private int next;
+
+        private VerticesIterator() {
+            this.expectedModcount = AdaptedNetwork.this.modCount;
+            this.next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < AdaptedNetwork.this.numVertices;
+        }
+
+        @Override
+        public T next() {
+            if (this.expectedModcount != AdaptedNetwork.this.modCount) {
+                throw new IllegalStateException();
+            }
+            if (!this.hasNext()) {
+                return null;
+            }
+            return AdaptedNetwork.this.vertices[this.next++];
+        }
+    }
+
+    private class EdgeCursor implements EdgeCursorADT<T> {
+
+        private final int expectedModcount;
+        private int start;
+        private int cursor;
+
+        private EdgeCursor() {
+            this.expectedModcount = AdaptedNetwork.this.modCount;
+            this.start = 0;
+            this.cursor = -1;
+        }
+
+        private void checkModCount() {
+            if (this.expectedModcount != AdaptedNetwork.this.modCount) {
+                throw new IllegalStateException();
+            }
+        }
+
+        private void checkIsOnEdge() {
+            this.checkModCount();
+            if (this.cursor < 0) {
+                throw new IllegalStateException("No current edge.");
+            }
+        }
+
+        @Override
+        public boolean next() {
+            this.checkModCount();
+            GraphStorageADT storage = AdaptedNetwork.this.storage;
+            while (this.start < AdaptedNetwork.this.numVertices) {
+                this.cursor = storage.nextEdge(this.start, this.cursor);
+                while (this.cursor >= 0) {
+                    int target = storage.edgeTarget(this.start, this.cursor);
+                    double weight = storage.edgeWeight(this.start, this.cursor);
+                    if (target >= this.start
+                            && weight != Double.POSITIVE_INFINITY) {
+                        return true;
+                    }
+                    this.cursor = storage.nextEdge(this.start, this.cursor);
                 }
+                this.start++;
+            }
+            return false;
+        }
+
+        @Override
+        public int getStartIndex() {
+            this.checkIsOnEdge();
+            return this.start;
+        }
+
+        @Override
+        public int getDestinationIndex() {
+            this.checkIsOnEdge();
+            return AdaptedNetwork.this.storage.edgeTarget(this.start,
+                    this.cursor);
+        }
+
+        @Override
+        public T getStart() {
+            return AdaptedNetwork.this.vertices[this.getStartIndex()];
+        }
+
+        @Override
+        public T getDestination() {
+            return AdaptedNetwork.this.vertices[this.getDestinationIndex()];
+        }
+
+        @Override
+        public double getWeight() {
+            this.checkIsOnEdge();
+            return AdaptedNetwork.this.storage.edgeWeight(this.start,
+                    this.cursor);
+        }
+    }
+
+    private class PathsIterator implements Iterator<Path<T>> {
+
+        private final EdgeCursor edges;
+        private boolean hasNext;
+
+        private PathsIterator() {
+            this.edges = new EdgeCursor();
+            this.hasNext = this.edges.next();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        @Override
+        public Path<T> next() {
+            this.edges.checkModCount();
+            if (!this.hasNext) {
+                return null;
             }
+            Path<T> path = new Path<>(this.edges.getStart(),
+                    this.edges.getDestination(), this.edges.getWeight());
+            this.hasNext = this.edges.next();
+            return path;
         }
-        return paths.iterator();
     }
 }
@@ -1,7 +1,11 @@
 package AdaptedDataStructures;
 
+import DataStructures.ShortestPathTree;
+import DataStructures.VertexRemoval;
+import DataStructuresInterfaces.EdgeCursorADT;
 import DataStructuresInterfaces.NetworkADT;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 /**
  *
@@ -32,4 +36,99 @@ public interface IAdaptedNetwork<T> extends NetworkADT<T> {
      * @return the paths iterator
      */
     public Iterator<Path<T>> getPaths();
+
+    /**
+     * Makes room for the given number of vertices, so adding them does not
+     * expand this network again.
+     *
+     * @param capacity the number of vertices
+     */
+    public void ensureCapacity(int capacity);
+
+    /**
+     * Getter for how the vertices are removed.
+     *
+     * @return how the vertices are removed
+     */
+    public VertexRemoval getVertexRemoval();
+
+    /**
+     * Setter for how the vertices are removed. SWAP_WITH_LAST removes a vertex
+     * without moving the others, but the last vertex takes its index.
+     *
+     * @param vertexRemoval how the vertices are removed
+     * @throws IllegalArgumentException if the vertexRemoval is null
+     */
+    public void setVertexRemoval(VertexRemoval vertexRemoval);
+
+    /**
+     * Returns a cursor over the edges with a weight, the same ones as
+     * getPaths(), that does not create a Path for each one.
+     *
+     * @return the edge cursor
+     */
+    public EdgeCursorADT<T> edgeCursor();
+
+    /**
+     * Returns true if there is an edge between two vertices, in either
+     * direction, without going through the edges.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if both vertices are in this network and there is an edge
+     * between them
+     */
+    public boolean hasEdge(T vertex1, T vertex2);
+
+    /**
+     * Returns the shortest paths from a vertex to every vertex of this
+     * network, in one search. The vertices are identified by their index, see
+     * {@link #getVertex(int)} and {@link #getVertexIndex(Object)}.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree, null if the source is not in this
+     * network
+     */
+    public ShortestPathTree getShortestPathTree(T source);
+
+    /**
+     * Builds the shortest paths from a vertex to every vertex of this network,
+     * without caching them. Only reads this network, so it can run in several
+     * threads while nothing changes the network.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree, null if the source is not in this
+     * network
+     */
+    public ShortestPathTree buildShortestPathTree(T source);
+
+    /**
+     * Returns the vertex, matching the predicate, with the shortest path from
+     * the source. The source itself is considered. The search stops as soon
+     * as the first matching vertex is reached, ties are broken by the lowest
+     * index.
+     *
+     * @param source the source vertex
+     * @param predicate the predicate the vertex must match
+     * @throws IllegalArgumentException if the predicate is null
+     * @return the nearest matching vertex, null if the source is not in this
+     * network or if no reachable vertex matches
+     */
+    public T getNearestVertex(T source, Predicate<T> predicate);
+
+    /**
+     * Returns the index of a vertex, valid until a vertex is removed.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex, -1 if it is not in this network
+     */
+    public int getVertexIndex(T vertex);
+
+    /**
+     * Returns the vertex with the given index.
+     *
+     * @param index the index
+     * @return the vertex, null if the index is out of bounds
+     */
+    public T getVertex(int index);
 }
@@ -0,0 +1,54 @@
+package AdaptedDataStructures;
+
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import java.util.Iterator;
+
+/**
+ * A network of Locals that also indexes them by name.
+ *
+ * @author Simão
+ */
+public interface ILocalsNetwork extends IAdaptedNetwork<ILocal> {
+
+    /**
+     * Returns the Local with the given name.
+     *
+     * @param name the name of the Local
+     * @return the Local, null if there is no Local with that name
+     */
+    ILocal getLocal(String name);
+
+    /**
+     * Returns the Market with the given name.
+     *
+     * @param name the name of the Market
+     * @return the Market, null if there is no Market with that name
+     */
+    IMarket getMarket(String name);
+
+    /**
+     * Returns the Warehouse with the given name.
+     *
+     * @param name the name of the Warehouse
+     * @return the Warehouse, null if there is no Warehouse with that name
+     */
+    IWarehouse getWarehouse(String name);
+
+    /**
+     * Returns the Markets, by the order they were added. The iterator fails if
+     * a Local is added or removed while it is used.
+     *
+     * @return the Markets iterator
+     */
+    Iterator<IMarket> markets();
+
+    /**
+     * Returns the Warehouses, by the order they were added. The iterator fails
+     * if a Local is added or removed while it is used.
+     *
+     * @return the Warehouses iterator
+     */
+    Iterator<IWarehouse> warehouses();
+}
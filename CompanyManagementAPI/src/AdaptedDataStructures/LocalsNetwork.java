@@ -0,0 +1,215 @@
+package AdaptedDataStructures;
+
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructures.LinkedHashMap;
+import DataStructures.ShortestPathEngine;
+import DataStructures.VertexRemoval;
+import DataStructuresInterfaces.GraphStorageADT;
+import DataStructuresInterfaces.MapADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import Locals.Market;
+import Locals.Warehouse;
+import java.util.Iterator;
+
+/**
+ * A network of Locals that keeps an index of the Locals by name, with one for
+ * the Markets and one for the Warehouses, updated as the vertices are added
+ * and removed. When there are Locals with the same name the first one is the
+ * indexed one, like the vertex indices of the network.
+ *
+ * <p>
+ * A removed Local is replaced by the last one, see
+ * {@link VertexRemoval#SWAP_WITH_LAST}, so removing a Local does not move the
+ * whole adjacency matrix. The order of the vertices still only depends on the
+ * order of the changes, so replaying them rebuilds the same network, but it
+ * is not the order SHIFT gives: after a removal the edges are iterated in
+ * another order, an edge can be iterated from its other end, and ties
+ * between vertices broken by the lowest index can go the other way.</p>
+ *
+ * @author Simão
+ */
+public class LocalsNetwork extends AdaptedNetwork<ILocal>
+        implements ILocalsNetwork {
+
+    private final MapADT<String, ILocal> locals;
+    private final MapADT<String, IMarket> markets;
+    private final MapADT<String, IWarehouse> warehouses;
+
+    /**
+     * LocalsNetwork class constructor, the edges are stored in an adjacency
+     * matrix.
+     */
+    public LocalsNetwork() {
+        this(ShortestPathEngine.BINARY_HEAP);
+    }
+
+    /**
+     * LocalsNetwork class constructor, the edges are stored in an adjacency
+     * matrix.
+     *
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public LocalsNetwork(ShortestPathEngine shortestPathEngine) {
+        this(new AdjacencyMatrixStorage(), shortestPathEngine);
+    }
+
+    /**
+     * LocalsNetwork class constructor.
+     *
+     * @param storage the storage of the edges
+     * @throws IllegalArgumentException if the storage is null or not empty
+     */
+    public LocalsNetwork(GraphStorageADT storage) {
+        this(storage, ShortestPathEngine.BINARY_HEAP);
+    }
+
+    /**
+     * LocalsNetwork class constructor.
+     *
+     * @param storage the storage of the edges
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the storage is null or not empty
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public LocalsNetwork(GraphStorageADT storage,
+            ShortestPathEngine shortestPathEngine) {
+
+        super(storage, shortestPathEngine);
+        super.setVertexRemoval(VertexRemoval.SWAP_WITH_LAST);
+        this.locals = new LinkedHashMap<>();
+        this.markets = new LinkedHashMap<>();
+        this.warehouses = new LinkedHashMap<>();
+    }
+
+    private void index(ILocal local) {
+        String name = local.getName();
+        this.locals.put(name, local);
+        if (local instanceof Market) {
+            this.markets.put(name, (IMarket) local);
+        } else if (local instanceof Warehouse) {
+            this.warehouses.put(name, (IWarehouse) local);
+        }
+    }
+
+    private void unindex(String name) {
+        this.locals.remove(name);
+        this.markets.remove(name);
+        this.warehouses.remove(name);
+    }
+
+    /**
+     * Adds a vertex to this network and indexes it by name, unless there is
+     * already a Local with that name.
+     *
+     * @param vertex the vertex to be added to this network
+     */
+    @Override
+    public void addVertex(ILocal vertex) {
+        super.addVertex(vertex);
+        if (vertex != null && vertex.getName() != null
+                && !this.locals.containsKey(vertex.getName())) {
+            this.index(vertex);
+        }
+    }
+
+    /**
+     * Adds the vertices to this network at once and indexes them by name. A
+     * vertex is not indexed if there is already a Local with its name.
+     *
+     * @param vertices the vertices to be added to this network
+     */
+    @Override
+    public void addVertices(ILocal[] vertices) {
+        super.addVertices(vertices);
+        for (ILocal vertex : vertices) {
+            if (vertex != null && vertex.getName() != null
+                    && !this.locals.containsKey(vertex.getName())) {
+                this.index(vertex);
+            }
+        }
+    }
+
+    /**
+     * Removes a single vertex with the given value from this network and from
+     * the index. If another Local with the same name is left, it becomes the
+     * indexed one.
+     *
+     * @param vertex the vertex to be removed from this network
+     */
+    @Override
+    public void removeVertex(ILocal vertex) {
+        int index = super.findVertex(vertex);
+        if (index < 0) {
+            return;
+        }
+        ILocal removed = super.getVertex(index);
+        super.removeVertex(vertex);
+        if (removed.getName() == null
+                || this.locals.get(removed.getName()) != removed) {
+            return;
+        }
+        this.unindex(removed.getName());
+        int other = super.findVertex(removed);
+        if (other >= 0) {
+            this.index(super.getVertex(other));
+        }
+    }
+
+    /**
+     * Returns the Local with the given name.
+     *
+     * @param name the name of the Local
+     * @return the Local, null if there is no Local with that name
+     */
+    @Override
+    public ILocal getLocal(String name) {
+        return name == null ? null : this.locals.get(name);
+    }
+
+    /**
+     * Returns the Market with the given name.
+     *
+     * @param name the name of the Market
+     * @return the Market, null if there is no Market with that name
+     */
+    @Override
+    public IMarket getMarket(String name) {
+        return name == null ? null : this.markets.get(name);
+    }
+
+    /**
+     * Returns the Warehouse with the given name.
+     *
+     * @param name the name of the Warehouse
+     * @return the Warehouse, null if there is no Warehouse with that name
+     */
+    @Override
+    public IWarehouse getWarehouse(String name) {
+        return name == null ? null : this.warehouses.get(name);
+    }
+
+    /**
+     * Returns the Markets, by the order they were added. The iterator fails if
+     * a Local is added or removed while it is used.
+     *
+     * @return the Markets iterator
+     */
+    @Override
+    public Iterator<IMarket> markets() {
+        return this.markets.values();
+    }
+
+    /**
+     * Returns the Warehouses, by the order they were added. The iterator fails
+     * if a Local is added or removed while it is used.
+     *
+     * @return the Warehouses iterator
+     */
+    @Override
+    public Iterator<IWarehouse> warehouses() {
+        return this.warehouses.values();
+    }
+}
@@ -0,0 +1,593 @@
+package CompanyManagement;
+
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import Locals.Local;
+import Locals.Market;
+import Locals.Warehouse;
+import SellersManagement.ISeller;
+import SellersManagement.Seller;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal of the changes made to a company through
+ * ManageCompany, so they survive a crash without rewriting the whole company.
+ *
+ * <p>
+ * The entries are written in batches: a batch is written to the file when it
+ * has the given number of entries, when flush() is called and when the
+ * journal is closed, and the file is forced to the disk after each write if
+ * the journal is synchronous. A batch size of 1 with a synchronous journal
+ * makes every change durable before the method that made it returns.</p>
+ *
+ * <p>
+ * The journal is compacted by saving the company to a snapshot and emptying
+ * the file, every given number of entries or when compact() is called. Each
+ * entry has a sequence number and the snapshot keeps the last one it
+ * includes, so the entries are never applied twice if the journal is not
+ * emptied after the snapshot is saved. On startup, recover() loads the
+ * snapshot and applies the entries after it. An entry that was not fully
+ * written, in the end of the file, is dropped.</p>
+ *
+ * <p>
+ * Only the changes made through ManageCompany are journaled, not the ones
+ * made to the locals and sellers it returns or to a committed
+ * RouteSimulation.</p>
+ *
+ * <p>
+ * Entries can be added from several threads, they get their sequence number
+ * when they are added. The snapshot must not be saved while the company is
+ * being changed, so a caller that changes it from several threads turns off
+ * the automatic compaction and compacts when isCompactionDue() while no
+ * thread changes the company, as ConcurrentManageCompany does.</p>
+ *
+ * @author Simão
+ */
+public class CompanyJournal implements Closeable {
+
+    static final byte ADD_SELLER = 1;
+    static final byte REMOVE_SELLER = 2;
+    static final byte SET_SELLER_NAME = 3;
+    static final byte SET_SELLER_MAX_WEIGHT = 4;
+    static final byte LOAD_SELLER = 5;
+    static final byte UNLOAD_SELLER = 6;
+    static final byte ADD_MARKET_TO_SELLER = 7;
+    static final byte REMOVE_MARKET_FROM_SELLER = 8;
+    static final byte ADD_MARKET = 9;
+    static final byte ADD_WAREHOUSE = 10;
+    static final byte REMOVE_LOCAL = 11;
+    static final byte ADD_MARKET_CLIENT = 12;
+    static final byte SERVE_MARKET_CLIENT = 13;
+    static final byte SET_WAREHOUSE_CAPACITY = 14;
+    static final byte LOAD_WAREHOUSE = 15;
+    static final byte UNLOAD_WAREHOUSE = 16;
+    static final byte ADD_ROAD = 17;
+    static final byte REMOVE_ROAD = 18;
+    static final byte SET_ROAD_DISTANCE = 19;
+    static final byte ROUTE = 20;
+    static final byte STOPS = 21;
+    static final byte SET_COMPANY = 22;
+
+    /**
+     * The first int of a journal.
+     */
+    public static final int MAGIC = 0x434D4A4C;
+
+    /**
+     * The version of the format written.
+     */
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final Path snapshot;
+    private final int batchSize;
+    private final boolean synchronous;
+    private final int compactionInterval;
+    private final FileChannel channel;
+    private final CRC32 crc;
+    private ByteBuffer batch;
+    private int batchEntries;
+    private long sequence;
+    private int entriesSinceCompaction;
+    private boolean autoCompaction;
+    private ManageCompany company;
+
+    /**
+     * CompanyJournal class constructor. The file is created if it doesn't
+     * exist.
+     *
+     * @param path the path of the journal file
+     * @param snapshot the path of the snapshot the journal is compacted to
+     * @param batchSize the number of entries written to the file at once
+     * @param synchronous true to force the file to the disk after each write
+     * @param compactionInterval the number of entries after which the journal
+     * is compacted, 0 to compact it only when compact() is called
+     * @throws IllegalArgumentException if a path is null, the batch size is
+     * less or equal than zero or the compaction interval is negative
+     * @throws IOException if the file could not be opened or it is not a
+     * journal of a supported version
+     */
+    public CompanyJournal(Path path, Path snapshot, int batchSize,
+            boolean synchronous, int compactionInterval) throws IOException {
+
+        if (path == null || snapshot == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size is invalid.");
+        }
+        if (compactionInterval < 0) {
+            throw new IllegalArgumentException("Interval is invalid.");
+        }
+        this.path = path;
+        this.snapshot = snapshot;
+        this.batchSize = batchSize;
+        this.synchronous = synchronous;
+        this.compactionInterval = compactionInterval;
+        this.crc = new CRC32();
+        this.batch = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.batchEntries = 0;
+        this.sequence = 0;
+        this.entriesSinceCompaction = 0;
+        this.autoCompaction = true;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (this.channel.size() == 0) {
+                this.writeHeader();
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                this.readFully(header, 0);
+                if (header.remaining() < HEADER_SIZE
+                        || header.getInt() != MAGIC) {
+                    throw new IOException("Not a company journal.");
+                }
+                int version = header.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported version: " + version);
+                }
+            }
+        } catch (IOException ex) {
+            this.channel.close();
+            throw ex;
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        this.channel.truncate(0);
+        while (header.hasRemaining()) {
+            this.channel.write(header, HEADER_SIZE - header.remaining());
+        }
+        this.channel.position(HEADER_SIZE);
+        this.channel.force(true);
+    }
+
+    private void readFully(ByteBuffer buffer, long position)
+            throws IOException {
+
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Getter for the sequence number of the last entry.
+     *
+     * @return the sequence number, 0 if there are no entries
+     */
+    public synchronized long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Loads the company from the snapshot, or creates it if there is no
+     * snapshot, and applies the entries of the journal after the snapshot.
+     * The changes made to the company from then on are journaled.
+     *
+     * @param companyName the name of the company, used if there is no snapshot
+     * @throws IllegalStateException if the journal already has a company
+     * @throws IllegalArgumentException if the snapshot or an entry are invalid
+     * @throws IOException if the snapshot or the journal could not be read
+     * @return the company
+     */
+    public synchronized ManageCompany recover(String companyName)
+            throws IOException {
+
+        if (this.company != null) {
+            throw new IllegalStateException("The journal has a company.");
+        }
+        ManageCompany recovered;
+        long applied;
+        if (Files.exists(this.snapshot)) {
+            recovered = CompanySnapshot.load(this.snapshot, false);
+            applied = CompanySnapshot.readSequence(this.snapshot);
+        } else {
+            recovered = new ManageCompany(companyName);
+            applied = 0;
+        }
+        this.sequence = applied;
+
+        long position = HEADER_SIZE;
+        long size = this.channel.size();
+        ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+        while (position + ENTRY_HEADER_SIZE <= size) {
+            header.clear();
+            this.readFully(header, position);
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < Long.BYTES + 1
+                    || position + ENTRY_HEADER_SIZE + length > size) {
+                break;
+            }
+            ByteBuffer data = ByteBuffer.allocate(length);
+            this.readFully(data, position + ENTRY_HEADER_SIZE);
+            this.crc.reset();
+            this.crc.update(data.duplicate());
+            if ((int) this.crc.getValue() != checksum) {
+                break;
+            }
+            long entrySequence = data.getLong();
+            if (entrySequence > applied) {
+                this.apply(recovered, data);
+                applied = entrySequence;
+                this.entriesSinceCompaction++;
+            }
+            this.sequence = Math.max(this.sequence, entrySequence);
+            position += ENTRY_HEADER_SIZE + length;
+        }
+        this.channel.truncate(position);
+        this.channel.position(position);
+        this.company = recovered;
+        recovered.setJournal(this);
+        return recovered;
+    }
+
+    private static String getString(ByteBuffer data) {
+        byte[] bytes = new byte[data.getInt()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ISeller routeSeller(ManageCompany company,
+            ByteBuffer data) {
+
+        String id = getString(data);
+        String name = getString(data);
+        int maxWeight = data.getInt();
+        int currentWeight = data.getInt();
+        boolean registered = data.get() != 0;
+        if (registered) {
+            return company.getSeller(id);
+        }
+        Seller seller = new Seller(id, name, maxWeight);
+        if (currentWeight > 0) {
+            seller.loadGoods(currentWeight);
+        }
+        for (int i = data.getInt(); i > 0; i--) {
+            seller.addMarketToVisit(getString(data));
+        }
+        return seller;
+    }
+
+    private static ILocal routeLocal(ManageCompany company, String name) {
+        ILocal local = company.getNetwork().getLocal(name);
+        return local == null ? new Local(name) : local;
+    }
+
+    private void apply(ManageCompany company, ByteBuffer data) {
+        byte operation = data.get();
+        switch (operation) {
+            case ADD_SELLER -> {
+                Seller seller = new Seller(getString(data), getString(data),
+                        data.getInt());
+                int currentWeight = data.getInt();
+                if (currentWeight > 0) {
+                    seller.loadGoods(currentWeight);
+                }
+                for (int i = data.getInt(); i > 0; i--) {
+                    seller.addMarketToVisit(getString(data));
+                }
+                company.addSeller(seller);
+            }
+            case REMOVE_SELLER ->
+                company.removeSeller(getString(data));
+            case SET_SELLER_NAME ->
+                company.setSellerName(getString(data), getString(data));
+            case SET_SELLER_MAX_WEIGHT ->
+                company.setSellerMaxWeight(data.getInt(), getString(data));
+            case LOAD_SELLER ->
+                company.loadGoodsToSeller(data.getInt(), getString(data));
+            case UNLOAD_SELLER ->
+                company.unloadGoodsFromSeller(data.getInt(), getString(data));
+            case ADD_MARKET_TO_SELLER ->
+                company.addMarketToSeller(getString(data), getString(data));
+            case REMOVE_MARKET_FROM_SELLER ->
+                company.removeMarketFromSeller(getString(data),
+                        getString(data));
+            case ADD_MARKET -> {
+                Market market = new Market(getString(data));
+                for (int i = data.getInt(); i > 0; i--) {
+                    market.addClient(data.getInt());
+                }
+                company.addLocal(market);
+            }
+            case ADD_WAREHOUSE -> {
+                Warehouse warehouse = new Warehouse(getString(data),
+                        data.getInt());
+                int stock = data.getInt();
+                if (stock > 0) {
+                    warehouse.loadStock(stock);
+                }
+                company.addLocal(warehouse);
+            }
+            case REMOVE_LOCAL ->
+                company.removeLocal(getString(data));
+            case ADD_MARKET_CLIENT ->
+                company.addMarketClient(getString(data), data.getInt());
+            case SERVE_MARKET_CLIENT ->
+                company.serveMarketClient(getString(data), data.getInt());
+            case SET_WAREHOUSE_CAPACITY ->
+                company.setWarehouseCapacity(getString(data), data.getInt());
+            case LOAD_WAREHOUSE ->
+                company.loadWarehouseStock(getString(data), data.getInt());
+            case UNLOAD_WAREHOUSE ->
+                company.unloadWarehouseStock(getString(data), data.getInt());
+            case ADD_ROAD ->
+                company.addRoad(getString(data), getString(data),
+                        data.getDouble());
+            case REMOVE_ROAD ->
+                company.removeRoad(getString(data), getString(data));
+            case SET_ROAD_DISTANCE ->
+                company.setRoadDistance(getString(data), getString(data),
+                        data.getDouble());
+            case ROUTE -> {
+                ILocal start = routeLocal(company, getString(data));
+                company.generateRouteForSeller(start,
+                        routeSeller(company, data));
+            }
+            case STOPS -> {
+                getString(data);
+                ISeller seller = routeSeller(company, data);
+                UnorderedListADT<ILocal> stops = new ArrayUnorderedList<>();
+                for (int i = data.getInt(); i > 0; i--) {
+                    stops.addToRear(routeLocal(company, getString(data)));
+                }
+                company.executeStops(seller, stops.iterator());
+            }
+            case SET_COMPANY ->
+                company.setCompany(new Local(getString(data)));
+            default ->
+                throw new IllegalArgumentException("Invalid operation: "
+                        + operation);
+        }
+    }
+
+    /**
+     * Starts an entry, that is added to the batch by Entry.end().
+     *
+     * @param operation the operation of the entry
+     * @throws IllegalStateException if the journal has no company
+     * @return the entry
+     */
+    Entry begin(byte operation) {
+        if (this.company == null) {
+            throw new IllegalStateException("The journal has no company.");
+        }
+        return new Entry(operation);
+    }
+
+    /**
+     * Turns the compaction after the given number of entries on or off. When
+     * it is off, the caller compacts when isCompactionDue().
+     *
+     * @param autoCompaction true to compact when an entry makes it due
+     */
+    synchronized void setAutoCompaction(boolean autoCompaction) {
+        this.autoCompaction = autoCompaction;
+    }
+
+    /**
+     * Returns true if the given number of entries were added since the last
+     * compaction.
+     *
+     * @return true if the journal should be compacted
+     */
+    synchronized boolean isCompactionDue() {
+        return this.compactionInterval > 0
+                && this.entriesSinceCompaction >= this.compactionInterval;
+    }
+
+    private synchronized void add(ByteBuffer data) throws IOException {
+        this.sequence++;
+        data.putLong(0, this.sequence);
+        int length = data.remaining();
+        if (this.batch.remaining() < ENTRY_HEADER_SIZE + length) {
+            this.writeBatch();
+            if (this.batch.capacity() < ENTRY_HEADER_SIZE + length) {
+                this.batch = ByteBuffer.allocateDirect(
+                        ENTRY_HEADER_SIZE + length);
+            }
+        }
+        this.crc.reset();
+        this.crc.update(data.duplicate());
+        this.batch.putInt(length);
+        this.batch.putInt((int) this.crc.getValue());
+        this.batch.put(data);
+        this.batchEntries++;
+        this.entriesSinceCompaction++;
+        if (this.batchEntries >= this.batchSize) {
+            this.writeBatch();
+        }
+        if (this.autoCompaction && this.isCompactionDue()) {
+            this.compact();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        if (this.batchEntries == 0) {
+            return;
+        }
+        this.batch.flip();
+        while (this.batch.hasRemaining()) {
+            this.channel.write(this.batch);
+        }
+        this.batch.clear();
+        this.batchEntries = 0;
+        if (this.synchronous) {
+            this.channel.force(false);
+        }
+    }
+
+    /**
+     * Writes the entries of the batch to the file and forces it to the disk.
+     *
+     * @throws IOException if the entries could not be written
+     */
+    public synchronized void flush() throws IOException {
+        this.writeBatch();
+        this.channel.force(false);
+    }
+
+    /**
+     * Saves the company to the snapshot and empties the journal.
+     *
+     * @throws IllegalStateException if the journal has no company
+     * @throws IOException if the snapshot could not be saved or the journal
+     * emptied
+     */
+    public synchronized void compact() throws IOException {
+        if (this.company == null) {
+            throw new IllegalStateException("The journal has no company.");
+        }
+        this.flush();
+        CompanySnapshot.save(this.company, this.snapshot, this.sequence);
+        this.writeHeader();
+        this.entriesSinceCompaction = 0;
+    }
+
+    /**
+     * Writes the entries of the batch to the file and closes it.
+     *
+     * @throws IOException if the entries could not be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * An entry being written. The values are written in the order of the
+     * arguments of the ManageCompany method the entry replays.
+     */
+    class Entry {
+
+        private ByteBuffer data;
+
+        private Entry(byte operation) {
+            this.data = ByteBuffer.allocate(64);
+            this.data.putLong(0);
+            this.data.put(operation);
+        }
+
+        private void ensure(int bytes) {
+            if (this.data.remaining() < bytes) {
+                ByteBuffer temp = ByteBuffer.allocate(Math.max(
+                        this.data.capacity() * 2,
+                        this.data.position() + bytes));
+                this.data.flip();
+                temp.put(this.data);
+                this.data = temp;
+            }
+        }
+
+        /**
+         * Adds an int to this entry.
+         *
+         * @param value the value
+         * @return this entry
+         */
+        Entry putInt(int value) {
+            this.ensure(Integer.BYTES);
+            this.data.putInt(value);
+            return this;
+        }
+
+        /**
+         * Adds a double to this entry.
+         *
+         * @param value the value
+         * @return this entry
+         */
+        Entry putDouble(double value) {
+            this.ensure(Double.BYTES);
+            this.data.putDouble(value);
+            return this;
+        }
+
+        /**
+         * Adds a boolean to this entry.
+         *
+         * @param value the value
+         * @return this entry
+         */
+        Entry putBoolean(boolean value) {
+            this.ensure(1);
+            this.data.put((byte) (value ? 1 : 0));
+            return this;
+        }
+
+        /**
+         * Adds a string to this entry.
+         *
+         * @param value the value
+         * @return this entry
+         */
+        Entry putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.ensure(Integer.BYTES + bytes.length);
+            this.data.putInt(bytes.length);
+            this.data.put(bytes);
+            return this;
+        }
+
+        /**
+         * Adds this entry to the journal.
+         *
+         * @throws IllegalStateException if the entry could not be written
+         */
+        void end() {
+            this.data.flip();
+            try {
+                CompanyJournal.this.add(this.data);
+            } catch (IOException ex) {
+                throw new IllegalStateException("The journal failed.", ex);
+            }
+        }
+    }
+}
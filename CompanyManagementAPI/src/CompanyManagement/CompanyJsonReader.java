@@ -0,0 +1,328 @@
+package CompanyManagement;
+
+import DataStructures.AdjacencyListStorage;
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.GraphStorageADT;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import Locals.Market;
+import Locals.Warehouse;
+import SellersManagement.ISeller;
+import SellersManagement.Seller;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Reads a company in the JSON format of company.json. The file is parsed as a
+ * stream, keeping only the markets, warehouses, sellers and roads it
+ * describes, and the company is built at the end: the network is sized for
+ * all the locals at once and the roads are added together by the names of
+ * their locals, without checking the roads that already exist.
+ *
+ * <p>
+ * The roads are kept in an adjacency matrix, unless there are much fewer
+ * roads than pairs of locals, then they are kept in adjacency lists.</p>
+ *
+ * @author Simão
+ */
+public class CompanyJsonReader {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Reader reader;
+    private String companyName;
+    private final UnorderedListADT<IMarket> markets;
+    private final UnorderedListADT<IWarehouse> warehouses;
+    private final UnorderedListADT<ISeller> sellers;
+    private String[] roadStarts;
+    private String[] roadDestinations;
+    private double[] roadDistances;
+    private int roads;
+
+    /**
+     * CompanyJsonReader class constructor.
+     *
+     * @param reader the reader, it should be buffered
+     * @throws IllegalArgumentException if the reader is null
+     */
+    public CompanyJsonReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader is null.");
+        }
+        this.reader = reader;
+        this.markets = new ArrayUnorderedList<>();
+        this.warehouses = new ArrayUnorderedList<>();
+        this.sellers = new ArrayUnorderedList<>();
+        this.roadStarts = new String[INITIAL_CAPACITY];
+        this.roadDestinations = new String[INITIAL_CAPACITY];
+        this.roadDistances = new double[INITIAL_CAPACITY];
+        this.roads = 0;
+    }
+
+    private void addRoad(String start, String destination, double distance) {
+        if (this.roads == this.roadStarts.length) {
+            int newLenght = this.roadStarts.length * 2;
+            String[] tempStarts = new String[newLenght];
+            String[] tempDestinations = new String[newLenght];
+            double[] tempDistances = new double[newLenght];
+            System.arraycopy(this.roadStarts, 0, tempStarts, 0, this.roads);
+            System.arraycopy(this.roadDestinations, 0, tempDestinations, 0,
+                    this.roads);
+            System.arraycopy(this.roadDistances, 0, tempDistances, 0,
+                    this.roads);
+            this.roadStarts = tempStarts;
+            this.roadDestinations = tempDestinations;
+            this.roadDistances = tempDistances;
+        }
+        this.roadStarts[this.roads] = start;
+        this.roadDestinations[this.roads] = destination;
+        this.roadDistances[this.roads] = distance;
+        this.roads++;
+    }
+
+    /**
+     * Reads the company.
+     *
+     * @throws IOException if the company could not be read
+     * @throws ParseException if the content is not valid JSON
+     * @throws IllegalArgumentException if the content is not a valid company
+     * @return the company
+     */
+    public ManageCompany readCompany() throws IOException, ParseException {
+        new JSONParser().parse(this.reader, new CompanyHandler());
+        if (this.companyName == null) {
+            throw new IllegalArgumentException("The company has no name.");
+        }
+
+        int locals = 1 + this.markets.size() + this.warehouses.size();
+        GraphStorageADT storage = (long) this.roads * 16 < (long) locals
+                * locals ? new AdjacencyListStorage()
+                        : new AdjacencyMatrixStorage();
+        ManageCompany company = new ManageCompany(this.companyName, storage);
+        company.ensureCapacity(locals);
+
+        Iterator<IMarket> marketsIterator = this.markets.iterator();
+        while (marketsIterator.hasNext()) {
+            IMarket market = marketsIterator.next();
+            if (!company.addLocal(market)) {
+                throw new IllegalArgumentException("Duplicated local: "
+                        + market.getName());
+            }
+        }
+        Iterator<IWarehouse> warehousesIterator = this.warehouses.iterator();
+        while (warehousesIterator.hasNext()) {
+            IWarehouse warehouse = warehousesIterator.next();
+            if (!company.addLocal(warehouse)) {
+                throw new IllegalArgumentException("Duplicated local: "
+                        + warehouse.getName());
+            }
+        }
+        company.importRoads(this.roadStarts, this.roadDestinations,
+                this.roadDistances, this.roads);
+        Iterator<ISeller> sellersIterator = this.sellers.iterator();
+        while (sellersIterator.hasNext()) {
+            ISeller seller = sellersIterator.next();
+            Iterator<String> sellerMarkets = seller.getMarketsToVisit();
+            while (sellerMarkets.hasNext()) {
+                String market = sellerMarkets.next();
+                if (!company.marketExists(market)) {
+                    throw new IllegalArgumentException("Unknown market: "
+                            + market);
+                }
+            }
+            if (!company.addSeller(seller)) {
+                throw new IllegalArgumentException("Duplicated seller: "
+                        + seller.getId());
+            }
+        }
+        return company;
+    }
+
+    /**
+     * Keeps the element of a section that is being parsed. The root object is
+     * at depth 1, the sections at depth 2, their elements at depth 3 and the
+     * arrays of the elements at depth 4.
+     */
+    private class CompanyHandler implements ContentHandler {
+
+        private int depth;
+        private String section;
+        private String field;
+        private String name;
+        private String id;
+        private String start;
+        private String destination;
+        private Number capacity;
+        private Number stock;
+        private Number distance;
+        private Number maxWeight;
+        private int[] values;
+        private int numValues;
+        private UnorderedListADT<String> strings;
+
+        private int intValue(Number value, String key) {
+            if (value == null) {
+                throw new IllegalArgumentException("Missing " + key + ".");
+            }
+            return value.intValue();
+        }
+
+        private void startElement() {
+            this.name = null;
+            this.id = null;
+            this.start = null;
+            this.destination = null;
+            this.capacity = null;
+            this.stock = null;
+            this.distance = null;
+            this.maxWeight = null;
+            this.numValues = 0;
+            this.strings = new ArrayUnorderedList<>();
+        }
+
+        private void endElement() {
+            switch (this.section) {
+                case "markets" -> {
+                    Market market = new Market(this.name);
+                    for (int i = 0; i < this.numValues; i++) {
+                        market.addClient(this.values[i]);
+                    }
+                    CompanyJsonReader.this.markets.addToRear(market);
+                }
+                case "warehouses" -> {
+                    Warehouse warehouse = new Warehouse(this.name,
+                            this.intValue(this.capacity, "capacity"));
+                    int currentStock = this.intValue(this.stock, "stock");
+                    if (currentStock > 0) {
+                        warehouse.loadStock(currentStock);
+                    }
+                    CompanyJsonReader.this.warehouses.addToRear(warehouse);
+                }
+                case "roads" -> {
+                    if (this.start == null || this.destination == null
+                            || this.distance == null) {
+                        throw new IllegalArgumentException("Invalid road.");
+                    }
+                    CompanyJsonReader.this.addRoad(this.start,
+                            this.destination, this.distance.doubleValue());
+                }
+                case "sellers" -> {
+                    Seller seller = new Seller(this.id, this.name,
+                            this.intValue(this.maxWeight, "maxWeight"));
+                    Iterator<String> it = this.strings.iterator();
+                    while (it.hasNext()) {
+                        seller.addMarketToVisit(it.next());
+                    }
+                    CompanyJsonReader.this.sellers.addToRear(seller);
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void addValue(Object value) {
+            if (value instanceof String string) {
+                this.strings.addToRear(string);
+                return;
+            }
+            if (!(value instanceof Number number)) {
+                throw new IllegalArgumentException("Invalid value: " + value);
+            }
+            if (this.values == null) {
+                this.values = new int[INITIAL_CAPACITY];
+            } else if (this.numValues == this.values.length) {
+                int[] temp = new int[this.values.length * 2];
+                System.arraycopy(this.values, 0, temp, 0, this.numValues);
+                this.values = temp;
+            }
+            this.values[this.numValues++] = number.intValue();
+        }
+
+        private void setField(Object value) {
+            switch (this.field) {
+                case "name" -> this.name = (String) value;
+                case "id" -> this.id = (String) value;
+                case "from" -> this.start = (String) value;
+                case "to" -> this.destination = (String) value;
+                case "capacity" -> this.capacity = (Number) value;
+                case "stock" -> this.stock = (Number) value;
+                case "distance" -> this.distance = (Number) value;
+                case "maxWeight" -> this.maxWeight = (Number) value;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void startJSON() {
+            this.depth = 0;
+        }
+
+        @Override
+        public void endJSON() {
+        }
+
+        @Override
+        public boolean startObject() {
+            this.depth++;
+            if (this.depth == 3) {
+                this.startElement();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            if (this.depth == 3) {
+                this.endElement();
+            }
+            this.depth--;
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            if (this.depth == 1) {
+                this.section = key;
+            } else if (this.depth == 3) {
+                this.field = key;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            this.depth++;
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            this.depth--;
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (this.depth == 1 && "companyName".equals(this.section)) {
+                CompanyJsonReader.this.companyName = (String) value;
+            } else if (this.depth == 3) {
+                this.setField(value);
+            } else if (this.depth == 4) {
+                this.addValue(value);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package CompanyManagement;
+
+import DataStructuresInterfaces.EdgeCursorADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import SellersManagement.ISeller;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import org.json.simple.JSONValue;
+
+/**
+ * Writes a company in the JSON format of company.json while the markets,
+ * warehouses, roads and sellers are iterated, without building the JSON
+ * objects first. The keys are written in the order json-simple writes them.
+ *
+ * @author Simão
+ */
+public class CompanyJsonWriter implements Closeable {
+
+    private final Writer writer;
+
+    /**
+     * CompanyJsonWriter class constructor.
+     *
+     * @param writer the writer, it should be buffered
+     * @throws IllegalArgumentException if the writer is null
+     */
+    public CompanyJsonWriter(Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer is null.");
+        }
+        this.writer = writer;
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            this.writer.write("null");
+            return;
+        }
+        this.writer.write('"');
+        this.writer.write(JSONValue.escape(value));
+        this.writer.write('"');
+    }
+
+    private void writeKey(String key) throws IOException {
+        this.writeString(key);
+        this.writer.write(':');
+    }
+
+    private void writeMarket(IMarket market) throws IOException {
+        this.writer.write('{');
+        this.writeKey("clients");
+        this.writer.write('[');
+        Iterator<Integer> clients = market.getClients();
+        boolean first = true;
+        while (clients.hasNext()) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            first = false;
+            if (clients instanceof PrimitiveIterator.OfInt primitive) {
+                this.writer.write(Integer.toString(primitive.nextInt()));
+            } else {
+                this.writer.write(String.valueOf(clients.next()));
+            }
+        }
+        this.writer.write("],");
+        this.writeKey("name");
+        this.writeString(market.getName());
+        this.writer.write('}');
+    }
+
+    private void writeWarehouse(IWarehouse warehouse) throws IOException {
+        this.writer.write('{');
+        this.writeKey("name");
+        this.writeString(warehouse.getName());
+        this.writer.write(',');
+        this.writeKey("stock");
+        this.writer.write(Integer.toString(warehouse.getStock()));
+        this.writer.write(',');
+        this.writeKey("capacity");
+        this.writer.write(Integer.toString(warehouse.getCapacity()));
+        this.writer.write('}');
+    }
+
+    private void writeRoad(EdgeCursorADT<ILocal> road) throws IOException {
+        this.writer.write('{');
+        this.writeKey("distance");
+        this.writer.write(Double.toString(road.getWeight()));
+        this.writer.write(',');
+        this.writeKey("from");
+        this.writeString(road.getStart().getName());
+        this.writer.write(',');
+        this.writeKey("to");
+        this.writeString(road.getDestination().getName());
+        this.writer.write('}');
+    }
+
+    private void writeSeller(ISeller seller) throws IOException {
+        this.writer.write('{');
+        this.writeKey("markets");
+        this.writer.write('[');
+        Iterator<String> markets = seller.getMarketsToVisit();
+        boolean first = true;
+        while (markets.hasNext()) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            first = false;
+            this.writeString(markets.next());
+        }
+        this.writer.write("],");
+        this.writeKey("name");
+        this.writeString(seller.getName());
+        this.writer.write(',');
+        this.writeKey("id");
+        this.writeString(seller.getId());
+        this.writer.write(',');
+        this.writeKey("maxWeight");
+        this.writer.write(Integer.toString(seller.getMaxWeight()));
+        this.writer.write('}');
+    }
+
+    /**
+     * Writes a company.
+     *
+     * @param companyName the name of the company
+     * @param markets the markets
+     * @param warehouses the warehouses
+     * @param roads the roads
+     * @param sellers the sellers
+     * @throws IllegalArgumentException if an iterator or the cursor is null
+     * @throws IOException if the company could not be written
+     */
+    public void writeCompany(String companyName, Iterator<IMarket> markets,
+            Iterator<IWarehouse> warehouses, EdgeCursorADT<ILocal> roads,
+            Iterator<ISeller> sellers) throws IOException {
+
+        if (markets == null || warehouses == null || roads == null
+                || sellers == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        this.writer.write('{');
+        this.writeKey("markets");
+        this.writer.write('[');
+        for (boolean first = true; markets.hasNext(); first = false) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            this.writeMarket(markets.next());
+        }
+        this.writer.write("],");
+        this.writeKey("companyName");
+        this.writeString(companyName);
+        this.writer.write(',');
+        this.writeKey("warehouses");
+        this.writer.write('[');
+        for (boolean first = true; warehouses.hasNext(); first = false) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            this.writeWarehouse(warehouses.next());
+        }
+        this.writer.write("],");
+        this.writeKey("roads");
+        this.writer.write('[');
+        for (boolean first = true; roads.next(); first = false) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            this.writeRoad(roads);
+        }
+        this.writer.write("],");
+        this.writeKey("sellers");
+        this.writer.write('[');
+        for (boolean first = true; sellers.hasNext(); first = false) {
+            if (!first) {
+                this.writer.write(',');
+            }
+            this.writeSeller(sellers.next());
+        }
+        this.writer.write("]}");
+    }
+
+    /**
+     * Flushes and closes the writer.
+     *
+     * @throws IOException if the writer could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+}
@@ -0,0 +1,525 @@
+package CompanyManagement;
+
+import AdaptedDataStructures.ILocalsNetwork;
+import DataStructures.AdjacencyListStorage;
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructures.HashMap;
+import DataStructuresInterfaces.EdgeCursorADT;
+import DataStructuresInterfaces.GraphStorageADT;
+import DataStructuresInterfaces.MapADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import Locals.Market;
+import Locals.Warehouse;
+import SellersManagement.ISeller;
+import SellersManagement.Seller;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * Saves and loads a company in a binary format, through a FileChannel.
+ *
+ * <p>
+ * The format, in big-endian:</p>
+ * <pre>
+ * int magic, int version, long sequence
+ * int strings, then for each one: int length, UTF-8 bytes
+ * int company, the string of the company name
+ * int markets, then for each one: int name, int clients, int[clients] needs
+ * int warehouses, then for each one: int name, int capacity, int stock
+ * int roads, then for each one: int start, int destination, double distance
+ * int sellers, then for each one: int id, int name, int maxWeight,
+ *     int currentWeight, int markets, int[markets] names
+ * </pre>
+ * The strings are the names of the locals, by their order in the network,
+ * followed by the other strings of the sellers. The roads refer to the locals
+ * by their order in the network, which is the order of their names, and the
+ * network is loaded in that order, the company included, so the ties between
+ * paths are broken as before. The
+ * sequence is the last journal entry the snapshot includes, see
+ * {@link CompanyJournal}. Version 1 had no sequence.
+ *
+ * @author Simão
+ */
+public class CompanySnapshot {
+
+    /**
+     * The first int of a snapshot.
+     */
+    public static final int MAGIC = 0x434D5053;
+
+    /**
+     * The version of the format written.
+     */
+    public static final int VERSION = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ROADS_PER_BATCH = 64 * 1024;
+
+    private CompanySnapshot() {
+    }
+
+    /**
+     * Saves a company, that has no journal entries. The snapshot is written to
+     * a temporary file first, which then replaces the file, so a failed save
+     * leaves the previous snapshot.
+     *
+     * @param company the company
+     * @param path the path of the file
+     * @throws IllegalArgumentException if the company or path are null
+     * @throws IOException if the snapshot could not be written
+     */
+    public static void save(ManageCompany company, Path path)
+            throws IOException {
+
+        save(company, path, 0);
+    }
+
+    /**
+     * Saves a company. The snapshot is written to a temporary file first,
+     * which then replaces the file, so a failed save leaves the previous
+     * snapshot.
+     *
+     * @param company the company
+     * @param path the path of the file
+     * @param sequence the last journal entry the company includes
+     * @throws IllegalArgumentException if the company or path are null
+     * @throws IOException if the snapshot could not be written
+     */
+    public static void save(ManageCompany company, Path path, long sequence)
+            throws IOException {
+
+        if (company == null || path == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        ILocalsNetwork network = company.getNetwork();
+        MapADT<String, Integer> strings = new HashMap<>(network.size() * 2);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            Output out = new Output(channel);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putLong(sequence);
+
+            int numStrings = network.size();
+            Iterator<ISeller> sellers = company.getSellers();
+            Iterator<ILocal> locals = network.vertices();
+            for (int i = 0; locals.hasNext(); i++) {
+                strings.put(locals.next().getName(), i);
+            }
+            while (sellers.hasNext()) {
+                ISeller seller = sellers.next();
+                numStrings = addString(strings, seller.getId(), numStrings);
+                numStrings = addString(strings, seller.getName(), numStrings);
+                Iterator<String> markets = seller.getMarketsToVisit();
+                while (markets.hasNext()) {
+                    numStrings = addString(strings, markets.next(), numStrings);
+                }
+            }
+            out.putInt(numStrings);
+            String[] table = new String[numStrings];
+            Iterator<String> names = strings.keys();
+            while (names.hasNext()) {
+                String name = names.next();
+                table[strings.get(name)] = name;
+            }
+            for (String name : table) {
+                out.putString(name);
+            }
+            out.putInt(strings.get(company.getCompanyName()));
+
+            out.putInt(count(company.getMarkets()));
+            Iterator<IMarket> markets = company.getMarkets();
+            while (markets.hasNext()) {
+                IMarket market = markets.next();
+                out.putInt(strings.get(market.getName()));
+                out.putInt(market.getNumberOfClients());
+                Iterator<Integer> clients = market.getClients();
+                if (clients instanceof PrimitiveIterator.OfInt primitive) {
+                    while (primitive.hasNext()) {
+                        out.putInt(primitive.nextInt());
+                    }
+                } else {
+                    while (clients.hasNext()) {
+                        out.putInt(clients.next());
+                    }
+                }
+            }
+
+            out.putInt(count(company.getWarehouses()));
+            Iterator<IWarehouse> warehouses = company.getWarehouses();
+            while (warehouses.hasNext()) {
+                IWarehouse warehouse = warehouses.next();
+                out.putInt(strings.get(warehouse.getName()));
+                out.putInt(warehouse.getCapacity());
+                out.putInt(warehouse.getStock());
+            }
+
+            int numRoads = 0;
+            EdgeCursorADT<ILocal> roads = network.edgeCursor();
+            while (roads.next()) {
+                numRoads++;
+            }
+            out.putInt(numRoads);
+            roads = network.edgeCursor();
+            while (roads.next()) {
+                out.putInt(roads.getStartIndex());
+                out.putInt(roads.getDestinationIndex());
+                out.putDouble(roads.getWeight());
+            }
+
+            out.putInt(company.getNumberOfSellers());
+            sellers = company.getSellers();
+            while (sellers.hasNext()) {
+                ISeller seller = sellers.next();
+                out.putInt(strings.get(seller.getId()));
+                out.putInt(strings.get(seller.getName()));
+                out.putInt(seller.getMaxWeight());
+                out.putInt(seller.getCurrentWeight());
+                out.putInt(count(seller.getMarketsToVisit()));
+                Iterator<String> sellerMarkets = seller.getMarketsToVisit();
+                while (sellerMarkets.hasNext()) {
+                    out.putInt(strings.get(sellerMarkets.next()));
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int count(Iterator<?> it) {
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    private static int addString(MapADT<String, Integer> strings,
+            String string, int numStrings) {
+
+        if (strings.containsKey(string)) {
+            return numStrings;
+        }
+        strings.put(string, numStrings);
+        return numStrings + 1;
+    }
+
+    /**
+     * Loads a company.
+     *
+     * @param path the path of the file
+     * @param memoryMapped true to map the file in memory instead of reading it
+     * through a buffer
+     * @throws IllegalArgumentException if the path is null or if the snapshot
+     * is not a valid company
+     * @throws IOException if the snapshot could not be read or if it is not a
+     * snapshot of a supported version
+     * @return the company
+     */
+    public static ManageCompany load(Path path, boolean memoryMapped)
+            throws IOException {
+
+        if (path == null) {
+            throw new IllegalArgumentException("Path is null.");
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+
+            Input in = memoryMapped ? new Input(channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, channel.size()))
+                    : new Input(channel);
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a company snapshot.");
+            }
+            int version = in.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported version: " + version);
+            }
+            if (version > 1) {
+                in.getLong();
+            }
+            String[] strings = new String[in.getCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.getString();
+            }
+            int companyIndex = in.getIndex(strings.length);
+
+            ILocal[] locals = new ILocal[strings.length];
+            int numLocals = companyIndex + 1;
+            int numMarkets = in.getCount();
+            for (int i = 0; i < numMarkets; i++) {
+                int name = in.getIndex(strings.length);
+                Market market = new Market(strings[name]);
+                int clients = in.getCount();
+                for (int c = 0; c < clients; c++) {
+                    market.addClient(in.getInt());
+                }
+                locals[name] = market;
+                numLocals = Math.max(numLocals, name + 1);
+            }
+            int numWarehouses = in.getCount();
+            for (int i = 0; i < numWarehouses; i++) {
+                int name = in.getIndex(strings.length);
+                Warehouse warehouse = new Warehouse(strings[name],
+                        in.getInt());
+                int stock = in.getInt();
+                if (stock > 0) {
+                    warehouse.loadStock(stock);
+                }
+                locals[name] = warehouse;
+                numLocals = Math.max(numLocals, name + 1);
+            }
+
+            int numRoads = in.getCount();
+            GraphStorageADT storage = (long) numRoads * 16
+                    < (long) numLocals * numLocals
+                            ? new AdjacencyListStorage()
+                            : new AdjacencyMatrixStorage();
+            ManageCompany company = new ManageCompany(strings[companyIndex],
+                    storage);
+            ILocalsNetwork network = company.getNetwork();
+            company.ensureCapacity(numLocals);
+            locals[companyIndex] = company.getCompany();
+            if (companyIndex > 0) {
+                network.removeVertex(locals[companyIndex]);
+            }
+            for (int i = 0; i < numLocals; i++) {
+                if (locals[i] == null) {
+                    throw new IllegalArgumentException("Invalid local: "
+                            + strings[i]);
+                }
+                if (i == companyIndex) {
+                    if (i > 0) {
+                        network.addVertex(locals[i]);
+                    }
+                } else if (!company.addLocal(locals[i])) {
+                    throw new IllegalArgumentException("Duplicated local: "
+                            + strings[i]);
+                }
+            }
+
+            for (int read = 0; read < numRoads; read += ROADS_PER_BATCH) {
+                int batch = Math.min(ROADS_PER_BATCH, numRoads - read);
+                ILocal[] starts = new ILocal[batch];
+                ILocal[] destinations = new ILocal[batch];
+                double[] distances = new double[batch];
+                for (int i = 0; i < batch; i++) {
+                    starts[i] = locals[in.getIndex(numLocals)];
+                    destinations[i] = locals[in.getIndex(numLocals)];
+                    distances[i] = in.getDouble();
+                    if (distances[i] <= 0) {
+                        throw new IllegalArgumentException(
+                                "Invalid distance.");
+                    }
+                }
+                network.addEdges(starts, destinations, distances);
+            }
+
+            int numSellers = in.getCount();
+            for (int i = 0; i < numSellers; i++) {
+                Seller seller = new Seller(strings[in.getIndex(strings.length)],
+                        strings[in.getIndex(strings.length)], in.getInt());
+                int currentWeight = in.getInt();
+                if (currentWeight > 0) {
+                    seller.loadGoods(currentWeight);
+                }
+                int markets = in.getCount();
+                for (int m = 0; m < markets; m++) {
+                    seller.addMarketToVisit(
+                            strings[in.getIndex(strings.length)]);
+                }
+                if (!company.addSeller(seller)) {
+                    throw new IllegalArgumentException("Duplicated seller: "
+                            + seller.getId());
+                }
+            }
+            return company;
+        } catch (BufferUnderflowException ex) {
+            throw new EOFException("The snapshot is truncated.");
+        }
+    }
+
+    /**
+     * Returns the last journal entry a snapshot includes.
+     *
+     * @param path the path of the file
+     * @throws IllegalArgumentException if the path is null
+     * @throws IOException if the snapshot could not be read or if it is not a
+     * snapshot of a supported version
+     * @return the sequence of the entry, 0 if there is none
+     */
+    public static long readSequence(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path is null.");
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+
+            Input in = new Input(channel);
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a company snapshot.");
+            }
+            int version = in.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported version: " + version);
+            }
+            return version > 1 ? in.getLong() : 0;
+        }
+    }
+
+    /**
+     * Writes to a channel through a direct buffer.
+     */
+    private static class Output {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                this.flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+
+        private void putInt(int value) throws IOException {
+            this.ensure(Integer.BYTES);
+            this.buffer.putInt(value);
+        }
+
+        private void putLong(long value) throws IOException {
+            this.ensure(Long.BYTES);
+            this.buffer.putLong(value);
+        }
+
+        private void putDouble(double value) throws IOException {
+            this.ensure(Double.BYTES);
+            this.buffer.putDouble(value);
+        }
+
+        private void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.putInt(bytes.length);
+            if (bytes.length > this.buffer.capacity()) {
+                this.flush();
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    this.channel.write(wrapped);
+                }
+                return;
+            }
+            this.ensure(bytes.length);
+            this.buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Reads from a mapped buffer, or from a channel through a buffer that is
+     * filled as it is read.
+     */
+    private static class Input {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+
+        private Input(ByteBuffer mapped) {
+            this.channel = null;
+            this.buffer = mapped;
+        }
+
+        private Input(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (this.buffer.remaining() >= bytes || this.channel == null) {
+                return;
+            }
+            if (bytes > this.buffer.capacity()) {
+                ByteBuffer temp = ByteBuffer.allocateDirect(bytes);
+                temp.put(this.buffer);
+                this.buffer = temp;
+            } else {
+                this.buffer.compact();
+            }
+            while (this.buffer.position() < bytes) {
+                if (this.channel.read(this.buffer) < 0) {
+                    throw new EOFException("The snapshot is truncated.");
+                }
+            }
+            this.buffer.flip();
+        }
+
+        private int getInt() throws IOException {
+            this.ensure(Integer.BYTES);
+            return this.buffer.getInt();
+        }
+
+        private long getLong() throws IOException {
+            this.ensure(Long.BYTES);
+            return this.buffer.getLong();
+        }
+
+        private double getDouble() throws IOException {
+            this.ensure(Double.BYTES);
+            return this.buffer.getDouble();
+        }
+
+        private int getCount() throws IOException {
+            int count = this.getInt();
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid count: " + count);
+            }
+            return count;
+        }
+
+        private int getIndex(int size) throws IOException {
+            int index = this.getInt();
+            if (index < 0 || index >= size) {
+                throw new IllegalArgumentException("Invalid index: " + index);
+            }
+            return index;
+        }
+
+        private String getString() throws IOException {
+            int length = this.getCount();
+            this.ensure(length);
+            byte[] bytes = new byte[length];
+            this.buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,892 @@
+package CompanyManagement;
+
+import AdaptedDataStructures.ILocalsNetwork;
+import DataStructures.ArrayUnorderedList;
+import DataStructures.ShortestPathTree;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import LocalsManagement.IManageMarkets;
+import LocalsManagement.IManageWarehouses;
+import RoutesManagement.IManageRoutes;
+import RoutesManagement.RoutePlan;
+import RoutesManagement.RouteSimulation;
+import RoutesManagement.RouteSummary;
+import SellersManagement.IManageSellers;
+import SellersManagement.ISeller;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A ManageCompany that can be used by several threads at once. The company
+ * must only be used through this facade after it is created.
+ *
+ * <p>
+ * A StampedLock guards what the locals, the roads and the sellers are:
+ * adding or removing them, changing the roads and the routes, that change
+ * many locals at once, take the write lock. Everything else takes the read
+ * lock, so it runs in parallel. The stock and the clients of a local, and the
+ * fields of a seller, are also guarded by one of a set of locks, picked by
+ * the name of the local or the id of the seller, so the changes to the same
+ * local or seller are done one at a time.</p>
+ *
+ * <p>
+ * The numbers of locals and sellers, the name of the company and the shortest
+ * path weights already found are read optimistically, without taking a lock
+ * unless the write lock was taken meanwhile. The shortest path trees are kept
+ * until the next change to the locals or the roads.</p>
+ *
+ * <p>
+ * The iterators returned are copies, but the locals and sellers in them are
+ * the ones of the company and should not be changed directly. If the company
+ * has a journal, it is compacted while holding the write lock.</p>
+ *
+ * @author Simão
+ */
+public class ConcurrentManageCompany implements IManageSellers, IManageMarkets,
+        IManageWarehouses, IManageRoutes {
+
+    private final ManageCompany company;
+    private final ILocalsNetwork network;
+    private final StampedLock lock;
+    private final ReentrantLock[] stripes;
+    private final ConcurrentHashMap<String, ShortestPathTree> trees;
+
+    /**
+     * ConcurrentManageCompany class constructor, with four locks for the
+     * locals and sellers per processor.
+     *
+     * @param company the company
+     * @throws IllegalArgumentException if the company is null
+     */
+    public ConcurrentManageCompany(ManageCompany company) {
+        this(company, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * ConcurrentManageCompany class constructor.
+     *
+     * @param company the company
+     * @param stripes the number of locks for the locals and sellers, rounded
+     * up to a power of two
+     * @throws IllegalArgumentException if the company is null or the number
+     * of locks is less or equal than zero
+     */
+    public ConcurrentManageCompany(ManageCompany company, int stripes) {
+        if (company == null) {
+            throw new IllegalArgumentException("The company is null.");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes are invalid.");
+        }
+        this.company = company;
+        this.network = company.getNetwork();
+        this.lock = new StampedLock();
+        int length = Integer.highestOneBit(stripes);
+        if (length < stripes) {
+            length *= 2;
+        }
+        this.stripes = new ReentrantLock[length];
+        for (int i = 0; i < length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.trees = new ConcurrentHashMap<>();
+        if (company.getJournal() != null) {
+            company.getJournal().setAutoCompaction(false);
+        }
+    }
+
+    private ReentrantLock stripe(String key) {
+        int hash = key == null ? 0 : key.hashCode();
+        hash ^= hash >>> 16;
+        return this.stripes[hash & (this.stripes.length - 1)];
+    }
+
+    private void compactLocked() {
+        CompanyJournal journal = this.company.getJournal();
+        if (journal != null && journal.isCompactionDue()) {
+            try {
+                journal.compact();
+            } catch (IOException ex) {
+                throw new IllegalStateException("The journal failed.", ex);
+            }
+        }
+    }
+
+    private void compactIfDue() {
+        CompanyJournal journal = this.company.getJournal();
+        if (journal == null || !journal.isCompactionDue()) {
+            return;
+        }
+        long stamp = this.lock.writeLock();
+        try {
+            this.compactLocked();
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    private <R> R optimisticRead(Supplier<R> action) {
+        long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = action.get();
+                if (this.lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ex) {
+                if (this.lock.validate(stamp)) {
+                    throw ex;
+                }
+            }
+        }
+        return this.read(action);
+    }
+
+    private <R> R read(Supplier<R> action) {
+        long stamp = this.lock.readLock();
+        try {
+            return action.get();
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R striped(String key, Supplier<R> action) {
+        R result;
+        long stamp = this.lock.readLock();
+        try {
+            ReentrantLock stripe = this.stripe(key);
+            stripe.lock();
+            try {
+                result = action.get();
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+        this.compactIfDue();
+        return result;
+    }
+
+    private <R> R write(boolean topology, Supplier<R> action) {
+        long stamp = this.lock.writeLock();
+        try {
+            if (topology) {
+                this.trees.clear();
+            }
+            R result = action.get();
+            this.compactLocked();
+            return result;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    private <E> Iterator<E> copy(Iterator<E> iterator) {
+        UnorderedListADT<E> list = new ArrayUnorderedList<>();
+        while (iterator.hasNext()) {
+            list.addToRear(iterator.next());
+        }
+        return list.iterator();
+    }
+
+    /**
+     * Adds a Seller.
+     *
+     * @param seller the seller to be added
+     * @throws IllegalArgumentException if the seller is null
+     * @return true if the seller is added otherwise false
+     */
+    @Override
+    public boolean addSeller(ISeller seller) {
+        return this.write(false, () -> this.company.addSeller(seller));
+    }
+
+    /**
+     * Removes a Seller.
+     *
+     * @param id the Id of the Seller to be removed
+     * @throws IllegalArgumentException if the id is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return true if the seller is removed otherwise false
+     */
+    @Override
+    public boolean removeSeller(String id) {
+        return this.write(false, () -> this.company.removeSeller(id));
+    }
+
+    /**
+     * Getter for the number of Sellers.
+     *
+     * @return the number of Sellers
+     */
+    @Override
+    public int getNumberOfSellers() {
+        return this.optimisticRead(() -> this.company.getNumberOfSellers());
+    }
+
+    /**
+     * Getter for the Sellers.
+     *
+     * @return a copy of the Sellers iterator
+     */
+    @Override
+    public Iterator<ISeller> getSellers() {
+        return this.read(() -> this.copy(this.company.getSellers()));
+    }
+
+    /**
+     * Getter for a Seller.
+     *
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @return the Seller, null if it doesn't exist
+     */
+    @Override
+    public ISeller getSeller(String id) {
+        return this.read(() -> this.company.getSeller(id));
+    }
+
+    /**
+     * Getter for a Seller's name.
+     *
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return the Seller name
+     */
+    @Override
+    public String getSellerName(String id) {
+        return this.striped(id, () -> this.company.getSellerName(id));
+    }
+
+    /**
+     * Setter for a Seller's name.
+     *
+     * @param name the new name
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id or the name are null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return true if the name was changed otherwise false
+     */
+    @Override
+    public boolean setSellerName(String name, String id) {
+        return this.striped(id, () -> this.company.setSellerName(name, id));
+    }
+
+    /**
+     * Getter for a Seller's max weight.
+     *
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return the Seller max weight, -1 if the Seller doesn't exist
+     */
+    @Override
+    public int getSellerMaxWeight(String id) {
+        return this.striped(id, () -> this.company.getSellerMaxWeight(id));
+    }
+
+    /**
+     * Setter for a Seller's max weight.
+     *
+     * @param maxWeight the new max weight
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalArgumentException if the max weight is invalid
+     * @throws IllegalStateException if there are no Sellers
+     * @return true if the max weight was changed otherwise false
+     */
+    @Override
+    public boolean setSellerMaxWeight(int maxWeight, String id) {
+        return this.striped(id,
+                () -> this.company.setSellerMaxWeight(maxWeight, id));
+    }
+
+    /**
+     * Getter for a Seller's current weight.
+     *
+     * @param id the Id of the Seller
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return the Seller current weight, -1 if the Seller doesn't exist
+     */
+    @Override
+    public int getSellerCurrentWeight(String id) {
+        return this.striped(id, () -> this.company.getSellerCurrentWeight(id));
+    }
+
+    /**
+     * Load Goods to a Seller.
+     *
+     * @param weight the weight to be loaded
+     * @param id the Seller Id
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalArgumentException if the weight is less or equal to zero
+     * @throws IllegalStateException if there are no Sellers
+     * @return the loaded weight, -1 if the Seller doesn't exist
+     */
+    @Override
+    public int loadGoodsToSeller(int weight, String id) {
+        return this.striped(id,
+                () -> this.company.loadGoodsToSeller(weight, id));
+    }
+
+    /**
+     * Unload Goods from Seller
+     *
+     * @param weight the weight to be unloaded
+     * @param id the Seller Id
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalArgumentException if the weight is less or equal to zero
+     * @throws IllegalStateException if there are no Sellers
+     * @return the unloaded weight, -1 if the Seller doesn't exist
+     */
+    @Override
+    public int unloadGoodsFromSeller(int weight, String id) {
+        return this.striped(id,
+                () -> this.company.unloadGoodsFromSeller(weight, id));
+    }
+
+    /**
+     * Adds a Market to a Seller.
+     *
+     * @param market the market to be added
+     * @param id the Seller Id
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalArgumentException if the market is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return true if the market was added to the Seller otherwise false
+     */
+    @Override
+    public boolean addMarketToSeller(String market, String id) {
+        return this.striped(id,
+                () -> this.company.addMarketToSeller(market, id));
+    }
+
+    /**
+     * Removes a Market from a Seller.
+     *
+     * @param marketName the name of the Market to be removed
+     * @param id the Seller Id
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return true if the Market was removed from the Seller otherwise false
+     */
+    @Override
+    public boolean removeMarketFromSeller(String marketName, String id) {
+        return this.striped(id,
+                () -> this.company.removeMarketFromSeller(marketName, id));
+    }
+
+    /**
+     * Getter for the Seller's Markets.
+     *
+     * @param id the Seller Id
+     * @throws IllegalArgumentException if the Id is null or blank
+     * @throws IllegalStateException if there are no Sellers
+     * @return a copy of the Seller's Markets iterator
+     */
+    @Override
+    public Iterator<String> getMarketsFromSeller(String id) {
+        return this.striped(id,
+                () -> this.copy(this.company.getMarketsFromSeller(id)));
+    }
+
+    /**
+     * Prints the Sellers to the console.
+     */
+    @Override
+    public void printSellers() {
+        this.write(false, () -> {
+            this.company.printSellers();
+            return null;
+        });
+    }
+
+    /**
+     * Adds a Local.
+     *
+     * @param local the local to be added
+     * @throws IllegalArgumentException if the local is null
+     * @return true if the local was added otherwise false
+     */
+    @Override
+    public boolean addLocal(ILocal local) {
+        return this.write(true, () -> this.company.addLocal(local));
+    }
+
+    /**
+     * Removes a Local. The order of the Locals changes, see
+     * {@link ManageCompany#removeLocal(String)}.
+     *
+     * @param name the name of the Local to be removed
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no Locals
+     * @return true if the Local was removed otherwise false
+     */
+    @Override
+    public boolean removeLocal(String name) {
+        return this.write(true, () -> this.company.removeLocal(name));
+    }
+
+    /**
+     * Getter for the number of Locals.
+     *
+     * @return the number of Locals
+     */
+    @Override
+    public int getNumberOfLocals() {
+        return this.optimisticRead(() -> this.company.getNumberOfLocals());
+    }
+
+    /**
+     * Prints the Locals to the console.
+     */
+    @Override
+    public void printLocals() {
+        this.write(false, () -> {
+            this.company.printLocals();
+            return null;
+        });
+    }
+
+    /**
+     * Adds a client to a Market.
+     *
+     * @param name the name of the market
+     * @param neededStock the needed stock by the client
+     * @throws IllegalArgumentException if the name is blank or null
+     * @throws IllegalArgumentException if the neededStock is less or equal than
+     * zero
+     * @throws IllegalArgumentException if there are no markets
+     * @return true if the client was added otherwise false
+     */
+    @Override
+    public boolean addMarketClient(String name, int neededStock) {
+        return this.striped(name,
+                () -> this.company.addMarketClient(name, neededStock));
+    }
+
+    /**
+     * Serves a Market's first client.
+     *
+     * @param name the name of the market
+     * @param stock the served stock
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalArgumentException if the stock is less or equal than zero
+     * @throws IllegalStateException if there are no markets
+     * @throws IllegalStateException if there are no clients on the market
+     * @return the stock left to serve, -1 if the market doesn't exist
+     */
+    @Override
+    public int serveMarketClient(String name, int stock) {
+        return this.striped(name,
+                () -> this.company.serveMarketClient(name, stock));
+    }
+
+    /**
+     * Returns how much stock a Market's first client needs.
+     *
+     * @param name the name of the market
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no markets
+     * @throws IllegalStateException if there are no clients on the market
+     * @return the stock, -1 if the market doesn't exist
+     */
+    @Override
+    public int howMuchTheMarketClientNeeds(String name) {
+        return this.striped(name,
+                () -> this.company.howMuchTheMarketClientNeeds(name));
+    }
+
+    /**
+     * Getter for a Market's number of clients.
+     *
+     * @param name the name of the market
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no markets
+     * @return the number of clients
+     */
+    @Override
+    public int getNumberOfMarketClients(String name) {
+        return this.striped(name,
+                () -> this.company.getNumberOfMarketClients(name));
+    }
+
+    /**
+     * Getter for the Markets.
+     *
+     * @return a copy of the Markets iterator
+     */
+    @Override
+    public Iterator<IMarket> getMarkets() {
+        return this.read(() -> this.copy(this.company.getMarkets()));
+    }
+
+    /**
+     * Getter for a Warehouse's capacity.
+     *
+     * @param name the name of the Warehouse
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no warehouses
+     * @return the Warehouse capacity, -1 if the warehouse doesn't exist
+     */
+    @Override
+    public int getWarehouseCapacity(String name) {
+        return this.striped(name,
+                () -> this.company.getWarehouseCapacity(name));
+    }
+
+    /**
+     * Setter for a Warehouse's capacity.
+     *
+     * @param name the name of the Warehouse
+     * @param capacity the new Warehouse capacity
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalArgumentException if the capacity is less or equal than
+     * zero
+     * @throws IllegalStateException if there are no warehouses
+     * @return true if the capacity was changed otherwise false
+     */
+    @Override
+    public boolean setWarehouseCapacity(String name, int capacity) {
+        return this.striped(name,
+                () -> this.company.setWarehouseCapacity(name, capacity));
+    }
+
+    /**
+     * Getter for a Warehouse's stock.
+     *
+     * @param name the name of the Warehouse
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalStateException if there are no warehouses
+     * @return the Warehouse stock, -1 if the warehouse doesn't exist
+     */
+    @Override
+    public int getWarehouseStock(String name) {
+        return this.striped(name, () -> this.company.getWarehouseStock(name));
+    }
+
+    /**
+     * Loads a Warehouse's stock.
+     *
+     * @param name the name of the Warehouse
+     * @param stock the stock to be loaded
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalArgumentException if the stock is less or equal than zero
+     * @throws IllegalStateException if there are no warehouses
+     * @return the loaded stock, -1 if the warehouse doesn't exist
+     */
+    @Override
+    public int loadWarehouseStock(String name, int stock) {
+        return this.striped(name,
+                () -> this.company.loadWarehouseStock(name, stock));
+    }
+
+    /**
+     * Unloads a Warehouse's stock.
+     *
+     * @param name the name of the Warehouse
+     * @param stock the stock to be unloaded
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalArgumentException if the stock is less or equal than zero
+     * @throws IllegalStateException if there are no warehouses
+     * @return the unloaded stock, -1 if the warehouse doesn't exist
+     */
+    @Override
+    public int unloadWarehouseStock(String name, int stock) {
+        return this.striped(name,
+                () -> this.company.unloadWarehouseStock(name, stock));
+    }
+
+    /**
+     * Getter for the Warehouses.
+     *
+     * @return a copy of the Warehouses iterator
+     */
+    @Override
+    public Iterator<IWarehouse> getWarehouses() {
+        return this.read(() -> this.copy(this.company.getWarehouses()));
+    }
+
+    /**
+     * Adds a road between two locals.
+     *
+     * @param start the start local
+     * @param destination the distination local
+     * @param distance the distance of the road
+     * @throws IllegalArgumentException if the start or destination are null or
+     * blank
+     * @throws IllegalArgumentException if the distance is less or equal than
+     * zero
+     * @throws IllegalStateException if there are no locations
+     * @return true if the road is added, otherwise false
+     */
+    @Override
+    public boolean addRoad(String start, String destination, double distance) {
+        return this.write(true,
+                () -> this.company.addRoad(start, destination, distance));
+    }
+
+    /**
+     * Removes a road between two locals.
+     *
+     * @param start the start local
+     * @param destination the distination local
+     * @throws IllegalArgumentException if the start or destination are null or
+     * blank
+     * @throws IllegalStateException if there are no locations
+     * @return true if the road is removed, otherwise false
+     */
+    @Override
+    public boolean removeRoad(String start, String destination) {
+        return this.write(true,
+                () -> this.company.removeRoad(start, destination));
+    }
+
+    /**
+     * Sets the road distance between two Locals.
+     *
+     * @param start the start local
+     * @param destination the destination local
+     * @param distance the distance between the locals
+     * @throws IllegalArgumentException if the start or destination are null or
+     * blank
+     * @throws IllegalArgumentException if the distance is less or equal than
+     * zero
+     * @throws IllegalStateException if there are no locations
+     * @return true if the distance was changed, otherwise false
+     */
+    @Override
+    public boolean setRoadDistance(String start, String destination,
+            double distance) {
+
+        return this.write(true, () -> this.company.setRoadDistance(start,
+                destination, distance));
+    }
+
+    /**
+     * Returns the weight of the shortest path between two locals. The path is
+     * found once per start local and kept until the locals or the roads
+     * change.
+     *
+     * @param start the name of the start local
+     * @param destination the name of the destination local
+     * @throws IllegalArgumentException if the start or destination are null
+     * @return the weight of the shortest path, Double.POSITIVE_INFINITY if
+     * there is no path, -1 if a local doesn't exist
+     */
+    public double shortestPathWeight(String start, String destination) {
+        if (start == null || destination == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                ShortestPathTree tree = this.trees.get(start);
+                ILocal target = this.network.getLocal(destination);
+                if (tree != null && target != null) {
+                    double weight = tree.getDistance(
+                            this.network.getVertexIndex(target));
+                    if (this.lock.validate(stamp)) {
+                        return weight;
+                    }
+                }
+            } catch (RuntimeException ex) {
+                // the network changed meanwhile, it is read again locked
+            }
+        }
+
+        stamp = this.lock.readLock();
+        try {
+            ILocal source = this.network.getLocal(start);
+            ILocal target = this.network.getLocal(destination);
+            if (source == null || target == null) {
+                return -1;
+            }
+            ShortestPathTree tree = this.trees.get(start);
+            if (tree == null) {
+                tree = this.network.buildShortestPathTree(source);
+                this.trees.put(start, tree);
+            }
+            return tree.getDistance(this.network.getVertexIndex(target));
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Generates the shortest route for the seller considering the markets that
+     * he has to visit.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     * @return the Locals iterator representing the route
+     */
+    @Override
+    public Iterator<ILocal> generateRouteForSeller(ILocal start,
+            ISeller seller) {
+
+        return this.write(false,
+                () -> this.company.generateRouteForSeller(start, seller));
+    }
+
+    /**
+     * Simulates the route generateRouteForSeller generates. The simulation
+     * must be committed with commitSimulation.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     * @return the simulation, with the route
+     */
+    @Override
+    public RouteSimulation simulateRouteForSeller(ILocal start,
+            ISeller seller) {
+
+        return this.write(false,
+                () -> this.company.simulateRouteForSeller(start, seller));
+    }
+
+    /**
+     * Commits a simulation made by simulateRouteForSeller, serving the
+     * clients, unloading the warehouses and changing the goods of the seller.
+     *
+     * @param start the starting point of the simulated route
+     * @param simulation the simulation
+     * @throws IllegalArgumentException if the start or simulation are null
+     * @throws IllegalStateException if the simulation is finished or if the
+     * company changed since the simulation read it
+     */
+    public void commitSimulation(ILocal start, RouteSimulation simulation) {
+        this.write(false, () -> {
+            this.company.commitSimulation(start, simulation);
+            return null;
+        });
+    }
+
+    /**
+     * Generates a route for the seller that orders the markets he has to visit
+     * and the warehouses to restock at, to shorten the route.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @param timeBudget the milliseconds the optimization can take
+     * @throws IllegalArgumentException if the start or seller are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route plan
+     */
+    @Override
+    public RoutePlan generateOptimizedRouteForSeller(ILocal start,
+            ISeller seller, long timeBudget) {
+
+        return this.write(false, () -> this.company
+                .generateOptimizedRouteForSeller(start, seller, timeBudget));
+    }
+
+    /**
+     * Plans the routes of the sellers in parallel. Nothing is changed, but
+     * the write lock is taken because planning fills the caches of the
+     * network.
+     *
+     * @param start the starting point of the routes
+     * @param sellers the sellers
+     * @param timeBudget the milliseconds the optimization of each route can
+     * take
+     * @throws IllegalArgumentException if the start or sellers are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route summaries, in the order of the sellers
+     */
+    @Override
+    public Iterator<RouteSummary> planRoutesForSellers(ILocal start,
+            Iterator<ISeller> sellers, long timeBudget) {
+
+        return this.write(false, () -> this.company.planRoutesForSellers(
+                start, sellers, timeBudget));
+    }
+
+    /**
+     * Prints the shortest route for the seller considering the markets that he
+     * has to visit.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     */
+    @Override
+    public void printRouteForSeller(ILocal start, ISeller seller) {
+        this.write(false, () -> {
+            this.company.printRouteForSeller(start, seller);
+            return null;
+        });
+    }
+
+    /**
+     * Prints the roads to the console.
+     */
+    @Override
+    public void printRoads() {
+        this.read(() -> {
+            this.company.printRoads();
+            return null;
+        });
+    }
+
+    /**
+     * Getter for the name of the company.
+     *
+     * @return the name of the company
+     */
+    public String getCompanyName() {
+        return this.optimisticRead(() -> this.company.getCompanyName());
+    }
+
+    /**
+     * Setter for the company. The order of the Locals changes, see
+     * {@link ManageCompany#setCompany(ILocal)}.
+     *
+     * @param local the new company
+     * @throws IllegalArgumentException if the local is null
+     * @return true if the local was changed, otherwise false
+     */
+    public boolean setCompany(ILocal local) {
+        return this.write(true, () -> this.company.setCompany(local));
+    }
+
+    /**
+     * Writes the company to a file .json, while nothing changes it.
+     *
+     * @param path the path of the file
+     */
+    public void companyToJson(String path) {
+        this.write(false, () -> {
+            this.company.companyToJson(path);
+            return null;
+        });
+    }
+
+    /**
+     * Saves the company to a snapshot, while nothing changes it.
+     *
+     * @param path the path of the file
+     * @return true if the snapshot was saved otherwise false
+     */
+    public boolean saveSnapshot(String path) {
+        return this.write(false, () -> this.company.saveSnapshot(path));
+    }
+}
@@ -1,8 +1,23 @@
 package CompanyManagement;
 
+import Locals.ILocal;
+import Locals.Local;
 import Locals.Market;
 import Locals.Warehouse;
+import SellersManagement.ISeller;
 import SellersManagement.Seller;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  *
@@ -10,6 +25,299 @@ import SellersManagement.Seller;
  */
 public class Main {
 
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 1000;
+
+    /**
+     * Returns the state of a company as a string: the order of the locals,
+     * the JSON of the company and the current weight of the sellers, which
+     * the JSON does not have.
+     *
+     * @param company the company
+     * @return the state of the company
+     * @throws IOException if the JSON could not be written
+     */
+    private static String describe(ManageCompany company) throws IOException {
+        String state = "";
+        Iterator<ILocal> locals = company.getNetwork().vertices();
+        while (locals.hasNext()) {
+            state += locals.next().getName() + ";";
+        }
+        StringWriter json = new StringWriter();
+        try (CompanyJsonWriter writer = new CompanyJsonWriter(json)) {
+            writer.writeCompany(company.getCompanyName(),
+                    company.getMarkets(), company.getWarehouses(),
+                    company.getNetwork().edgeCursor(), company.getSellers());
+        }
+        state += json;
+        Iterator<ISeller> sellers = company.getSellers();
+        while (sellers.hasNext()) {
+            ISeller seller = sellers.next();
+            state += ";" + seller.getId() + ":" + seller.getCurrentWeight();
+        }
+        return state;
+    }
+
+    private static int compare(String check, String expected, String actual) {
+        if (expected.equals(actual)) {
+            return 0;
+        }
+        System.out.println(check + " mismatch: " + expected + " != " + actual);
+        return 1;
+    }
+
+    /**
+     * Makes changes of every kind journaled to a company, removals and a new
+     * company local included, so the order of the locals changes.
+     *
+     * @param company the company
+     * @param round the round of changes, for different names
+     */
+    private static void changeCompany(ManageCompany company, int round) {
+        String m = "Market" + round;
+        String w = "Warehouse" + round;
+        company.addLocal(new Market(m + "a"));
+        company.addLocal(new Market(m + "b"));
+        company.addLocal(new Market(m + "c"));
+        company.addLocal(new Warehouse(w + "a", 60));
+        company.addLocal(new Warehouse(w + "b", 30));
+        company.loadWarehouseStock(w + "a", 60);
+        company.loadWarehouseStock(w + "b", 25);
+        company.unloadWarehouseStock(w + "b", 5);
+        company.setWarehouseCapacity(w + "a", 80);
+        for (int i = 1; i <= 6; i++) {
+            company.addMarketClient(m + "a", i * 3);
+            company.addMarketClient(m + "b", 10 - i);
+        }
+        company.serveMarketClient(m + "b", 4);
+
+        String hq = company.getCompanyName();
+        company.addRoad(hq, m + "a", 5);
+        company.addRoad(hq, w + "a", 10);
+        company.addRoad(m + "a", m + "b", 5);
+        company.addRoad(m + "b", w + "b", 5);
+        company.addRoad(w + "a", m + "b", 10);
+        company.addRoad(m + "c", w + "a", 2);
+        company.setRoadDistance(hq, w + "a", 8);
+        company.removeRoad(m + "c", w + "a");
+        company.removeLocal(m + "c");
+
+        company.addSeller(new Seller("A" + round, "Angela", 15));
+        company.addSeller(new Seller("B" + round, "Oscar", 20));
+        company.addSeller(new Seller("C" + round, "Kevin", 5));
+        company.setSellerName("Andy", "A" + round);
+        company.setSellerMaxWeight(25, "B" + round);
+        company.loadGoodsToSeller(10, "A" + round);
+        company.unloadGoodsFromSeller(3, "A" + round);
+        company.addMarketToSeller(m + "b", "A" + round);
+        company.addMarketToSeller(m + "a", "A" + round);
+        company.addMarketToSeller(m + "a", "B" + round);
+        company.addMarketToSeller(m + "b", "B" + round);
+        company.addMarketToSeller(m + "b", "C" + round);
+        company.removeMarketFromSeller(m + "b", "C" + round);
+        company.removeSeller("C" + round);
+
+        company.generateRouteForSeller(company.getCompany(),
+                company.getSeller("A" + round));
+        company.commitSimulation(company.getCompany(),
+                company.simulateRouteForSeller(company.getCompany(),
+                        company.getSeller("B" + round)));
+        company.addMarketClient(m + "a", 7);
+        company.generateOptimizedRouteForSeller(company.getCompany(),
+                company.getSeller("B" + round), 10);
+        company.setCompany(new Local("Headquarters" + round));
+        company.addRoad("Headquarters" + round, m + "b", 3);
+    }
+
+    /**
+     * Checks that a company is exported to the same JSON after it is exported
+     * and read back. The JSON does not keep the order of the locals, which is
+     * the company, the markets and then the warehouses once it is read, so the
+     * company must have its locals in that order.
+     *
+     * @param company the company
+     * @param dir the directory of the files
+     * @return the number of mismatches
+     * @throws IOException if a file could not be written or read
+     */
+    private static int jsonCheck(ManageCompany company, Path dir)
+            throws IOException {
+
+        String json = dir.resolve("company.json").toString();
+        company.companyToJson(json);
+        String expected = Files.readString(dir.resolve("company.json"));
+        ManageCompany.companyFromJson(json).companyToJson(json);
+        return compare("JSON", expected,
+                Files.readString(dir.resolve("company.json")));
+    }
+
+    /**
+     * Checks that a company is the same after it is saved to a snapshot and
+     * loaded, memory mapped and through a buffer.
+     *
+     * @param company the company
+     * @param dir the directory of the files
+     * @return the number of mismatches
+     * @throws IOException if a file could not be written or read
+     */
+    private static int snapshotChecks(ManageCompany company, Path dir)
+            throws IOException {
+
+        int mismatches = 0;
+        String snapshot = dir.resolve("company.snapshot").toString();
+        company.saveSnapshot(snapshot);
+        mismatches += compare("Mapped snapshot", describe(company),
+                describe(ManageCompany.loadSnapshot(snapshot, true)));
+        mismatches += compare("Buffered snapshot", describe(company),
+                describe(ManageCompany.loadSnapshot(snapshot, false)));
+        return mismatches;
+    }
+
+    /**
+     * Checks that a journaled company is recovered as it was, after the
+     * journal is closed, after it is compacted and after a torn entry is
+     * appended to it, with entries written in batches.
+     *
+     * @param dir the directory of the files
+     * @return the number of mismatches
+     * @throws IOException if a file could not be written or read
+     */
+    private static int journalChecks(Path dir) throws IOException {
+        int mismatches = 0;
+        Path journalPath = dir.resolve("company.journal");
+        Path snapshot = dir.resolve("journal.snapshot");
+
+        CompanyJournal journal = new CompanyJournal(journalPath, snapshot, 8,
+                false, 0);
+        ManageCompany company = journal.recover("Casfil");
+        changeCompany(company, 1);
+        String expected = describe(company);
+        journal.close();
+
+        journal = new CompanyJournal(journalPath, snapshot, 8, false, 0);
+        company = journal.recover("Casfil");
+        mismatches += compare("Journal", expected, describe(company));
+
+        journal.compact();
+        changeCompany(company, 2);
+        expected = describe(company);
+        journal.close();
+        try (FileChannel channel = FileChannel.open(journalPath,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        journal = new CompanyJournal(journalPath, snapshot, 8, false, 0);
+        company = journal.recover("Casfil");
+        mismatches += compare("Compacted journal", expected,
+                describe(company));
+        mismatches += snapshotChecks(company, dir);
+        journal.close();
+        return mismatches;
+    }
+
+    /**
+     * Runs threads that add clients, load warehouses and sellers, add and
+     * remove roads and read shortest paths through a ConcurrentManageCompany
+     * of a journaled company, then checks the totals and that the journal
+     * recovers the company as it was.
+     *
+     * @param dir the directory of the files
+     * @return the number of mismatches
+     * @throws IOException if a file could not be written or read
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private static int concurrentChecks(Path dir)
+            throws IOException, InterruptedException {
+
+        Path journalPath = dir.resolve("concurrent.journal");
+        Path snapshot = dir.resolve("concurrent.snapshot");
+        CompanyJournal journal = new CompanyJournal(journalPath, snapshot, 64,
+                false, 0);
+        ManageCompany company = journal.recover("Casfil");
+        for (int i = 0; i < 4; i++) {
+            company.addLocal(new Market("Market" + i));
+            company.addLocal(new Warehouse("Warehouse" + i,
+                    THREADS * OPERATIONS_PER_THREAD));
+            company.addRoad("Casfil", "Market" + i, 1 + i);
+            company.addRoad("Market" + i, "Warehouse" + i, 2);
+        }
+        for (int t = 0; t < THREADS; t++) {
+            company.addLocal(new Warehouse("Depot" + t, 1));
+            company.addSeller(new Seller("S" + t, "Seller" + t,
+                    OPERATIONS_PER_THREAD));
+            company.addMarketToSeller("Market" + (t % 4), "S" + t);
+        }
+
+        ConcurrentManageCompany facade = new ConcurrentManageCompany(company);
+        AtomicInteger mismatches = new AtomicInteger();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                String market = "Market" + (thread % 4);
+                String depot = "Depot" + thread;
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    facade.addMarketClient(market, 1 + i % 5);
+                    facade.loadWarehouseStock("Warehouse" + (thread % 4), 1);
+                    facade.loadGoodsToSeller(1, "S" + thread);
+                    if (i % 50 == 0) {
+                        facade.addRoad(depot, market, 1000);
+                    } else if (i % 50 == 25) {
+                        facade.removeRoad(depot, market);
+                    }
+                    int target = i % 4;
+                    if (facade.shortestPathWeight("Casfil", "Market" + target)
+                            != 1 + target) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int clients = 0;
+        int stock = 0;
+        for (int i = 0; i < 4; i++) {
+            clients += facade.getNumberOfMarketClients("Market" + i);
+            stock += facade.getWarehouseStock("Warehouse" + i);
+        }
+        if (clients != THREADS * OPERATIONS_PER_THREAD
+                || stock != THREADS * OPERATIONS_PER_THREAD) {
+            System.out.println("Totals mismatch: " + clients + ", " + stock);
+            mismatches.incrementAndGet();
+        }
+        for (int t = 0; t < THREADS; t++) {
+            if (facade.getSellerCurrentWeight("S" + t)
+                    != OPERATIONS_PER_THREAD) {
+                mismatches.incrementAndGet();
+            }
+        }
+        facade.generateRouteForSeller(company.getCompany(),
+                facade.getSeller("S0"));
+
+        String expected = describe(company);
+        journal.close();
+        journal = new CompanyJournal(journalPath, snapshot, 64, false, 0);
+        int recovered = compare("Concurrent journal", expected,
+                describe(journal.recover("Casfil")));
+        journal.close();
+        return mismatches.get() + recovered;
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            Iterator<Path> it = files.iterator();
+            while (it.hasNext()) {
+                Files.delete(it.next());
+            }
+        }
+        Files.delete(dir);
+    }
+
     /**
      * @param args the command line arguments
      */
@@ -44,6 +352,19 @@ public class Main {
                 manageCompany.getSeller("1"));
 
         manageCompany.companyToJson();
+
+        try {
+            Path dir = Files.createTempDirectory("company");
+            System.out.println("Round trip mismatches: "
+                    + (jsonCheck(manageCompany, dir)
+                    + snapshotChecks(manageCompany, dir)
+                    + journalChecks(dir)));
+            System.out.println("Concurrent facade mismatches: "
+                    + concurrentChecks(dir));
+            delete(dir);
+        } catch (IOException | InterruptedException ex) {
+            Logger.getLogger(Main.class.getName()).log(Level.SEVERE, null, ex);
+        }
     }
 
 }
@@ -1,7 +1,9 @@
 package CompanyManagement;
 
-import AdaptedDataStructures.AdaptedNetwork;
-import AdaptedDataStructures.IAdaptedNetwork;
+import AdaptedDataStructures.ILocalsNetwork;
+import AdaptedDataStructures.LocalsNetwork;
+import DataStructures.AdjacencyMatrixStorage;
+import DataStructuresInterfaces.GraphStorageADT;
 import Locals.Local;
 import Locals.ILocal;
 import Locals.IMarket;
@@ -12,18 +14,25 @@ import LocalsManagement.IManageMarkets;
 import LocalsManagement.IManageWarehouses;
 import LocalsManagement.ManageMarkets;
 import LocalsManagement.ManageWarehouses;
+import Metrics.Histogram;
+import Metrics.MetricsRegistry;
 import RoutesManagement.IManageRoutes;
 import RoutesManagement.ManageRoutes;
+import RoutesManagement.RoutePlan;
+import RoutesManagement.RouteSimulation;
+import RoutesManagement.RouteSummary;
 import SellersManagement.IManageSellers;
 import SellersManagement.ISeller;
 import SellersManagement.ManageSellers;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
 
 /**
  *
@@ -32,24 +41,44 @@ import org.json.simple.JSONObject;
 public class ManageCompany implements IManageSellers, IManageMarkets,
         IManageWarehouses, IManageRoutes {
 
-    private final IAdaptedNetwork<ILocal> network;
+    /**
+     * How long companyToJson takes.
+     */
+    private static final Histogram TO_JSON_NANOS = MetricsRegistry.getDefault()
+            .histogram("company.toJson.nanos");
+
+    private final ILocalsNetwork network;
     private Local company;
     private final ManageMarkets manageMarkets;
     private final ManageWarehouses manageWarehouses;
     private final ManageSellers manageSellers;
     private final ManageRoutes manageRoutes;
+    private CompanyJournal journal;
 
     /**
-     * Manage Company class constructor.
+     * Manage Company class constructor, the roads are stored in an adjacency
+     * matrix.
      *
      * @param name the name of the company
      */
     public ManageCompany(String name) {
+        this(name, new AdjacencyMatrixStorage());
+    }
+
+    /**
+     * Manage Company class constructor.
+     *
+     * @param name the name of the company
+     * @param storage the storage of the roads
+     * @throws IllegalArgumentException if the name is null or blank
+     * @throws IllegalArgumentException if the storage is null or not empty
+     */
+    public ManageCompany(String name, GraphStorageADT storage) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("The company name is invalid.");
         }
         this.company = new Local(name);
-        this.network = new AdaptedNetwork<>();
+        this.network = new LocalsNetwork(storage);
         this.manageMarkets = new ManageMarkets(this.network);
         this.manageWarehouses = new ManageWarehouses(this.network);
         this.manageSellers = new ManageSellers();
@@ -66,7 +95,21 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean addSeller(ISeller seller) {
-        return this.manageSellers.addSeller(seller);
+        boolean added = this.manageSellers.addSeller(seller);
+        if (added && this.journal != null) {
+            CompanyJournal.Entry entry = this.journal.begin(
+                    CompanyJournal.ADD_SELLER).putString(seller.getId())
+                    .putString(seller.getName())
+                    .putInt(seller.getMaxWeight())
+                    .putInt(seller.getCurrentWeight())
+                    .putInt(this.count(seller.getMarketsToVisit()));
+            Iterator<String> markets = seller.getMarketsToVisit();
+            while (markets.hasNext()) {
+                entry.putString(markets.next());
+            }
+            entry.end();
+        }
+        return added;
     }
 
     /**
@@ -79,7 +122,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean removeSeller(String id) {
-        return this.manageSellers.removeSeller(id);
+        boolean removed = this.manageSellers.removeSeller(id);
+        if (removed && this.journal != null) {
+            this.journal.begin(CompanyJournal.REMOVE_SELLER).putString(id)
+                    .end();
+        }
+        return removed;
     }
 
     /**
@@ -137,7 +185,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean setSellerName(String name, String id) {
-        return this.manageSellers.setSellerName(name, id);
+        boolean changed = this.manageSellers.setSellerName(name, id);
+        if (changed && this.journal != null) {
+            this.journal.begin(CompanyJournal.SET_SELLER_NAME).putString(name)
+                    .putString(id).end();
+        }
+        return changed;
     }
 
     /**
@@ -166,7 +219,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean setSellerMaxWeight(int maxWeight, String id) {
-        return this.manageSellers.setSellerMaxWeight(maxWeight, id);
+        boolean changed = this.manageSellers.setSellerMaxWeight(maxWeight, id);
+        if (changed && this.journal != null) {
+            this.journal.begin(CompanyJournal.SET_SELLER_MAX_WEIGHT)
+                    .putInt(maxWeight).putString(id).end();
+        }
+        return changed;
     }
 
     /**
@@ -194,7 +252,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public int loadGoodsToSeller(int weight, String id) {
-        return this.manageSellers.loadGoodsToSeller(weight, id);
+        int loaded = this.manageSellers.loadGoodsToSeller(weight, id);
+        if (loaded > 0 && this.journal != null) {
+            this.journal.begin(CompanyJournal.LOAD_SELLER).putInt(weight)
+                    .putString(id).end();
+        }
+        return loaded;
     }
 
     /**
@@ -209,18 +272,25 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public int unloadGoodsFromSeller(int weight, String id) {
-        return this.manageSellers.unloadGoodsFromSeller(weight, id);
+        int unloaded = this.manageSellers.unloadGoodsFromSeller(weight, id);
+        if (unloaded > 0 && this.journal != null) {
+            this.journal.begin(CompanyJournal.UNLOAD_SELLER).putInt(weight)
+                    .putString(id).end();
+        }
+        return unloaded;
     }
 
-    private boolean marketExists(String name) {
-        Iterator<ILocal> localsIterator = this.network.vertices();
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
-            if (name.equals(currentLocal.getName())) {
-                return true;
-            }
+    private int count(Iterator<?> it) {
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
         }
-        return false;
+        return count;
+    }
+
+    boolean marketExists(String name) {
+        return this.network.getLocal(name) != null;
     }
 
     /**
@@ -235,8 +305,13 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean addMarketToSeller(String market, String id) {
-        if (this.marketExists(market)) {
-            return this.manageSellers.addMarketToSeller(market, id);
+        if (this.marketExists(market)
+                && this.manageSellers.addMarketToSeller(market, id)) {
+            if (this.journal != null) {
+                this.journal.begin(CompanyJournal.ADD_MARKET_TO_SELLER)
+                        .putString(market).putString(id).end();
+            }
+            return true;
         }
         return false;
     }
@@ -253,7 +328,13 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean removeMarketFromSeller(String marketName, String id) {
-        return this.manageSellers.removeMarketFromSeller(marketName, id);
+        boolean removed = this.manageSellers.removeMarketFromSeller(marketName,
+                id);
+        if (removed && this.journal != null) {
+            this.journal.begin(CompanyJournal.REMOVE_MARKET_FROM_SELLER)
+                    .putString(marketName).putString(id).end();
+        }
+        return removed;
     }
 
     /**
@@ -287,17 +368,43 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean addLocal(ILocal local) {
-        if (local instanceof Market) {
-            return this.manageMarkets.addLocal(local);
+        if (local instanceof Market market) {
+            if (!this.manageMarkets.addLocal(local)) {
+                return false;
+            }
+            if (this.journal != null) {
+                CompanyJournal.Entry entry = this.journal.begin(
+                        CompanyJournal.ADD_MARKET).putString(market.getName())
+                        .putInt(this.count(market.getClients()));
+                Iterator<Integer> clients = market.getClients();
+                while (clients.hasNext()) {
+                    entry.putInt(clients.next());
+                }
+                entry.end();
+            }
+            return true;
 
-        } else if (local instanceof Warehouse) {
-            return this.manageWarehouses.addLocal(local);
+        } else if (local instanceof Warehouse warehouse) {
+            if (!this.manageWarehouses.addLocal(local)) {
+                return false;
+            }
+            if (this.journal != null) {
+                this.journal.begin(CompanyJournal.ADD_WAREHOUSE)
+                        .putString(warehouse.getName())
+                        .putInt(warehouse.getCapacity())
+                        .putInt(warehouse.getStock()).end();
+            }
+            return true;
         }
         return false;
     }
 
     /**
-     * Removes a Local.
+     * Removes a Local. The last Local takes its place, see
+     * {@link DataStructures.VertexRemoval#SWAP_WITH_LAST}, so the order of
+     * the Locals changes: printRoads and companyToJson list the roads in
+     * another order, a road can be listed from its other end, and between
+     * routes of the same distance another one can be chosen.
      *
      * @param name the name of the Local to be removed
      * @throws IllegalArgumentException if the name is null or blank
@@ -308,7 +415,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
     public boolean removeLocal(String name) {
         boolean resultM = this.manageMarkets.removeLocal(name);
         boolean resultW = this.manageMarkets.removeLocal(name);
-        return !(resultM == false && resultW == false);
+        boolean removed = !(resultM == false && resultW == false);
+        if (removed && this.journal != null) {
+            this.journal.begin(CompanyJournal.REMOVE_LOCAL).putString(name)
+                    .end();
+        }
+        return removed;
     }
 
     /**
@@ -343,7 +455,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean addMarketClient(String name, int neededStock) {
-        return this.manageMarkets.addMarketClient(name, neededStock);
+        boolean added = this.manageMarkets.addMarketClient(name, neededStock);
+        if (added && this.journal != null) {
+            this.journal.begin(CompanyJournal.ADD_MARKET_CLIENT).putString(name)
+                    .putInt(neededStock).end();
+        }
+        return added;
     }
 
     /**
@@ -359,7 +476,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public int serveMarketClient(String name, int stock) {
-        return this.manageMarkets.serveMarketClient(name, stock);
+        int left = this.manageMarkets.serveMarketClient(name, stock);
+        if (left != -1 && this.journal != null) {
+            this.journal.begin(CompanyJournal.SERVE_MARKET_CLIENT)
+                    .putString(name).putInt(stock).end();
+        }
+        return left;
     }
 
     /**
@@ -425,7 +547,13 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean setWarehouseCapacity(String name, int capacity) {
-        return this.manageWarehouses.setWarehouseCapacity(name, capacity);
+        boolean changed = this.manageWarehouses.setWarehouseCapacity(name,
+                capacity);
+        if (changed && this.journal != null) {
+            this.journal.begin(CompanyJournal.SET_WAREHOUSE_CAPACITY)
+                    .putString(name).putInt(capacity).end();
+        }
+        return changed;
     }
 
     /**
@@ -453,7 +581,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public int loadWarehouseStock(String name, int stock) {
-        return this.manageWarehouses.loadWarehouseStock(name, stock);
+        int loaded = this.manageWarehouses.loadWarehouseStock(name, stock);
+        if (loaded > 0 && this.journal != null) {
+            this.journal.begin(CompanyJournal.LOAD_WAREHOUSE).putString(name)
+                    .putInt(stock).end();
+        }
+        return loaded;
     }
 
     /**
@@ -468,7 +601,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public int unloadWarehouseStock(String name, int stock) {
-        return this.manageWarehouses.unloadWarehouseStock(name, stock);
+        int unloaded = this.manageWarehouses.unloadWarehouseStock(name, stock);
+        if (unloaded > 0 && this.journal != null) {
+            this.journal.begin(CompanyJournal.UNLOAD_WAREHOUSE).putString(name)
+                    .putInt(stock).end();
+        }
+        return unloaded;
     }
 
     /**
@@ -496,7 +634,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean addRoad(String start, String destination, double distance) {
-        return this.manageRoutes.addRoad(start, destination, distance);
+        boolean added = this.manageRoutes.addRoad(start, destination, distance);
+        if (added && this.journal != null) {
+            this.journal.begin(CompanyJournal.ADD_ROAD).putString(start)
+                    .putString(destination).putDouble(distance).end();
+        }
+        return added;
     }
 
     /**
@@ -511,7 +654,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public boolean removeRoad(String start, String destination) {
-        return this.manageRoutes.removeRoad(start, destination);
+        boolean removed = this.manageRoutes.removeRoad(start, destination);
+        if (removed && this.journal != null) {
+            this.journal.begin(CompanyJournal.REMOVE_ROAD).putString(start)
+                    .putString(destination).end();
+        }
+        return removed;
     }
 
     /**
@@ -531,7 +679,14 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
     public boolean setRoadDistance(String start, String destination,
             double distance) {
 
-        return this.manageRoutes.setRoadDistance(start, destination, distance);
+        boolean changed = this.manageRoutes.setRoadDistance(start,
+                destination, distance);
+        if (changed && this.journal != null) {
+            this.journal.begin(CompanyJournal.SET_ROAD_DISTANCE)
+                    .putString(start).putString(destination)
+                    .putDouble(distance).end();
+        }
+        return changed;
     }
 
     /**
@@ -546,7 +701,122 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public Iterator<ILocal> generateRouteForSeller(ILocal start, ISeller seller) {
-        return this.manageRoutes.generateRouteForSeller(start, seller);
+        CompanyJournal.Entry entry = this.beginRoute(CompanyJournal.ROUTE,
+                start, seller);
+        Iterator<ILocal> route = this.manageRoutes.generateRouteForSeller(start,
+                seller);
+        if (entry != null) {
+            entry.end();
+        }
+        return route;
+    }
+
+    /**
+     * Simulates the route generateRouteForSeller generates, without serving
+     * the clients, unloading the warehouses or changing the goods of the
+     * seller until the simulation is committed.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     * @return the simulation, with the route
+     */
+    @Override
+    public RouteSimulation simulateRouteForSeller(ILocal start,
+            ISeller seller) {
+
+        return this.manageRoutes.simulateRouteForSeller(start, seller);
+    }
+
+    /**
+     * Commits a simulation made by simulateRouteForSeller, serving the clients,
+     * unloading the warehouses and changing the goods of the seller.
+     *
+     * @param start the starting point of the simulated route
+     * @param simulation the simulation
+     * @throws IllegalArgumentException if the start or simulation are null
+     * @throws IllegalStateException if the simulation is finished or if the
+     * company changed since the simulation read it
+     */
+    public void commitSimulation(ILocal start, RouteSimulation simulation) {
+        if (start == null || simulation == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        CompanyJournal.Entry entry = this.beginRoute(CompanyJournal.ROUTE,
+                start, simulation.getSeller());
+        simulation.commit();
+        if (entry != null) {
+            entry.end();
+        }
+    }
+
+    /**
+     * Generates a route for the seller that orders the markets he has to visit
+     * and the warehouses to restock at, to shorten the route. The markets are
+     * served and the warehouses unloaded as with generateRouteForSeller.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @param timeBudget the milliseconds the optimization can take
+     * @throws IllegalArgumentException if the start or seller are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route plan, with the distance saved against the greedy route
+     */
+    @Override
+    public RoutePlan generateOptimizedRouteForSeller(ILocal start,
+            ISeller seller, long timeBudget) {
+
+        CompanyJournal.Entry entry = this.beginRoute(CompanyJournal.STOPS,
+                start, seller);
+        RoutePlan plan = this.manageRoutes.generateOptimizedRouteForSeller(
+                start, seller, timeBudget);
+        if (entry != null) {
+            entry.putInt(this.count(plan.getStops()));
+            Iterator<ILocal> stops = plan.getStops();
+            while (stops.hasNext()) {
+                entry.putString(stops.next().getName());
+            }
+            entry.end();
+        }
+        return plan;
+    }
+
+    /**
+     * Plans the routes of the sellers in parallel. The plans only read a
+     * snapshot of the network and each one has its own copy of the clients
+     * and the stock, so they do not see each other and nothing is changed.
+     *
+     * @param start the starting point of the routes
+     * @param sellers the sellers
+     * @param timeBudget the milliseconds the optimization of each route can
+     * take
+     * @throws IllegalArgumentException if the start or sellers are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route summaries, in the order of the sellers
+     */
+    @Override
+    public Iterator<RouteSummary> planRoutesForSellers(ILocal start,
+            Iterator<ISeller> sellers, long timeBudget) {
+
+        return this.manageRoutes.planRoutesForSellers(start, sellers,
+                timeBudget);
+    }
+
+    /**
+     * Plans the routes of every seller in parallel, from the company. Nothing
+     * is changed.
+     *
+     * @param timeBudget the milliseconds the optimization of each route can
+     * take
+     * @throws IllegalArgumentException if the time budget is negative
+     * @return the route summaries, in the order of the sellers
+     */
+    public Iterator<RouteSummary> planRoutesForAllSellers(long timeBudget) {
+        return this.manageRoutes.planRoutesForSellers(this.company,
+                this.manageSellers.getSellers(), timeBudget);
     }
 
     /**
@@ -560,7 +830,12 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
      */
     @Override
     public void printRouteForSeller(ILocal start, ISeller seller) {
+        CompanyJournal.Entry entry = this.beginRoute(CompanyJournal.ROUTE,
+                start, seller);
         this.manageRoutes.printRouteForSeller(start, seller);
+        if (entry != null) {
+            entry.end();
+        }
     }
 
     /**
@@ -581,9 +856,11 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
     }
 
     /**
-     * Setter for the company.
+     * Setter for the company. The new company is added as the last Local and
+     * the old one is removed as removeLocal removes a Local, so the order of
+     * the Locals changes as it does there.
      *
-     * @param local
+     * @param local the new company
      * @throws IllegalArgumentException if the local is null
      * @return true if the local was changed, otherwise false
      */
@@ -591,26 +868,42 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
         if (local == null) {
             throw new IllegalArgumentException("Invalid name.");
         }
-        Iterator<IMarket> markets = this.getMarkets();
-        while (markets.hasNext()) {
-            IMarket currentMarket = markets.next();
-            if (currentMarket.getName().equals(local.getName())) {
-                return false;
-            }
-        }
-        Iterator<IWarehouse> warehouses = this.getWarehouses();
-        while (warehouses.hasNext()) {
-            IWarehouse currentWarehouse = warehouses.next();
-            if (currentWarehouse.getName().equals(local.getName())) {
-                return false;
-            }
+        if (this.network.getMarket(local.getName()) != null
+                || this.network.getWarehouse(local.getName()) != null) {
+            return false;
         }
         this.network.removeVertex(this.company);
         this.company = (Local) local;
         this.network.addVertex(this.company);
+        if (this.journal != null) {
+            this.journal.begin(CompanyJournal.SET_COMPANY)
+                    .putString(local.getName()).end();
+        }
         return true;
     }
 
+    private CompanyJournal.Entry beginRoute(byte operation, ILocal start,
+            ISeller seller) {
+
+        if (this.journal == null || start == null || seller == null) {
+            return null;
+        }
+        boolean registered
+                = this.manageSellers.getSeller(seller.getId()) == seller;
+        CompanyJournal.Entry entry = this.journal.begin(operation)
+                .putString(start.getName()).putString(seller.getId())
+                .putString(seller.getName()).putInt(seller.getMaxWeight())
+                .putInt(seller.getCurrentWeight()).putBoolean(registered);
+        if (!registered) {
+            entry.putInt(this.count(seller.getMarketsToVisit()));
+            Iterator<String> markets = seller.getMarketsToVisit();
+            while (markets.hasNext()) {
+                entry.putString(markets.next());
+            }
+        }
+        return entry;
+    }
+
     /**
      * Getter for the company.
      *
@@ -620,31 +913,203 @@ public class ManageCompany implements IManageSellers, IManageMarkets,
         return this.company;
     }
 
-    private void writeToFile(String path, JSONObject obj) {
+    /**
+     * Getter for the network of the locals.
+     *
+     * @return the network
+     */
+    ILocalsNetwork getNetwork() {
+        return this.network;
+    }
+
+    /**
+     * Getter for the journal the changes are written to.
+     *
+     * @return the journal, null if the changes are not journaled
+     */
+    CompanyJournal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * Setter for the journal the changes are written to.
+     *
+     * @param journal the journal, null to stop journaling
+     */
+    void setJournal(CompanyJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Serves the markets and unloads the warehouses of the stops of a route,
+     * as generateOptimizedRouteForSeller does.
+     *
+     * @param seller the seller
+     * @param stops the stops
+     */
+    void executeStops(ISeller seller, Iterator<ILocal> stops) {
+        this.manageRoutes.simulateStopsForSeller(seller, stops).commit();
+    }
+
+    /**
+     * Makes room for the given number of locals, the company included.
+     *
+     * @param locals the number of locals
+     */
+    void ensureCapacity(int locals) {
+        this.network.ensureCapacity(locals);
+    }
+
+    /**
+     * Adds roads between locals at once, without checking if they already
+     * exist.
+     *
+     * @param starts the start locals
+     * @param destinations the destination locals
+     * @param distances the distances of the roads
+     * @param count the number of roads, from the start of the arrays
+     * @throws IllegalArgumentException if a local doesn't exist or a
+     * distance is less or equal than zero
+     */
+    void importRoads(String[] starts, String[] destinations,
+            double[] distances, int count) {
+
+        ILocal[] startLocals = new ILocal[count];
+        ILocal[] destinationLocals = new ILocal[count];
+        double[] roadDistances = new double[count];
+        for (int i = 0; i < count; i++) {
+            if (distances[i] <= 0) {
+                throw new IllegalArgumentException("Distance must be > 0.");
+            }
+            startLocals[i] = this.network.getLocal(starts[i]);
+            destinationLocals[i] = this.network.getLocal(destinations[i]);
+            if (startLocals[i] == null || destinationLocals[i] == null) {
+                throw new IllegalArgumentException("Unknown road: "
+                        + starts[i] + " to " + destinations[i]);
+            }
+            roadDistances[i] = distances[i];
+        }
+        this.network.addEdges(startLocals, destinationLocals, roadDistances);
+    }
+
+    /**
+     * Reads a company from a file .json written by companyToJson.
+     *
+     * @param path the path of the file
+     * @throws IllegalArgumentException if the path is null or blank or if the
+     * file is not a valid company
+     * @return the company, null if the file could not be read
+     */
+    public static ManageCompany companyFromJson(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Path is invalid.");
+        }
+        try (Reader reader = Files.newBufferedReader(Paths.get(path),
+                StandardCharsets.UTF_8)) {
+            return new CompanyJsonReader(reader).readCompany();
+        } catch (IOException | ParseException ex) {
+            Logger.getLogger(ManageCompany.class.getName()).log(Level.SEVERE,
+                    null, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Saves the company to a binary snapshot, see {@link CompanySnapshot}.
+     *
+     * @param path the path of the file
+     * @throws IllegalArgumentException if the path is null or blank
+     * @return true if the snapshot was saved, otherwise false
+     */
+    public boolean saveSnapshot(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Path is invalid.");
+        }
         try {
-            FileWriter myFile = new FileWriter(path);
-            myFile.write(obj.toJSONString());
-            myFile.flush();
+            CompanySnapshot.save(this, Paths.get(path));
+            return true;
         } catch (IOException ex) {
             Logger.getLogger(ManageCompany.class.getName()).log(Level.SEVERE,
                     null, ex);
+            return false;
         }
     }
 
     /**
-     * Writes the company to a file .json.
+     * Loads a company from a binary snapshot, see {@link CompanySnapshot}.
+     *
+     * @param path the path of the file
+     * @param memoryMapped true to map the file in memory instead of reading it
+     * through a buffer
+     * @throws IllegalArgumentException if the path is null or blank or if the
+     * snapshot is not a valid company
+     * @return the company, null if the snapshot could not be read
+     */
+    public static ManageCompany loadSnapshot(String path,
+            boolean memoryMapped) {
+
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Path is invalid.");
+        }
+        try {
+            return CompanySnapshot.load(Paths.get(path), memoryMapped);
+        } catch (IOException ex) {
+            Logger.getLogger(ManageCompany.class.getName()).log(Level.SEVERE,
+                    null, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the company to the file ./company.json.
      */
     public void companyToJson() {
-        JSONObject jCompany = new JSONObject();
-        jCompany.put("companyName", this.company.getName());
-        JSONArray jMarkets = this.manageMarkets.localsToJson();
-        JSONArray jWarehouses = this.manageWarehouses.localsToJson();
-        JSONArray jSellers = this.manageSellers.sellersToJson();
-        JSONArray jRoads = this.manageRoutes.roadsToJson();
-        jCompany.put("markets", jMarkets);
-        jCompany.put("warehouses", jWarehouses);
-        jCompany.put("sellers", jSellers);
-        jCompany.put("roads", jRoads);
-        this.writeToFile("./company.json", jCompany);
+        this.companyToJson("./company.json");
+    }
+
+    /**
+     * Writes the company to a file .json. The file is written while the
+     * company is iterated, through a buffered writer.
+     *
+     * @param path the path of the file
+     * @throws IllegalArgumentException if the path is null or blank
+     */
+    public void companyToJson(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("Path is invalid.");
+        }
+        long start = TO_JSON_NANOS.start();
+        try (CompanyJsonWriter writer = new CompanyJsonWriter(
+                Files.newBufferedWriter(Paths.get(path),
+                        StandardCharsets.UTF_8))) {
+            writer.writeCompany(this.company.getName(), this.getMarkets(),
+                    this.getWarehouses(), this.network.edgeCursor(),
+                    this.getSellers());
+        } catch (IOException ex) {
+            Logger.getLogger(ManageCompany.class.getName()).log(Level.SEVERE,
+                    null, ex);
+        }
+        TO_JSON_NANOS.stop(start);
+    }
+
+    /**
+     * Adds the gauges of the company to a registry: the number of locals,
+     * markets, warehouses and sellers. The gauges read the counts
+     * without locking, so they may be behind a change being made.
+     *
+     * @param registry the registry
+     * @throws IllegalArgumentException if the registry is null
+     */
+    public void registerGauges(MetricsRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("The registry is null.");
+        }
+        registry.gauge("company.locals", () -> this.network.size());
+        registry.gauge("company.markets",
+                () -> this.manageMarkets.getNumberOfLocals());
+        registry.gauge("company.warehouses",
+                () -> this.manageWarehouses.getNumberOfLocals());
+        registry.gauge("company.sellers",
+                () -> this.manageSellers.getNumberOfSellers());
     }
 }
@@ -0,0 +1,449 @@
+package DataStructures;
+
+import DataStructuresInterfaces.GraphStorageADT;
+import java.util.Arrays;
+
+/**
+ * Stores the edges in primitive adjacency lists, one pair of int and double
+ * arrays per vertex, kept sorted by neighbour index. Uses O(V + E) memory.
+ *
+ * @author Simão
+ */
+public class AdjacencyListStorage implements GraphStorageADT {
+
+    /**
+     * Default capacity for the vertices.
+     */
+    protected final int DEFAULT_CAPACITY = 3;
+
+    private static final int[] NO_NEIGHBOURS = new int[0];
+    private static final double[] NO_WEIGHTS = new double[0];
+
+    /**
+     * The vertices counter.
+     */
+    protected int numVertices;
+
+    /**
+     * The neighbours of each vertex, sorted by index.
+     */
+    protected int[][] neighbours;
+
+    /**
+     * The weight of each edge, parallel to neighbours.
+     */
+    protected double[][] weights;
+
+    /**
+     * The number of neighbours of each vertex.
+     */
+    protected int[] degrees;
+
+    /**
+     * AdjacencyListStorage class constructor.
+     */
+    public AdjacencyListStorage() {
+        this.numVertices = 0;
+        this.neighbours = new int[DEFAULT_CAPACITY][];
+        this.weights = new double[DEFAULT_CAPACITY][];
+        this.degrees = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * AdjacencyListStorage class constructor, with room for the given number
+     * of vertices.
+     *
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public AdjacencyListStorage(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        int lenght = Math.max(capacity, DEFAULT_CAPACITY);
+        this.numVertices = 0;
+        this.neighbours = new int[lenght][];
+        this.weights = new double[lenght][];
+        this.degrees = new int[lenght];
+    }
+
+    private void expandCapacity(int newLenght) {
+        int[][] tempNeighbours = new int[newLenght][];
+        double[][] tempWeights = new double[newLenght][];
+        int[] tempDegrees = new int[newLenght];
+
+        System.arraycopy(this.neighbours, 0, tempNeighbours, 0,
+                this.numVertices);
+        System.arraycopy(this.weights, 0, tempWeights, 0, this.numVertices);
+        System.arraycopy(this.degrees, 0, tempDegrees, 0, this.numVertices);
+        this.neighbours = tempNeighbours;
+        this.weights = tempWeights;
+        this.degrees = tempDegrees;
+    }
+
+    /**
+     * Returns the position of a neighbour in the list of a vertex, or
+     * (-(insertion point) - 1) if it is not there.
+     */
+    private int search(int index, int neighbour) {
+        int[] list = this.neighbours[index];
+        int low = 0;
+        int high = this.degrees[index] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (list[middle] < neighbour) {
+                low = middle + 1;
+            } else if (list[middle] > neighbour) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insert(int index, int neighbour, double weight) {
+        int position = this.search(index, neighbour);
+        if (position >= 0) {
+            this.weights[index][position] = weight;
+            return;
+        }
+        position = -(position + 1);
+        int degree = this.degrees[index];
+
+        if (degree == this.neighbours[index].length) {
+            int newLenght = Math.max(2, degree * 2);
+            int[] tempNeighbours = new int[newLenght];
+            double[] tempWeights = new double[newLenght];
+            System.arraycopy(this.neighbours[index], 0, tempNeighbours, 0,
+                    degree);
+            System.arraycopy(this.weights[index], 0, tempWeights, 0, degree);
+            this.neighbours[index] = tempNeighbours;
+            this.weights[index] = tempWeights;
+        }
+        System.arraycopy(this.neighbours[index], position,
+                this.neighbours[index], position + 1, degree - position);
+        System.arraycopy(this.weights[index], position, this.weights[index],
+                position + 1, degree - position);
+        this.neighbours[index][position] = neighbour;
+        this.weights[index][position] = weight;
+        this.degrees[index]++;
+    }
+
+    private void delete(int index, int neighbour) {
+        int position = this.search(index, neighbour);
+        if (position < 0) {
+            return;
+        }
+        int moved = this.degrees[index] - position - 1;
+        System.arraycopy(this.neighbours[index], position + 1,
+                this.neighbours[index], position, moved);
+        System.arraycopy(this.weights[index], position + 1, this.weights[index],
+                position, moved);
+        this.degrees[index]--;
+    }
+
+    /**
+     * Adds a vertex without edges, its index is the previous size().
+     */
+    @Override
+    public void addVertex() {
+        if (this.numVertices == this.neighbours.length) {
+            this.expandCapacity(this.neighbours.length * 2);
+        }
+        this.neighbours[this.numVertices] = NO_NEIGHBOURS;
+        this.weights[this.numVertices] = NO_WEIGHTS;
+        this.degrees[this.numVertices] = 0;
+        this.numVertices++;
+    }
+
+    /**
+     * Adds the given number of vertices without edges, their indices follow
+     * the previous size(). The lists are expanded at most once.
+     *
+     * @param count the number of vertices
+     * @throws IllegalArgumentException if the count is negative
+     */
+    @Override
+    public void addVertices(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count is invalid.");
+        }
+        int total = this.numVertices + count;
+        if (total > this.neighbours.length) {
+            this.expandCapacity(Math.max(total, this.neighbours.length * 2));
+        }
+        Arrays.fill(this.neighbours, this.numVertices, total, NO_NEIGHBOURS);
+        Arrays.fill(this.weights, this.numVertices, total, NO_WEIGHTS);
+        Arrays.fill(this.degrees, this.numVertices, total, 0);
+        this.numVertices = total;
+    }
+
+    /**
+     * Makes room for the given number of vertices, so adding them does not
+     * expand this storage again.
+     *
+     * @param capacity the number of vertices
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.neighbours.length) {
+            this.expandCapacity(capacity);
+        }
+    }
+
+    /**
+     * Removes the vertex with the given index and all its edges. The vertices
+     * after it are shifted one index down.
+     *
+     * @param index the index of the vertex to be removed
+     */
+    @Override
+    public void removeVertex(int index) {
+        for (int i = 0; i < this.degrees[index]; i++) {
+            int neighbour = this.neighbours[index][i];
+            if (neighbour != index) {
+                this.delete(neighbour, index);
+            }
+        }
+        int moved = this.numVertices - index - 1;
+        System.arraycopy(this.neighbours, index + 1, this.neighbours, index,
+                moved);
+        System.arraycopy(this.weights, index + 1, this.weights, index, moved);
+        System.arraycopy(this.degrees, index + 1, this.degrees, index, moved);
+        this.numVertices--;
+        this.neighbours[this.numVertices] = null;
+        this.weights[this.numVertices] = null;
+        this.degrees[this.numVertices] = 0;
+
+        for (int i = 0; i < this.numVertices; i++) {
+            int[] list = this.neighbours[i];
+            for (int j = this.degrees[i] - 1; j >= 0 && list[j] > index; j--) {
+                list[j]--;
+            }
+        }
+    }
+
+    /**
+     * Moves an edge of a vertex to another neighbour index, keeping the list
+     * sorted.
+     */
+    private void renameNeighbour(int index, int from, int to) {
+        int position = this.search(index, from);
+        if (position >= 0) {
+            double weight = this.weights[index][position];
+            this.delete(index, from);
+            this.insert(index, to, weight);
+        }
+    }
+
+    /**
+     * Removes the vertex with the given index and all its edges. The last
+     * vertex takes its index: only the lists of the neighbours of both
+     * vertices change, in time proportional to their degree.
+     *
+     * @param index the index of the vertex to be removed
+     */
+    @Override
+    public void swapRemoveVertex(int index) {
+        int last = this.numVertices - 1;
+
+        for (int i = 0; i < this.degrees[index]; i++) {
+            int neighbour = this.neighbours[index][i];
+            if (neighbour != index) {
+                this.delete(neighbour, index);
+            }
+        }
+        if (index != last) {
+            for (int i = 0; i < this.degrees[last]; i++) {
+                int neighbour = this.neighbours[last][i];
+                if (neighbour != last) {
+                    this.renameNeighbour(neighbour, last, index);
+                }
+            }
+            this.renameNeighbour(last, last, index);
+            this.neighbours[index] = this.neighbours[last];
+            this.weights[index] = this.weights[last];
+            this.degrees[index] = this.degrees[last];
+        }
+        this.numVertices--;
+        this.neighbours[this.numVertices] = null;
+        this.weights[this.numVertices] = null;
+        this.degrees[this.numVertices] = 0;
+    }
+
+    /**
+     * Inserts an edge between two vertices, or replaces its weight if it
+     * already exists.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @param weight the weight of the edge
+     */
+    @Override
+    public void setEdge(int index1, int index2, double weight) {
+        this.insert(index1, index2, weight);
+        if (index1 != index2) {
+            this.insert(index2, index1, weight);
+        }
+    }
+
+    /**
+     * Merges the entries of a row of a bulk insertion into the list of the
+     * vertex. The entries are sorted by neighbour and, for the same
+     * neighbour, by their position, so the last one wins.
+     */
+    private void mergeRow(int index, EdgeRows rows) {
+        int from = rows.offsets[index];
+        int added = rows.offsets[index + 1] - from;
+        long[] keys = new long[added];
+        for (int k = 0; k < added; k++) {
+            keys[k] = ((long) rows.targets[from + k] << 32) | k;
+        }
+        Arrays.sort(keys);
+
+        int[] list = this.neighbours[index];
+        double[] listWeights = this.weights[index];
+        int degree = this.degrees[index];
+        int[] tempNeighbours = new int[degree + added];
+        double[] tempWeights = new double[degree + added];
+        int size = 0;
+        int i = 0;
+        int k = 0;
+        while (i < degree || k < added) {
+            int next = k < added ? (int) (keys[k] >>> 32) : Integer.MAX_VALUE;
+            if (i < degree && list[i] < next) {
+                tempNeighbours[size] = list[i];
+                tempWeights[size++] = listWeights[i++];
+                continue;
+            }
+            while (k + 1 < added && (int) (keys[k + 1] >>> 32) == next) {
+                k++;
+            }
+            if (i < degree && list[i] == next) {
+                i++;
+            }
+            tempNeighbours[size] = next;
+            tempWeights[size++] = rows.weights[from + (int) keys[k++]];
+        }
+        this.neighbours[index] = tempNeighbours;
+        this.weights[index] = tempWeights;
+        this.degrees[index] = size;
+    }
+
+    /**
+     * Inserts the edges between the vertices at the same positions of two
+     * arrays, or replaces their weights if they already exist. The edges are
+     * grouped by vertex and merged into each list once, and the lists are
+     * merged in parallel when there are many edges.
+     *
+     * @param indices1 the indices of the first vertices
+     * @param indices2 the indices of the second vertices
+     * @param weights the weights of the edges
+     * @param count the number of edges, from the start of the arrays
+     * @throws IllegalArgumentException if an array is null or shorter than the
+     * count, or if an index is not a vertex
+     */
+    @Override
+    public void setEdges(int[] indices1, int[] indices2, double[] weights,
+            int count) {
+
+        EdgeRows rows = new EdgeRows(this.numVertices, indices1, indices2,
+                weights, count);
+        rows.forEachRow(i -> this.mergeRow(i, rows));
+    }
+
+    /**
+     * Removes the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     */
+    @Override
+    public void removeEdge(int index1, int index2) {
+        this.delete(index1, index2);
+        if (index1 != index2) {
+            this.delete(index2, index1);
+        }
+    }
+
+    /**
+     * Returns true if there is an edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return true if there is an edge between the vertices
+     */
+    @Override
+    public boolean hasEdge(int index1, int index2) {
+        return this.search(index1, index2) >= 0;
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the weight of the edge, Double.POSITIVE_INFINITY if there is no
+     * edge
+     */
+    @Override
+    public double getWeight(int index1, int index2) {
+        int position = this.search(index1, index2);
+        if (position < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return this.weights[index1][position];
+    }
+
+    /**
+     * Returns the cursor of the next edge of a vertex. The cursor is the
+     * position of the edge in the list of the vertex.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the previous edge, -1 for the first edge
+     * @return the cursor of the next edge, -1 if there are no more edges
+     */
+    @Override
+    public int nextEdge(int index, int cursor) {
+        if (cursor + 1 < this.degrees[index]) {
+            return cursor + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the neighbour at the other end of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the index of the neighbour
+     */
+    @Override
+    public int edgeTarget(int index, int cursor) {
+        return this.neighbours[index][cursor];
+    }
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the weight of the edge
+     */
+    @Override
+    public double edgeWeight(int index, int cursor) {
+        return this.weights[index][cursor];
+    }
+
+    /**
+     * Returns the number of vertices in this storage.
+     *
+     * @return the number of vertices
+     */
+    @Override
+    public int size() {
+        return this.numVertices;
+    }
+}
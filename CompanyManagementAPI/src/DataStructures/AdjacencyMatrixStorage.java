@@ -0,0 +1,327 @@
+package DataStructures;
+
+import DataStructuresInterfaces.GraphStorageADT;
+import java.util.Arrays;
+
+/**
+ * Stores the edges in a boolean adjacency matrix and a parallel weights
+ * matrix. Uses O(V²) memory.
+ *
+ * @author Simão
+ */
+public class AdjacencyMatrixStorage implements GraphStorageADT {
+
+    /**
+     * Default capacity for the matrices.
+     */
+    protected final int DEFAULT_CAPACITY = 3;
+
+    /**
+     * The vertices counter.
+     */
+    protected int numVertices;
+
+    /**
+     * the adjMatrix.
+     */
+    protected boolean[][] adjMatrix;
+
+    /**
+     * the weights matrix.
+     */
+    protected double[][] weights;
+
+    /**
+     * AdjacencyMatrixStorage class constructor.
+     */
+    public AdjacencyMatrixStorage() {
+        this.numVertices = 0;
+        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.weights = new double[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+    }
+
+    /**
+     * AdjacencyMatrixStorage class constructor, with room for the given
+     * number of vertices.
+     *
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public AdjacencyMatrixStorage(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        int lenght = Math.max(capacity, DEFAULT_CAPACITY);
+        this.numVertices = 0;
+        this.adjMatrix = new boolean[lenght][lenght];
+        this.weights = new double[lenght][lenght];
+    }
+
+    private void expandCapacity(int newLenght) {
+        int oldLenght = this.adjMatrix.length;
+        boolean[][] tempAdj = new boolean[newLenght][newLenght];
+        double[][] tempWeights = new double[newLenght][newLenght];
+
+        for (int i = 0; i < oldLenght; i++) {
+            System.arraycopy(this.adjMatrix[i], 0, tempAdj[i], 0, oldLenght);
+            System.arraycopy(this.weights[i], 0, tempWeights[i], 0, oldLenght);
+        }
+        this.adjMatrix = tempAdj;
+        this.weights = tempWeights;
+    }
+
+    private void clear(int index) {
+        for (int i = 0; i <= index; i++) {
+            this.adjMatrix[index][i] = false;
+            this.adjMatrix[i][index] = false;
+            this.weights[index][i] = Double.POSITIVE_INFINITY;
+            this.weights[i][index] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Adds a vertex without edges, its index is the previous size().
+     */
+    @Override
+    public void addVertex() {
+        if (this.numVertices == this.adjMatrix.length) {
+            this.expandCapacity(this.adjMatrix.length * 2);
+        }
+        this.clear(this.numVertices);
+        this.numVertices++;
+    }
+
+    /**
+     * Adds the given number of vertices without edges, their indices follow
+     * the previous size(). The matrices are expanded at most once and the
+     * new cells are cleared in parallel when there are many.
+     *
+     * @param count the number of vertices
+     * @throws IllegalArgumentException if the count is negative
+     */
+    @Override
+    public void addVertices(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count is invalid.");
+        }
+        int total = this.numVertices + count;
+        if (total > this.adjMatrix.length) {
+            this.expandCapacity(Math.max(total, this.adjMatrix.length * 2));
+        }
+        int first = this.numVertices;
+        EdgeRows.forEachRow(0, total, (long) total * count, i -> {
+            int from = i < first ? first : 0;
+            Arrays.fill(this.adjMatrix[i], from, total, false);
+            Arrays.fill(this.weights[i], from, total,
+                    Double.POSITIVE_INFINITY);
+        });
+        this.numVertices = total;
+    }
+
+    /**
+     * Makes room for the given number of vertices, so adding them does not
+     * expand this storage again.
+     *
+     * @param capacity the number of vertices
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.adjMatrix.length) {
+            this.expandCapacity(capacity);
+        }
+    }
+
+    /**
+     * Removes the vertex with the given index and all its edges. The vertices
+     * after it are shifted one index down.
+     *
+     * @param index the index of the vertex to be removed
+     */
+    @Override
+    public void removeVertex(int index) {
+        boolean[] removedAdj = this.adjMatrix[index];
+        double[] removedWeights = this.weights[index];
+        int last = this.numVertices - 1;
+
+        for (int i = index; i < last; i++) {
+            this.adjMatrix[i] = this.adjMatrix[i + 1];
+            this.weights[i] = this.weights[i + 1];
+        }
+        this.adjMatrix[last] = removedAdj;
+        this.weights[last] = removedWeights;
+
+        for (int i = 0; i < last; i++) {
+            System.arraycopy(this.adjMatrix[i], index + 1, this.adjMatrix[i],
+                    index, last - index);
+            System.arraycopy(this.weights[i], index + 1, this.weights[i],
+                    index, last - index);
+        }
+        this.clear(last);
+        this.numVertices--;
+    }
+
+    /**
+     * Removes the vertex with the given index and all its edges. The last
+     * vertex takes its index: its row is swapped in and its column copied,
+     * in O(V).
+     *
+     * @param index the index of the vertex to be removed
+     */
+    @Override
+    public void swapRemoveVertex(int index) {
+        int last = this.numVertices - 1;
+
+        if (index != last) {
+            boolean[] removedAdj = this.adjMatrix[index];
+            double[] removedWeights = this.weights[index];
+            this.adjMatrix[index] = this.adjMatrix[last];
+            this.weights[index] = this.weights[last];
+            this.adjMatrix[last] = removedAdj;
+            this.weights[last] = removedWeights;
+
+            for (int i = 0; i < last; i++) {
+                this.adjMatrix[i][index] = this.adjMatrix[i][last];
+                this.weights[i][index] = this.weights[i][last];
+            }
+        }
+        this.clear(last);
+        this.numVertices--;
+    }
+
+    /**
+     * Inserts an edge between two vertices, or replaces its weight if it
+     * already exists.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @param weight the weight of the edge
+     */
+    @Override
+    public void setEdge(int index1, int index2, double weight) {
+        this.adjMatrix[index1][index2] = true;
+        this.adjMatrix[index2][index1] = true;
+        this.weights[index1][index2] = weight;
+        this.weights[index2][index1] = weight;
+    }
+
+    /**
+     * Inserts the edges between the vertices at the same positions of two
+     * arrays, or replaces their weights if they already exist. The edges are
+     * grouped by row, and the rows are filled in parallel when there are many
+     * edges.
+     *
+     * @param indices1 the indices of the first vertices
+     * @param indices2 the indices of the second vertices
+     * @param weights the weights of the edges
+     * @param count the number of edges, from the start of the arrays
+     * @throws IllegalArgumentException if an array is null or shorter than the
+     * count, or if an index is not a vertex
+     */
+    @Override
+    public void setEdges(int[] indices1, int[] indices2, double[] weights,
+            int count) {
+
+        EdgeRows rows = new EdgeRows(this.numVertices, indices1, indices2,
+                weights, count);
+        rows.forEachRow(i -> {
+            boolean[] adjRow = this.adjMatrix[i];
+            double[] weightsRow = this.weights[i];
+            for (int k = rows.offsets[i]; k < rows.offsets[i + 1]; k++) {
+                adjRow[rows.targets[k]] = true;
+                weightsRow[rows.targets[k]] = rows.weights[k];
+            }
+        });
+    }
+
+    /**
+     * Removes the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     */
+    @Override
+    public void removeEdge(int index1, int index2) {
+        this.adjMatrix[index1][index2] = false;
+        this.adjMatrix[index2][index1] = false;
+        this.weights[index1][index2] = Double.POSITIVE_INFINITY;
+        this.weights[index2][index1] = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns true if there is an edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return true if there is an edge between the vertices
+     */
+    @Override
+    public boolean hasEdge(int index1, int index2) {
+        return this.adjMatrix[index1][index2];
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the weight of the edge, Double.POSITIVE_INFINITY if there is no
+     * edge
+     */
+    @Override
+    public double getWeight(int index1, int index2) {
+        return this.weights[index1][index2];
+    }
+
+    /**
+     * Returns the cursor of the next edge of a vertex. The cursor is the index
+     * of the neighbour.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the previous edge, -1 for the first edge
+     * @return the cursor of the next edge, -1 if there are no more edges
+     */
+    @Override
+    public int nextEdge(int index, int cursor) {
+        boolean[] row = this.adjMatrix[index];
+        for (int i = cursor + 1; i < this.numVertices; i++) {
+            if (row[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the neighbour at the other end of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the index of the neighbour
+     */
+    @Override
+    public int edgeTarget(int index, int cursor) {
+        return cursor;
+    }
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the weight of the edge
+     */
+    @Override
+    public double edgeWeight(int index, int cursor) {
+        return this.weights[index][cursor];
+    }
+
+    /**
+     * Returns the number of vertices in this storage.
+     *
+     * @return the number of vertices
+     */
+    @Override
+    public int size() {
+        return this.numVertices;
+    }
+}
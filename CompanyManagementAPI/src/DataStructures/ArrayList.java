@@ -0,0 +1,293 @@
+package DataStructures;
+
+import DataStructuresInterfaces.ListADT;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * A list kept in an array, in order from the index 0 to rear - 1. Adding or
+ * removing at the rear is constant time, amortized over the doublings of the
+ * array, and at any other position moves the elements after it.
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class ArrayList<T> implements ListADT<T> {
+
+    /**
+     * The capacity of a list created without one.
+     */
+    protected static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The elements of the list.
+     */
+    protected T[] list;
+
+    /**
+     * The number of elements, and the index of the next position at the
+     * rear.
+     */
+    protected int rear;
+
+    /**
+     * Counts the number of operations.
+     */
+    protected int modCount;
+
+    /**
+     * Constructor for the ArrayList class.
+     */
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for the ArrayList class, with room for the given number of
+     * elements.
+     *
+     * @param capacity the number of elements
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        this.list = (T[]) (new Object[capacity]);
+        this.rear = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Makes room for one more element, doubling the array if it is full.
+     */
+    protected void expandCapacity() {
+        if (this.rear == this.list.length) {
+            this.list = Arrays.copyOf(this.list,
+                    Math.max(DEFAULT_CAPACITY, this.list.length * 2));
+        }
+    }
+
+    /**
+     * Opens a position for an element, moving the elements from it to the
+     * rear one position forward.
+     *
+     * @param index the index of the position
+     */
+    protected void openAt(int index) {
+        this.expandCapacity();
+        System.arraycopy(this.list, index, this.list, index + 1,
+                this.rear - index);
+        this.rear++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the element at the given index, moving the elements after it
+     * one position back.
+     *
+     * @param index the index of the element
+     * @return the element that was removed
+     */
+    protected T removeAt(int index) {
+        T removed = this.list[index];
+        System.arraycopy(this.list, index + 1, this.list, index,
+                this.rear - index - 1);
+        this.rear--;
+        this.list[this.rear] = null;
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Returns the index of the first element equal to the target.
+     *
+     * @param target the target
+     * @return the index, -1 if the target is not in the list
+     */
+    protected int find(T target) {
+        if (target == null) {
+            return -1;
+        }
+        for (int i = 0; i < this.rear; i++) {
+            if (target.equals(this.list[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     */
+    @Override
+    public T removeFirst() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.removeAt(0);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     */
+    @Override
+    public T removeLast() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.removeAt(this.rear - 1);
+    }
+
+    /**
+     * Removes and returns the specified element from this list.
+     *
+     * @param element the element to be removed from the list
+     * @return the element that was removed
+     */
+    @Override
+    public T remove(T element) {
+        int index = this.find(element);
+        if (index < 0) {
+            return null;
+        }
+        return this.removeAt(index);
+    }
+
+    /**
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     */
+    @Override
+    public T first() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.list[0];
+    }
+
+    /**
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     */
+    @Override
+    public T last() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.list[this.rear - 1];
+    }
+
+    /**
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element
+     */
+    @Override
+    public boolean contains(T target) {
+        return this.find(target) >= 0;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.rear == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size() {
+        return this.rear;
+    }
+
+    /**
+     * Returns an iterator for the elements in this list. The iterator fails
+     * if the list is changed other than by the iterator.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        StringBuilder str = new StringBuilder();
+        for (int i = 0; i < this.rear; i++) {
+            if (i > 0) {
+                str.append("; ");
+            }
+            str.append(this.list[i]);
+        }
+        return str.toString();
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+
+        private int expectedModCount;
+        private int current;
+        private boolean okToRemove;
+
+        private ArrayListIterator() {
+            this.expectedModCount = ArrayList.this.modCount;
+            this.current = 0;
+            this.okToRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.current < ArrayList.this.rear;
+        }
+
+        @Override
+        public T next() {
+            if (this.expectedModCount != ArrayList.this.modCount) {
+                throw new IllegalStateException();
+            }
+
+            if (!this.hasNext()) {
+                return null;
+            }
+            this.okToRemove = true;
+            return ArrayList.this.list[this.current++];
+        }
+
+        @Override
+        public void remove() {
+            if (!this.okToRemove) {
+                return;
+            }
+            if (this.expectedModCount != ArrayList.this.modCount) {
+                throw new IllegalStateException();
+            }
+            ArrayList.this.removeAt(--this.current);
+            this.expectedModCount = ArrayList.this.modCount;
+            this.okToRemove = false;
+        }
+    }
+}
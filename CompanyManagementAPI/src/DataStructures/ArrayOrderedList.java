@@ -0,0 +1,91 @@
+package DataStructures;
+
+import DataStructuresInterfaces.OrderedListADT;
+
+/**
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class ArrayOrderedList<T> extends ArrayList<T>
+        implements OrderedListADT<T> {
+
+    /**
+     * Constructor for the ArrayOrderedList class.
+     */
+    public ArrayOrderedList() {
+        super();
+    }
+
+    /**
+     * Constructor for the ArrayOrderedList class, with room for the given
+     * number of elements.
+     *
+     * @param capacity the number of elements
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ArrayOrderedList(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Returns the index of the first element equal to the target, searching
+     * only among the elements that compare equal to it.
+     *
+     * @param target the target
+     * @return the index, -1 if the target is not in the list
+     */
+    @Override
+    protected int find(T target) {
+        if (!(target instanceof Comparable)) {
+            return -1;
+        }
+        @SuppressWarnings("unchecked")
+        Comparable<? super T> tmp = (Comparable<? super T>) target;
+        int low = 0;
+        int high = super.rear;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tmp.compareTo(super.list[middle]) > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < super.rear
+                && tmp.compareTo(super.list[i]) == 0; i++) {
+            if (target.equals(super.list[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the specified element to this list at the proper location, after
+     * the elements equal to it. Elements that are not Comparable are not
+     * added.
+     *
+     * @param element the element to be added to this list
+     */
+    @Override
+    public void add(T element) {
+        if (!(element instanceof Comparable)) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Comparable<? super T> tmp = (Comparable<? super T>) element;
+        int low = 0;
+        int high = super.rear;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (tmp.compareTo(super.list[middle]) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        super.openAt(low);
+        super.list[low] = element;
+    }
+}
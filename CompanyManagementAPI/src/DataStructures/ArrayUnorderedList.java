@@ -0,0 +1,70 @@
+package DataStructures;
+
+import DataStructuresInterfaces.UnorderedListADT;
+
+/**
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class ArrayUnorderedList<T> extends ArrayList<T>
+        implements UnorderedListADT<T> {
+
+    /**
+     * Constructor for the ArrayUnorderedList class.
+     */
+    public ArrayUnorderedList() {
+        super();
+    }
+
+    /**
+     * Constructor for the ArrayUnorderedList class, with room for the given
+     * number of elements.
+     *
+     * @param capacity the number of elements
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ArrayUnorderedList(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Adds an element to the front of the list.
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void addToFront(T element) {
+        super.openAt(0);
+        super.list[0] = element;
+    }
+
+    /**
+     * Adds an element to the rear of the list.
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void addToRear(T element) {
+        super.expandCapacity();
+        super.list[super.rear] = element;
+        super.rear++;
+        super.modCount++;
+    }
+
+    /**
+     * Adds an element after an element of the list.
+     *
+     * @param element the element to be added
+     * @param previous the previous element of the new element.
+     */
+    @Override
+    public void addAfter(T element, T previous) {
+        int index = super.find(previous);
+        if (index < 0) {
+            return;
+        }
+        super.openAt(index + 1);
+        super.list[index + 1] = element;
+    }
+}
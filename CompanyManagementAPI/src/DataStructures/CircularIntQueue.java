@@ -0,0 +1,290 @@
+package DataStructures;
+
+import DataStructuresInterfaces.IntQueueADT;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * A queue of primitive int values over a circular array, that doubles when it
+ * is full.
+ *
+ * @author Simão
+ */
+public class CircularIntQueue implements IntQueueADT {
+
+    /**
+     * Default capacity of the array.
+     */
+    protected final int DEFAULT_CAPACITY = 8;
+
+    private int[] queue;
+    private int front;
+    private int count;
+    private long total;
+    private int modCount;
+
+    /**
+     * CircularIntQueue class constructor.
+     */
+    public CircularIntQueue() {
+        this.queue = new int[DEFAULT_CAPACITY];
+        this.front = 0;
+        this.count = 0;
+        this.total = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * CircularIntQueue class constructor.
+     *
+     * @param initialCapacity the number of elements to hold without resizing
+     * @throws IllegalArgumentException if the initialCapacity is negative
+     */
+    public CircularIntQueue(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        this.queue = new int[Math.max(1, initialCapacity)];
+        this.front = 0;
+        this.count = 0;
+        this.total = 0;
+        this.modCount = 0;
+    }
+
+    private void expandCapacity() {
+        int[] larger = new int[this.queue.length * 2];
+        for (int i = 0; i < this.count; i++) {
+            larger[i] = this.queue[(this.front + i) % this.queue.length];
+        }
+        this.queue = larger;
+        this.front = 0;
+    }
+
+    private void checkIfNotEmpty() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("The queue is empty.");
+        }
+    }
+
+    /**
+     * Adds one element to the rear of this queue.
+     *
+     * @param element the element to be added to the rear of this queue
+     */
+    @Override
+    public void enqueue(int element) {
+        if (this.count == this.queue.length) {
+            this.expandCapacity();
+        }
+        this.queue[(this.front + this.count) % this.queue.length] = element;
+        this.count++;
+        this.total += element;
+        this.modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the front of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the element at the front of this queue
+     */
+    @Override
+    public int dequeue() {
+        this.checkIfNotEmpty();
+        int removed = this.queue[this.front];
+        this.front = (this.front + 1) % this.queue.length;
+        this.count--;
+        this.total -= removed;
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Returns without removing the element at the front of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the first element in this queue
+     */
+    @Override
+    public int first() {
+        this.checkIfNotEmpty();
+        return this.queue[this.front];
+    }
+
+    /**
+     * Replaces the element at the front of this queue, keeping its place.
+     *
+     * @param element the new first element
+     * @throws IllegalStateException if this queue is empty
+     * @return the replaced element
+     */
+    @Override
+    public int updateFirst(int element) {
+        this.checkIfNotEmpty();
+        int old = this.queue[this.front];
+        this.queue[this.front] = element;
+        this.total += element - old;
+        this.modCount++;
+        return old;
+    }
+
+    /**
+     * Returns the element at a position of this queue, counted from the
+     * front, without removing it.
+     *
+     * @param index the position, 0 for the front
+     * @throws IllegalArgumentException if the index is out of bounds
+     * @return the element at the position
+     */
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IllegalArgumentException("Index is invalid.");
+        }
+        return this.queue[(this.front + index) % this.queue.length];
+    }
+
+    /**
+     * Returns the number of times this queue was changed. It differs from a
+     * value read before if an element was added, removed or replaced since.
+     *
+     * @return the number of changes
+     */
+    @Override
+    public int getModCount() {
+        return this.modCount;
+    }
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if this queue is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the integer representation of the size of this queue
+     */
+    @Override
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Returns a read-only iterator over the elements of this queue, from the
+     * front, without copying or boxing them.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new CircularIntQueueIterator();
+    }
+
+    /**
+     * Returns the sum of the elements of this queue, kept as the queue
+     * changes.
+     *
+     * @return the sum, 0 if this queue is empty
+     */
+    @Override
+    public long sum() {
+        return this.total;
+    }
+
+    /**
+     * Returns the greatest element of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the greatest element
+     */
+    @Override
+    public int max() {
+        this.checkIfNotEmpty();
+        int max = this.queue[this.front];
+        for (int i = 1; i < this.count; i++) {
+            max = Math.max(max,
+                    this.queue[(this.front + i) % this.queue.length]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the elements of this queue, the
+     * smallest element that is greater or equal than the given percentage of
+     * the elements. The elements are copied to a sorted array.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @throws IllegalArgumentException if the percentile is out of bounds
+     * @throws IllegalStateException if this queue is empty
+     * @return the element at the percentile
+     */
+    @Override
+    public int percentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile is invalid.");
+        }
+        this.checkIfNotEmpty();
+        int[] sorted = new int[this.count];
+        for (int i = 0; i < this.count; i++) {
+            sorted[i] = this.queue[(this.front + i) % this.queue.length];
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * this.count);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Returns a string representation of this queue.
+     *
+     * @return the string representation of this queue
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        String tmp = "";
+        for (int i = 0; i < this.count; i++) {
+            if (i > 0) {
+                tmp += "; ";
+            }
+            tmp += this.queue[(this.front + i) % this.queue.length];
+        }
+        return tmp;
+    }
+
+    private class CircularIntQueueIterator implements PrimitiveIterator.OfInt {
+
+        private final int expectedModcount;
+        private int next;
+
+        private CircularIntQueueIterator() {
+            this.expectedModcount = CircularIntQueue.this.modCount;
+            this.next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < CircularIntQueue.this.count;
+        }
+
+        @Override
+        public int nextInt() {
+            if (this.expectedModcount != CircularIntQueue.this.modCount) {
+                throw new IllegalStateException();
+            }
+            if (!this.hasNext()) {
+                throw new IllegalStateException("There are no more elements.");
+            }
+            int[] queue = CircularIntQueue.this.queue;
+            return queue[(CircularIntQueue.this.front + this.next++)
+                    % queue.length];
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package DataStructures;
+
+/**
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class DoubleNode<T> {
+
+    private T data;
+    private DoubleNode<T> next;
+    private DoubleNode<T> previous;
+
+    /**
+     * Constructor for the DoubleNode class.
+     *
+     * @param data the data to add
+     */
+    public DoubleNode(T data) {
+        this.next = null;
+        this.previous = null;
+        this.data = data;
+    }
+
+    /**
+     * Getter for the DoubleNode data.
+     *
+     * @return the DoubleNode data.
+     */
+    public T getData() {
+        return this.data;
+    }
+
+    /**
+     * Setter for the DoubleNode data.
+     *
+     * @param data the DoubleNode data
+     */
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * Getter for the next DoubleNode.
+     *
+     * @return the next DoubleNode.
+     */
+    public DoubleNode<T> getNext() {
+        return this.next;
+    }
+
+    /**
+     * Setter for the next DoubleNode.
+     *
+     * @param next the next DoubleNode.
+     */
+    public void setNext(DoubleNode<T> next) {
+        this.next = next;
+    }
+
+    /**
+     * Getter for the previous DoubleNode.
+     *
+     * @return the previous DoubleNode.
+     */
+    public DoubleNode<T> getPrevious() {
+        return this.previous;
+    }
+
+    /**
+     * Setter for the previous DoubleNode.
+     *
+     * @param previous the previous DoubleNode.
+     */
+    public void setPrevious(DoubleNode<T> previous) {
+        this.previous = previous;
+    }
+}
@@ -0,0 +1,285 @@
+package DataStructures;
+
+import DataStructuresInterfaces.ListADT;
+import java.util.Iterator;
+
+/**
+ * A list of nodes linked both ways, so a node can be unlinked without
+ * searching for the one before it: removing the first or the last element,
+ * or the element last returned by an iterator, is constant time, and
+ * removing an element is a single search.
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class DoublyLinkedList<T> implements ListADT<T> {
+
+    /**
+     * Points to the DoublyLinkedList head.
+     */
+    protected DoubleNode<T> head;
+
+    /**
+     * Points to the DoublyLinkedList tail.
+     */
+    protected DoubleNode<T> tail;
+
+    /**
+     * Counts the number of nodes.
+     */
+    protected int counter;
+
+    /**
+     * Counts the number of operations.
+     */
+    protected int modCount;
+
+    /**
+     * Constructor for the DoublyLinkedList class.
+     */
+    public DoublyLinkedList() {
+        this.counter = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Returns the first node with an element equal to the target.
+     *
+     * @param target the target
+     * @return the node, null if the target is not in the list
+     */
+    protected DoubleNode<T> findNode(T target) {
+        if (target == null) {
+            return null;
+        }
+        DoubleNode<T> n = this.head;
+        while (n != null && !target.equals(n.getData())) {
+            n = n.getNext();
+        }
+        return n;
+    }
+
+    /**
+     * Links a node after another.
+     *
+     * @param node the node to be linked
+     * @param previous the node before it, null to link it at the head
+     */
+    protected void linkAfter(DoubleNode<T> node, DoubleNode<T> previous) {
+        DoubleNode<T> next = previous == null ? this.head : previous.getNext();
+        node.setPrevious(previous);
+        node.setNext(next);
+        if (previous == null) {
+            this.head = node;
+        } else {
+            previous.setNext(node);
+        }
+        if (next == null) {
+            this.tail = node;
+        } else {
+            next.setPrevious(node);
+        }
+        this.counter++;
+        this.modCount++;
+    }
+
+    /**
+     * Unlinks a node of this list.
+     *
+     * @param node the node
+     * @return the element of the node
+     */
+    protected T unlink(DoubleNode<T> node) {
+        DoubleNode<T> previous = node.getPrevious();
+        DoubleNode<T> next = node.getNext();
+        if (previous == null) {
+            this.head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            this.tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+        this.counter--;
+        this.modCount++;
+        return node.getData();
+    }
+
+    /**
+     * Removes and returns the first element from this list.
+     *
+     * @return the first element from this list
+     */
+    @Override
+    public T removeFirst() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.unlink(this.head);
+    }
+
+    /**
+     * Removes and returns the last element from this list.
+     *
+     * @return the last element from this list
+     */
+    @Override
+    public T removeLast() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.unlink(this.tail);
+    }
+
+    /**
+     * Removes and returns the specified element from this list.
+     *
+     * @param element the element to be removed from the list
+     * @return the element that was removed
+     */
+    @Override
+    public T remove(T element) {
+        DoubleNode<T> node = this.findNode(element);
+        if (node == null) {
+            return null;
+        }
+        return this.unlink(node);
+    }
+
+    /**
+     * Returns a reference to the first element in this list.
+     *
+     * @return a reference to the first element in this list
+     */
+    @Override
+    public T first() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.head.getData();
+    }
+
+    /**
+     * Returns a reference to the last element in this list.
+     *
+     * @return a reference to the last element in this list
+     */
+    @Override
+    public T last() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        return this.tail.getData();
+    }
+
+    /**
+     * Returns true if this list contains the specified target element.
+     *
+     * @param target the target that is being sought in the list
+     * @return true if the list contains this element
+     */
+    @Override
+    public boolean contains(T target) {
+        return this.findNode(target) != null;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     *
+     * @return true if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.counter == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the integer representation of number of elements in this list
+     */
+    @Override
+    public int size() {
+        return this.counter;
+    }
+
+    /**
+     * Returns an iterator for the elements in this list. The iterator fails
+     * if the list is changed other than by the iterator.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        StringBuilder str = new StringBuilder();
+        for (DoubleNode<T> n = this.head; n != null; n = n.getNext()) {
+            if (n != this.head) {
+                str.append("; ");
+            }
+            str.append(n.getData());
+        }
+        return str.toString();
+    }
+
+    private class DoublyLinkedListIterator implements Iterator<T> {
+
+        private int expectedModCount;
+        private DoubleNode<T> next;
+        private DoubleNode<T> lastReturned;
+
+        private DoublyLinkedListIterator() {
+            this.expectedModCount = DoublyLinkedList.this.modCount;
+            this.next = DoublyLinkedList.this.head;
+            this.lastReturned = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.expectedModCount != DoublyLinkedList.this.modCount) {
+                throw new IllegalStateException();
+            }
+
+            if (!this.hasNext()) {
+                return null;
+            }
+            this.lastReturned = this.next;
+            this.next = this.next.getNext();
+            return this.lastReturned.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned == null) {
+                return;
+            }
+            if (this.expectedModCount != DoublyLinkedList.this.modCount) {
+                throw new IllegalStateException();
+            }
+            DoublyLinkedList.this.unlink(this.lastReturned);
+            this.expectedModCount = DoublyLinkedList.this.modCount;
+            this.lastReturned = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package DataStructures;
+
+import DataStructuresInterfaces.UnorderedListADT;
+
+/**
+ *
+ * @author Simão
+ * @param <T>
+ */
+public class DoublyLinkedUnorderedList<T> extends DoublyLinkedList<T>
+        implements UnorderedListADT<T> {
+
+    /**
+     * Adds an element to the front of the list.
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void addToFront(T element) {
+        super.linkAfter(new DoubleNode<>(element), null);
+    }
+
+    /**
+     * Adds an element to the rear of the list.
+     *
+     * @param element the element to be added
+     */
+    @Override
+    public void addToRear(T element) {
+        super.linkAfter(new DoubleNode<>(element), super.tail);
+    }
+
+    /**
+     * Adds an element after an element of the list.
+     *
+     * @param element the element to be added
+     * @param previous the previous element of the new element.
+     */
+    @Override
+    public void addAfter(T element, T previous) {
+        DoubleNode<T> node = super.findNode(previous);
+        if (node == null) {
+            return;
+        }
+        super.linkAfter(new DoubleNode<>(element), node);
+    }
+}
@@ -0,0 +1,165 @@
+package DataStructures;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * The edges of a bulk insertion grouped by vertex: each edge is in the row of
+ * both its vertices, once for a loop, in the order the edges were given. The
+ * rows do not share anything, so a storage can fill them in parallel.
+ *
+ * @author Simão
+ */
+class EdgeRows {
+
+    /**
+     * The amount of work, in cells or edges, from which the rows are filled
+     * in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * The start of each row in targets and weights, offsets[numVertices] is
+     * the end of the last row.
+     */
+    final int[] offsets;
+
+    /**
+     * The neighbour of each entry.
+     */
+    final int[] targets;
+
+    /**
+     * The weight of each entry.
+     */
+    final double[] weights;
+
+    /**
+     * EdgeRows class constructor.
+     *
+     * @param numVertices the number of vertices
+     * @param indices1 the indices of the first vertices
+     * @param indices2 the indices of the second vertices
+     * @param weights the weights of the edges
+     * @param count the number of edges
+     * @throws IllegalArgumentException if an array is null or shorter than the
+     * count, or if an index is not a vertex
+     */
+    EdgeRows(int numVertices, int[] indices1, int[] indices2,
+            double[] weights, int count) {
+
+        if (indices1 == null || indices2 == null || weights == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        if (count < 0 || count > indices1.length || count > indices2.length
+                || count > weights.length) {
+            throw new IllegalArgumentException("Count is invalid.");
+        }
+        this.offsets = new int[numVertices + 1];
+        for (int k = 0; k < count; k++) {
+            int index1 = indices1[k];
+            int index2 = indices2[k];
+            if (index1 < 0 || index1 >= numVertices || index2 < 0
+                    || index2 >= numVertices) {
+                throw new IllegalArgumentException("Invalid edge: " + index1
+                        + " to " + index2);
+            }
+            this.offsets[index1 + 1]++;
+            if (index1 != index2) {
+                this.offsets[index2 + 1]++;
+            }
+        }
+        for (int i = 0; i < numVertices; i++) {
+            this.offsets[i + 1] += this.offsets[i];
+        }
+
+        this.targets = new int[this.offsets[numVertices]];
+        this.weights = new double[this.offsets[numVertices]];
+        int[] next = new int[numVertices];
+        System.arraycopy(this.offsets, 0, next, 0, numVertices);
+        for (int k = 0; k < count; k++) {
+            int index1 = indices1[k];
+            int index2 = indices2[k];
+            this.targets[next[index1]] = index2;
+            this.weights[next[index1]++] = weights[k];
+            if (index1 != index2) {
+                this.targets[next[index2]] = index1;
+                this.weights[next[index2]++] = weights[k];
+            }
+        }
+    }
+
+    /**
+     * Calls the action for every row with entries, in parallel if there are
+     * enough entries.
+     *
+     * @param action the action, given the index of the row
+     */
+    void forEachRow(IntConsumer action) {
+        int numVertices = this.offsets.length - 1;
+        forEachRow(0, numVertices, this.targets.length, i -> {
+            if (this.offsets[i] < this.offsets[i + 1]) {
+                action.accept(i);
+            }
+        });
+    }
+
+    /**
+     * Calls the action for every row of a range, on the common fork-join pool
+     * if the range has enough work.
+     *
+     * @param from the first row
+     * @param to the row after the last one
+     * @param work the amount of work of the whole range
+     * @param action the action, given the index of the row
+     */
+    static void forEachRow(int from, int to, long work, IntConsumer action) {
+        if (work < PARALLEL_THRESHOLD || to - from < 2) {
+            for (int i = from; i < to; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        int rowsPerTask = (int) Math.max(1,
+                (long) (to - from) * PARALLEL_THRESHOLD / work);
+        ForkJoinPool.commonPool().invoke(new RowsTask(from, to, rowsPerTask,
+                action));
+    }
+
+    /**
+     * Splits a range of rows in halves until they have few enough rows.
+     */
+    private static class RowsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+        private final IntConsumer action;
+
+        private RowsTask(int from, int to, int rowsPerTask,
+                IntConsumer action) {
+
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.rowsPerTask) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.action.accept(i);
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RowsTask(this.from, middle, this.rowsPerTask,
+                    this.action), new RowsTask(middle, this.to,
+                    this.rowsPerTask, this.action));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package DataStructures;
 
 import DataStructuresInterfaces.GraphADT;
+import DataStructuresInterfaces.GraphStorageADT;
+import DataStructuresInterfaces.MapADT;
 import java.util.Iterator;
 
 /**
@@ -11,7 +13,7 @@ import java.util.Iterator;
 public class Graph<T> implements GraphADT<T> {
 
     /**
-     * Default capacity for the adjMatrix and vertices.
+     * Default capacity for the vertices.
      */
     protected final int DEFAULT_CAPACITY = 3;
 
@@ -21,9 +23,9 @@ public class Graph<T> implements GraphADT<T> {
     protected int numVertices;
 
     /**
-     * the adjMatrix.
+     * the storage of the edges.
      */
-    protected boolean[][] adjMatrix;
+    protected GraphStorageADT storage;
 
     /**
      * the array that stores the vertices.
@@ -31,31 +33,121 @@ public class Graph<T> implements GraphADT<T> {
     protected T[] vertices;
 
     /**
-     * Graph class constructor.
+     * the index of each vertex in the vertices array.
+     */
+    protected MapADT<T, Integer> vertexIndices;
+
+    /**
+     * the number of changes to the vertices and edges, used by the iterators
+     * to detect changes.
+     */
+    protected int modCount;
+
+    /**
+     * How the vertices are removed.
+     */
+    protected VertexRemoval vertexRemoval;
+
+    /**
+     * The number of vertices equal to one before them, the ones that are not
+     * in vertexIndices.
+     */
+    private int duplicates;
+
+    /**
+     * Graph class constructor, the edges are stored in an adjacency matrix.
      */
     public Graph() {
+        this(new AdjacencyMatrixStorage());
+    }
+
+    /**
+     * Graph class constructor.
+     *
+     * @param storage the storage of the edges
+     * @throws IllegalArgumentException if the storage is null or not empty
+     */
+    public Graph(GraphStorageADT storage) {
+        if (storage == null || storage.size() != 0) {
+            throw new IllegalArgumentException("The storage is invalid.");
+        }
         this.numVertices = 0;
-        this.adjMatrix = new boolean[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this.storage = storage;
         this.vertices = (T[]) (new Object[DEFAULT_CAPACITY]);
+        this.vertexIndices = new HashMap<>();
+        this.modCount = 0;
+        this.vertexRemoval = VertexRemoval.SHIFT;
+        this.duplicates = 0;
+    }
+
+    /**
+     * Graph class constructor, the edges are stored in an adjacency matrix
+     * with room for the given number of vertices.
+     *
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public Graph(int capacity) {
+        this(new AdjacencyMatrixStorage(capacity), capacity);
     }
 
-    private void expandVertices() {
-        T[] temp = (T[]) (new Object[this.vertices.length]);
-        System.arraycopy(this.vertices, 0, temp, 0, this.vertices.length);
-        this.vertices = (T[]) (new Object[this.vertices.length * 2]);
-        System.arraycopy(temp, 0, this.vertices, 0, temp.length);
+    /**
+     * Graph class constructor, with room for the given number of vertices.
+     *
+     * @param storage the storage of the edges
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the storage is null or not empty
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public Graph(GraphStorageADT storage, int capacity) {
+        this(storage);
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        this.ensureCapacity(capacity);
     }
 
-    private void expandCapacity() {
-        int oldLenght = this.vertices.length;
-        int newLenght = this.vertices.length * 2;
-        this.expandVertices();
-        boolean[][] temp = new boolean[newLenght][newLenght];
+    /**
+     * Getter for how the vertices are removed.
+     *
+     * @return how the vertices are removed
+     */
+    public VertexRemoval getVertexRemoval() {
+        return this.vertexRemoval;
+    }
 
-        for (int i = 0; i < oldLenght; i++) {
-            System.arraycopy(this.adjMatrix[i], 0, temp[i], 0, oldLenght);
+    /**
+     * Setter for how the vertices are removed. SHIFT keeps the order of the
+     * vertices, SWAP_WITH_LAST does not, but it does not move the other
+     * vertices and their edges.
+     *
+     * @param vertexRemoval how the vertices are removed
+     * @throws IllegalArgumentException if the vertexRemoval is null
+     */
+    public void setVertexRemoval(VertexRemoval vertexRemoval) {
+        if (vertexRemoval == null) {
+            throw new IllegalArgumentException("Removal is invalid.");
         }
-        this.adjMatrix = temp;
+        this.vertexRemoval = vertexRemoval;
+    }
+
+    private void expandVertices(int capacity) {
+        T[] temp = (T[]) (new Object[capacity]);
+        System.arraycopy(this.vertices, 0, temp, 0, this.numVertices);
+        this.vertices = temp;
+    }
+
+    /**
+     * Makes room for the given number of vertices, so adding them does not
+     * expand this graph again.
+     *
+     * @param capacity the number of vertices
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.vertices.length) {
+            this.expandVertices(capacity);
+        }
+        this.storage.ensureCapacity(capacity);
     }
 
     /**
@@ -66,14 +158,49 @@ public class Graph<T> implements GraphADT<T> {
     @Override
     public void addVertex(T vertex) {
         if (this.numVertices == this.vertices.length) {
-            expandCapacity();
-        }
-        this.vertices[this.numVertices] = vertex;
-        for (int i = 0; i <= this.numVertices; i++) {
-            this.adjMatrix[this.numVertices][i] = false;
-            this.adjMatrix[i][this.numVertices] = false;
+            this.expandVertices(this.vertices.length * 2);
         }
+        this.index(vertex, this.numVertices);
+        this.storage.addVertex();
         this.numVertices++;
+        this.modCount++;
+    }
+
+    /**
+     * Adds the vertices to this graph at once, in their order. The vertices
+     * and the storage are expanded at most once.
+     *
+     * @param vertices the vertices to be added to this graph
+     * @throws IllegalArgumentException if the array is null
+     */
+    public void addVertices(T[] vertices) {
+        if (vertices == null) {
+            throw new IllegalArgumentException("Vertices are null.");
+        }
+        int total = this.numVertices + vertices.length;
+        if (total > this.vertices.length) {
+            this.expandVertices(Math.max(total, this.vertices.length * 2));
+        }
+        System.arraycopy(vertices, 0, this.vertices, this.numVertices,
+                vertices.length);
+        for (int i = this.numVertices; i < total; i++) {
+            this.index(this.vertices[i], i);
+        }
+        this.storage.addVertices(vertices.length);
+        this.numVertices = total;
+        this.modCount++;
+    }
+
+    private void index(T vertex, int index) {
+        this.vertices[index] = vertex;
+        if (vertex == null) {
+            return;
+        }
+        if (this.vertexIndices.containsKey(vertex)) {
+            this.duplicates++;
+        } else {
+            this.vertexIndices.put(vertex, index);
+        }
     }
 
     /**
@@ -83,14 +210,69 @@ public class Graph<T> implements GraphADT<T> {
      * @return the vertex index
      */
     protected int findVertex(T vertex) {
-        int found = -1;
+        if (vertex == null) {
+            return -1;
+        }
+        Integer found = this.vertexIndices.get(vertex);
+        if (found == null) {
+            return -1;
+        }
+        return found;
+    }
+
+    /**
+     * Updates the vertexIndices after the vertex at the given index is
+     * removed and the following vertices are shifted one index down. When
+     * there are equal vertices the first one keeps being the indexed one.
+     *
+     * @param removed the removed vertex
+     * @param index the index of the removed vertex
+     */
+    private void shiftIndices(T removed, int index) {
+        this.vertexIndices.remove(removed);
+        for (int i = index; i < this.numVertices; i++) {
+            T vertex = this.vertices[i];
+            if (vertex == null) {
+                continue;
+            }
+            Integer current = this.vertexIndices.get(vertex);
+            if (current == null || current == i + 1) {
+                this.vertexIndices.put(vertex, i);
+            }
+        }
+        if (this.vertexIndices.containsKey(removed)) {
+            this.duplicates--;
+        }
+    }
+
+    /**
+     * Updates the vertexIndices after the vertex at the given index is
+     * removed and the last vertex takes its index. The vertices are only
+     * scanned for one equal to the removed vertex if there are equal
+     * vertices.
+     *
+     * @param removed the removed vertex
+     * @param index the index of the removed vertex
+     */
+    private void swapIndices(T removed, int index) {
+        this.vertexIndices.remove(removed);
+        T moved = this.vertices[index];
+        if (moved != null && index != this.numVertices) {
+            Integer current = this.vertexIndices.get(moved);
+            if (current != null && current == this.numVertices) {
+                this.vertexIndices.put(moved, index);
+            }
+        }
+        if (this.duplicates == 0) {
+            return;
+        }
         for (int i = 0; i < this.numVertices; i++) {
-            if (this.vertices[i].equals(vertex)) {
-                found = i;
-                break;
+            if (removed.equals(this.vertices[i])) {
+                this.vertexIndices.put(this.vertices[i], i);
+                this.duplicates--;
+                return;
             }
         }
-        return found;
     }
 
     private void shiftArray(int index) {
@@ -104,21 +286,9 @@ public class Graph<T> implements GraphADT<T> {
         }
     }
 
-    private void shiftMatrix(int index) {
-        for (int i = index; i < this.numVertices; i++) {
-            for (int j = 0; j <= this.numVertices; j++) {
-                this.adjMatrix[i][j] = this.adjMatrix[i + 1][j];
-            }
-        }
-        for (int i = index; i < numVertices; i++) {
-            for (int j = 0; j < numVertices; j++) {
-                this.adjMatrix[j][i] = this.adjMatrix[j][i + 1];
-            }
-        }
-    }
-
     /**
-     * Removes a single vertex with the given value from this graph.
+     * Removes a single vertex with the given value from this graph, as set by
+     * setVertexRemoval.
      *
      * @param vertex the vertex to be removed from this graph
      */
@@ -131,9 +301,20 @@ public class Graph<T> implements GraphADT<T> {
         if (index < 0) {
             return;
         }
-        this.shiftArray(index);
-        this.numVertices--;
-        this.shiftMatrix(index);
+        T removed = this.vertices[index];
+        if (this.vertexRemoval == VertexRemoval.SWAP_WITH_LAST) {
+            this.numVertices--;
+            this.vertices[index] = this.vertices[this.numVertices];
+            this.vertices[this.numVertices] = null;
+            this.swapIndices(removed, index);
+            this.storage.swapRemoveVertex(index);
+        } else {
+            this.shiftArray(index);
+            this.numVertices--;
+            this.shiftIndices(removed, index);
+            this.storage.removeVertex(index);
+        }
+        this.modCount++;
     }
 
     /**
@@ -150,9 +331,10 @@ public class Graph<T> implements GraphADT<T> {
         int index1 = this.findVertex(vertex1);
         int index2 = this.findVertex(vertex2);
 
-        if (index1 >= 0 && index2 >= 0) {
-            this.adjMatrix[index1][index2] = true;
-            this.adjMatrix[index2][index1] = true;
+        if (index1 >= 0 && index2 >= 0
+                && !this.storage.hasEdge(index1, index2)) {
+            this.storage.setEdge(index1, index2, Double.POSITIVE_INFINITY);
+            this.modCount++;
         }
     }
 
@@ -171,8 +353,8 @@ public class Graph<T> implements GraphADT<T> {
         int index2 = this.findVertex(vertex2);
 
         if (index1 >= 0 && index2 >= 0) {
-            this.adjMatrix[index1][index2] = false;
-            this.adjMatrix[index2][index1] = false;
+            this.storage.removeEdge(index1, index2);
+            this.modCount++;
         }
     }
 
@@ -186,7 +368,7 @@ public class Graph<T> implements GraphADT<T> {
     public Iterator iteratorBFS(T startVertex) {
         int x;
         LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
-        LinkedUnorderedList<T> resultList = new LinkedUnorderedList<>();
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
         boolean[] visited = new boolean[this.numVertices];
         int startIndex = this.findVertex(startVertex);
 
@@ -202,8 +384,10 @@ public class Graph<T> implements GraphADT<T> {
         while (!traversalQueue.isEmpty()) {
             x = traversalQueue.dequeue();
             resultList.addToRear(this.vertices[x]);
-            for (int i = 0; i < this.numVertices; i++) {
-                if (this.adjMatrix[x][i] && !visited[i]) {
+            for (int c = this.storage.nextEdge(x, -1); c >= 0;
+                    c = this.storage.nextEdge(x, c)) {
+                int i = this.storage.edgeTarget(x, c);
+                if (!visited[i]) {
                     traversalQueue.enqueue(i);
                     visited[i] = true;
                 }
@@ -223,7 +407,7 @@ public class Graph<T> implements GraphADT<T> {
         int x;
         boolean found;
         LinkedStack<Integer> traversalStack = new LinkedStack<>();
-        LinkedUnorderedList<T> resultList = new LinkedUnorderedList<>();
+        ArrayUnorderedList<T> resultList = new ArrayUnorderedList<>();
         boolean[] visited = new boolean[this.numVertices];
         int startIndex = this.findVertex(startVertex);
 
@@ -240,8 +424,10 @@ public class Graph<T> implements GraphADT<T> {
         while (!traversalStack.isEmpty()) {
             x = traversalStack.peek();
             found = false;
-            for (int i = 0; (i < this.numVertices) && !found; i++) {
-                if (this.adjMatrix[x][i] && !visited[i]) {
+            for (int c = this.storage.nextEdge(x, -1); c >= 0 && !found;
+                    c = this.storage.nextEdge(x, c)) {
+                int i = this.storage.edgeTarget(x, c);
+                if (!visited[i]) {
                     traversalStack.push(i);
                     resultList.addToRear(this.vertices[i]);
                     visited[i] = true;
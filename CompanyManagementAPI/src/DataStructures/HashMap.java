@@ -0,0 +1,384 @@
+package DataStructures;
+
+import DataStructuresInterfaces.MapADT;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * A hash table with separate chaining.
+ *
+ * @author Simão
+ * @param <K>
+ * @param <V>
+ */
+public class HashMap<K, V> implements MapADT<K, V> {
+
+    /**
+     * Default number of buckets, must be a power of two.
+     */
+    protected final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The buckets are doubled when size > buckets * LOAD_FACTOR.
+     */
+    protected final double LOAD_FACTOR = 0.75;
+
+    /**
+     * The buckets.
+     */
+    protected HashEntry<K, V>[] table;
+
+    /**
+     * Counts the number of keys.
+     */
+    protected int counter;
+
+    /**
+     * Counts the number of operations.
+     */
+    protected int modCount;
+
+    /**
+     * HashMap class constructor.
+     */
+    public HashMap() {
+        this.table = this.newTable(DEFAULT_CAPACITY);
+        this.counter = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * HashMap class constructor.
+     *
+     * @param expectedSize the number of keys to hold without resizing
+     * @throws IllegalArgumentException if the expectedSize is negative
+     */
+    public HashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Size is invalid.");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        this.table = this.newTable(capacity);
+        this.counter = 0;
+        this.modCount = 0;
+    }
+
+    /**
+     * Creates an empty table of buckets.
+     *
+     * @param capacity the number of buckets
+     * @return the buckets
+     */
+    @SuppressWarnings("unchecked")
+    private HashEntry<K, V>[] newTable(int capacity) {
+        return (HashEntry<K, V>[]) new HashEntry<?, ?>[capacity];
+    }
+
+    /**
+     * The hash of a key, spreading the high bits to the low ones.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    protected int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the entry of a key.
+     *
+     * @param key the key
+     * @return the entry of the key, or null
+     */
+    protected HashEntry<K, V> getEntry(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = this.hash(key);
+        HashEntry<K, V> entry = this.table[hash & (this.table.length - 1)];
+        while (entry != null) {
+            if (entry.hash == hash && key.equals(entry.key)) {
+                return entry;
+            }
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the entry of a new key.
+     *
+     * @param hash the hash of the key
+     * @param key the key
+     * @param value the value
+     * @return the entry
+     */
+    protected HashEntry<K, V> newEntry(int hash, K key, V value) {
+        return new HashEntry<>(hash, key, value);
+    }
+
+    /**
+     * Called after an entry is removed from its bucket.
+     *
+     * @param entry the removed entry
+     */
+    protected void entryRemoved(HashEntry<K, V> entry) {
+    }
+
+    private void expandCapacity() {
+        HashEntry<K, V>[] old = this.table;
+        this.table = this.newTable(old.length * 2);
+
+        for (int i = 0; i < old.length; i++) {
+            HashEntry<K, V> entry = old[i];
+            while (entry != null) {
+                HashEntry<K, V> next = entry.next;
+                int bucket = entry.hash & (this.table.length - 1);
+                entry.next = this.table[bucket];
+                this.table[bucket] = entry;
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Associates a value with a key, replacing the previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @throws IllegalArgumentException if the key is null
+     * @return the previous value associated with the key, or null
+     */
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key is null.");
+        }
+        HashEntry<K, V> entry = this.getEntry(key);
+        if (entry != null) {
+            V old = entry.value;
+            entry.value = value;
+            return old;
+        }
+        if (this.counter + 1 > this.table.length * LOAD_FACTOR) {
+            this.expandCapacity();
+        }
+        int hash = this.hash(key);
+        int bucket = hash & (this.table.length - 1);
+        entry = this.newEntry(hash, key, value);
+        entry.next = this.table[bucket];
+        this.table[bucket] = entry;
+        this.counter++;
+        this.modCount++;
+        return null;
+    }
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key
+     * @return the value associated with the key, or null
+     */
+    @Override
+    public V get(K key) {
+        HashEntry<K, V> entry = this.getEntry(key);
+        if (entry == null) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Removes a key and its value from this map.
+     *
+     * @param key the key to be removed
+     * @return the value that was associated with the key, or null
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = this.hash(key);
+        int bucket = hash & (this.table.length - 1);
+        HashEntry<K, V> previous = null;
+        HashEntry<K, V> entry = this.table[bucket];
+
+        while (entry != null) {
+            if (entry.hash == hash && key.equals(entry.key)) {
+                if (previous == null) {
+                    this.table[bucket] = entry.next;
+                } else {
+                    previous.next = entry.next;
+                }
+                this.counter--;
+                this.modCount++;
+                this.entryRemoved(entry);
+                return entry.value;
+            }
+            previous = entry;
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if this map contains the key.
+     *
+     * @param key the key
+     * @return true if this map contains the key
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return this.getEntry(key) != null;
+    }
+
+    /**
+     * Returns true if this map contains no keys.
+     *
+     * @return true if this map is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.counter == 0;
+    }
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys in this map
+     */
+    @Override
+    public int size() {
+        return this.counter;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map.
+     *
+     * @return an iterator over the keys of this map
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new HashMapIterator<>(entry -> entry.key);
+    }
+
+    /**
+     * Returns an iterator over the values of this map.
+     *
+     * @return an iterator over the values of this map
+     */
+    @Override
+    public Iterator<V> values() {
+        return new HashMapIterator<>(entry -> entry.value);
+    }
+
+    /**
+     * Returns a string representation of this map.
+     *
+     * @return a string representation of this map
+     */
+    @Override
+    public String toString() {
+        if (this.isEmpty()) {
+            return null;
+        }
+        String str = "";
+        Iterator<K> it = this.keys();
+        while (it.hasNext()) {
+            K key = it.next();
+            str += key + "=" + this.get(key);
+            if (it.hasNext()) {
+                str += "; ";
+            }
+        }
+        return str;
+    }
+
+    /**
+     * An entry of the HashMap.
+     *
+     * @param <K>
+     * @param <V>
+     */
+    protected static class HashEntry<K, V> {
+
+        /**
+         * The hash of the key.
+         */
+        protected final int hash;
+
+        /**
+         * The key.
+         */
+        protected final K key;
+
+        /**
+         * The value.
+         */
+        protected V value;
+
+        /**
+         * The next entry in the same bucket.
+         */
+        protected HashEntry<K, V> next;
+
+        /**
+         * HashEntry class constructor.
+         *
+         * @param hash the hash of the key
+         * @param key the key
+         * @param value the value
+         */
+        protected HashEntry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private class HashMapIterator<E> implements Iterator<E> {
+
+        private final int expectedModcount;
+        private final Function<HashEntry<K, V>, E> element;
+        private HashEntry<K, V> next;
+        private int bucket;
+
+        private HashMapIterator(Function<HashEntry<K, V>, E> element) {
+            this.expectedModcount = HashMap.this.modCount;
+            this.element = element;
+            this.bucket = 0;
+            this.advance();
+        }
+
+        private void advance() {
+            HashEntry<K, V>[] table = HashMap.this.table;
+            while (this.next == null && this.bucket < table.length) {
+                this.next = table[this.bucket++];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public E next() {
+            if (this.expectedModcount != HashMap.this.modCount) {
+                throw new IllegalStateException();
+            }
+            if (!this.hasNext()) {
+                return null;
+            }
+            HashEntry<K, V> current = this.next;
+            this.next = current.next;
+            this.advance();
+            return this.element.apply(current);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package DataStructures;
+
+import DataStructuresInterfaces.IndexedPriorityQueueADT;
+
+/**
+ *
+ * @author Simão
+ */
+public class IndexedBinaryHeap implements IndexedPriorityQueueADT {
+
+    /**
+     * The heap, stores the indices ordered by key.
+     */
+    private final int[] heap;
+
+    /**
+     * The position of each index in the heap, -1 if it is not in the heap.
+     */
+    private final int[] position;
+
+    /**
+     * The key of each index.
+     */
+    private final double[] keys;
+
+    /**
+     * The number of indices in the heap.
+     */
+    private int count;
+
+    /**
+     * IndexedBinaryHeap class constructor.
+     *
+     * @param capacity the number of indices this heap accepts, [0, capacity[
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IndexedBinaryHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
+        }
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        this.count = 0;
+        for (int i = 0; i < capacity; i++) {
+            this.position[i] = -1;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.position.length) {
+            throw new IllegalArgumentException("Index is invalid.");
+        }
+    }
+
+    private boolean less(int i, int j) {
+        int a = this.heap[i];
+        int b = this.heap[j];
+        if (this.keys[a] != this.keys[b]) {
+            return this.keys[a] < this.keys[b];
+        }
+        return a < b;
+    }
+
+    private void swap(int i, int j) {
+        int tmp = this.heap[i];
+        this.heap[i] = this.heap[j];
+        this.heap[j] = tmp;
+        this.position[this.heap[i]] = i;
+        this.position[this.heap[j]] = j;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!this.less(i, parent)) {
+                return;
+            }
+            this.swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (2 * i + 1 < this.count) {
+            int child = 2 * i + 1;
+            if (child + 1 < this.count && this.less(child + 1, child)) {
+                child++;
+            }
+            if (!this.less(child, i)) {
+                return;
+            }
+            this.swap(i, child);
+            i = child;
+        }
+    }
+
+    /**
+     * Inserts an index into this queue with the given key.
+     *
+     * @param index the index to be inserted
+     * @param key the key associated with the index
+     * @throws IllegalArgumentException if the index is out of bounds or is
+     * already in this queue
+     */
+    @Override
+    public void insert(int index, double key) {
+        this.checkIndex(index);
+        if (this.contains(index)) {
+            throw new IllegalArgumentException("Index is already queued.");
+        }
+        this.keys[index] = key;
+        this.heap[this.count] = index;
+        this.position[index] = this.count;
+        this.count++;
+        this.siftUp(this.count - 1);
+    }
+
+    /**
+     * Decreases the key associated with an index of this queue.
+     *
+     * @param index the index whose key is decreased
+     * @param key the new key
+     * @throws IllegalArgumentException if the index is not in this queue or if
+     * the new key is greater than the current key
+     */
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!this.contains(index)) {
+            throw new IllegalArgumentException("Index is not queued.");
+        }
+        if (key > this.keys[index]) {
+            throw new IllegalArgumentException("Key is greater than current.");
+        }
+        this.keys[index] = key;
+        this.siftUp(this.position[index]);
+    }
+
+    /**
+     * Removes and returns the index with the smallest key. Ties are broken by
+     * the smallest index.
+     *
+     * @return the index with the smallest key
+     * @throws IllegalStateException if this queue is empty
+     */
+    @Override
+    public int removeMin() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("The heap is empty.");
+        }
+        int min = this.heap[0];
+        this.count--;
+        if (this.count > 0) {
+            this.heap[0] = this.heap[this.count];
+            this.position[this.heap[0]] = 0;
+            this.siftDown(0);
+        }
+        this.position[min] = -1;
+        return min;
+    }
+
+    /**
+     * Returns without removing the index with the smallest key. Ties are
+     * broken by the smallest index.
+     *
+     * @return the index with the smallest key
+     * @throws IllegalStateException if this queue is empty
+     */
+    @Override
+    public int min() {
+        if (this.isEmpty()) {
+            throw new IllegalStateException("The heap is empty.");
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * Returns true if this queue contains the given index.
+     *
+     * @param index the index
+     * @return true if this queue contains the index
+     */
+    @Override
+    public boolean contains(int index) {
+        this.checkIndex(index);
+        return this.position[index] >= 0;
+    }
+
+    /**
+     * Returns the key associated with an index of this queue.
+     *
+     * @param index the index
+     * @return the key associated with the index
+     * @throws IllegalArgumentException if the index is not in this queue
+     */
+    @Override
+    public double getKey(int index) {
+        if (!this.contains(index)) {
+            throw new IllegalArgumentException("Index is not queued.");
+        }
+        return this.keys[index];
+    }
+
+    /**
+     * Returns true if this queue contains no indices.
+     *
+     * @return true if this queue is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Returns the number of indices in this queue.
+     *
+     * @return the number of indices in this queue
+     */
+    @Override
+    public int size() {
+        return this.count;
+    }
+}
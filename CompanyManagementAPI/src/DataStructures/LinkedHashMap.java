@@ -0,0 +1,168 @@
+package DataStructures;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * A HashMap that iterates its keys and values in insertion order. Replacing
+ * the value of a key keeps its place.
+ *
+ * @author Simão
+ * @param <K>
+ * @param <V>
+ */
+public class LinkedHashMap<K, V> extends HashMap<K, V> {
+
+    /**
+     * The first inserted entry.
+     */
+    protected LinkedHashEntry<K, V> head;
+
+    /**
+     * The last inserted entry.
+     */
+    protected LinkedHashEntry<K, V> tail;
+
+    /**
+     * LinkedHashMap class constructor.
+     */
+    public LinkedHashMap() {
+        super();
+    }
+
+    /**
+     * LinkedHashMap class constructor.
+     *
+     * @param expectedSize the number of keys to hold without resizing
+     * @throws IllegalArgumentException if the expectedSize is negative
+     */
+    public LinkedHashMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * Creates the entry of a new key and links it after the last one.
+     *
+     * @param hash the hash of the key
+     * @param key the key
+     * @param value the value
+     * @return the entry
+     */
+    @Override
+    protected HashEntry<K, V> newEntry(int hash, K key, V value) {
+        LinkedHashEntry<K, V> entry = new LinkedHashEntry<>(hash, key, value);
+        if (this.tail == null) {
+            this.head = entry;
+        } else {
+            this.tail.after = entry;
+            entry.before = this.tail;
+        }
+        this.tail = entry;
+        return entry;
+    }
+
+    /**
+     * Unlinks a removed entry.
+     *
+     * @param entry the removed entry
+     */
+    @Override
+    protected void entryRemoved(HashEntry<K, V> entry) {
+        LinkedHashEntry<K, V> linked = (LinkedHashEntry<K, V>) entry;
+        if (linked.before == null) {
+            this.head = linked.after;
+        } else {
+            linked.before.after = linked.after;
+        }
+        if (linked.after == null) {
+            this.tail = linked.before;
+        } else {
+            linked.after.before = linked.before;
+        }
+        linked.before = null;
+        linked.after = null;
+    }
+
+    /**
+     * Returns an iterator over the keys of this map, in insertion order.
+     *
+     * @return an iterator over the keys of this map
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new LinkedHashMapIterator<>(entry -> entry.key);
+    }
+
+    /**
+     * Returns an iterator over the values of this map, in insertion order.
+     *
+     * @return an iterator over the values of this map
+     */
+    @Override
+    public Iterator<V> values() {
+        return new LinkedHashMapIterator<>(entry -> entry.value);
+    }
+
+    /**
+     * An entry of the LinkedHashMap.
+     *
+     * @param <K>
+     * @param <V>
+     */
+    protected static class LinkedHashEntry<K, V> extends HashEntry<K, V> {
+
+        /**
+         * The entry inserted before this one.
+         */
+        protected LinkedHashEntry<K, V> before;
+
+        /**
+         * The entry inserted after this one.
+         */
+        protected LinkedHashEntry<K, V> after;
+
+        /**
+         * LinkedHashEntry class constructor.
+         *
+         * @param hash the hash of the key
+         * @param key the key
+         * @param value the value
+         */
+        protected LinkedHashEntry(int hash, K key, V value) {
+            super(hash, key, value);
+        }
+    }
+
+    private class LinkedHashMapIterator<E> implements Iterator<E> {
+
+        private final int expectedModcount;
+        private final Function<LinkedHashEntry<K, V>, E> element;
+        private LinkedHashEntry<K, V> next;
+
+        private LinkedHashMapIterator(
+                Function<LinkedHashEntry<K, V>, E> element) {
+
+            this.expectedModcount = LinkedHashMap.this.modCount;
+            this.element = element;
+            this.next = LinkedHashMap.this.head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public E next() {
+            if (this.expectedModcount != LinkedHashMap.this.modCount) {
+                throw new IllegalStateException();
+            }
+            if (!this.hasNext()) {
+                return null;
+            }
+            LinkedHashEntry<K, V> current = this.next;
+            this.next = current.after;
+            return this.element.apply(current);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package DataStructures;
 
 import DataStructuresInterfaces.QueueADT;
+import java.util.Iterator;
 
 /**
  *
@@ -12,9 +13,11 @@ public class LinkedQueue<T> implements QueueADT<T> {
     private Node<T> front;
     private Node<T> rear;
     private int count;
+    private int modCount;
 
     public LinkedQueue() {
         this.count = 0;
+        this.modCount = 0;
     }
 
     /**
@@ -35,6 +38,7 @@ public class LinkedQueue<T> implements QueueADT<T> {
             this.rear = this.rear.getNext();
         }
         this.count++;
+        this.modCount++;
     }
 
     /**
@@ -48,6 +52,7 @@ public class LinkedQueue<T> implements QueueADT<T> {
             return null;
         }
 
+        this.modCount++;
         if (this.count == 1) {
             T removed = this.front.getData();
             this.front = null;
@@ -94,6 +99,17 @@ public class LinkedQueue<T> implements QueueADT<T> {
         return this.count;
     }
 
+    /**
+     * Returns a read-only iterator over the elements of this queue, from the
+     * front, without copying them.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedQueueIterator();
+    }
+
     /**
      * Returns a string representation of this queue.
      *
@@ -115,4 +131,33 @@ public class LinkedQueue<T> implements QueueADT<T> {
         tmp += n.getData();
         return tmp;
     }
+
+    private class LinkedQueueIterator implements Iterator<T> {
+
+        private final int expectedModcount;
+        private Node<T> next;
+
+        private LinkedQueueIterator() {
+            this.expectedModcount = LinkedQueue.this.modCount;
+            this.next = LinkedQueue.this.front;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.expectedModcount != LinkedQueue.this.modCount) {
+                throw new IllegalStateException();
+            }
+            if (!this.hasNext()) {
+                return null;
+            }
+            T data = this.next.getData();
+            this.next = this.next.getNext();
+            return data;
+        }
+    }
 }
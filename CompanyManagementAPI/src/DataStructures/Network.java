@@ -1,9 +1,15 @@
 package DataStructures;
 
+import DataStructuresInterfaces.GraphStorageADT;
 import DataStructuresInterfaces.NetworkADT;
 import DataStructuresInterfaces.OrderedListADT;
 import DataStructuresInterfaces.UnorderedListADT;
+import Metrics.Counter;
+import Metrics.Histogram;
+import Metrics.MetricsRegistry;
 import java.util.Iterator;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
 /**
  *
@@ -13,62 +19,125 @@ import java.util.Iterator;
 public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
     /**
-     * the weights matrix.
+     * The number of times Dijkstra's algorithm was run, by any network.
      */
-    protected double[][] weights;
+    private static final Counter DIJKSTRA_RUNS = MetricsRegistry.getDefault()
+            .counter("network.dijkstra.runs");
 
     /**
-     * Network class constructor.
+     * How long finding a shortest path between two vertices takes.
+     */
+    private static final Histogram SHORTEST_PATH_NANOS = MetricsRegistry
+            .getDefault().histogram("network.shortestPath.nanos");
+
+    /**
+     * The algorithm used to find the shortest paths.
+     */
+    protected ShortestPathEngine shortestPathEngine;
+
+    /**
+     * Network class constructor, the edges are stored in an adjacency matrix.
      */
     public Network() {
-        super();
-        this.weights = new double[super.DEFAULT_CAPACITY][super.DEFAULT_CAPACITY];
+        this(ShortestPathEngine.BINARY_HEAP);
     }
 
-    private void setEdgeWeight(T vertex1, T vertex2, double weight) {
-        int index1 = super.findVertex(vertex1);
-        int index2 = super.findVertex(vertex2);
-        if (index1 >= 0 || index2 >= 0) {
-            this.weights[index1][index2] = weight;
-            this.weights[index2][index1] = weight;
-        }
+    /**
+     * Network class constructor, the edges are stored in an adjacency matrix.
+     *
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public Network(ShortestPathEngine shortestPathEngine) {
+        this(new AdjacencyMatrixStorage(), shortestPathEngine);
     }
 
     /**
-     * Inserts an edge between two vertices of this graph.
+     * Network class constructor, the edges are stored in an adjacency matrix
+     * with room for the given number of vertices.
      *
-     * @param vertex1 the first vertex
-     * @param vertex2 the second vertex
-     * @param weight the weight
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the capacity is negative
      */
-    @Override
-    public void addEdge(T vertex1, T vertex2, double weight) {
-        if (weight < 0) {
-            throw new IllegalArgumentException("Weight must be > 0");
+    public Network(int capacity) {
+        this(new AdjacencyMatrixStorage(capacity), capacity);
+    }
+
+    /**
+     * Network class constructor.
+     *
+     * @param storage the storage of the edges
+     * @throws IllegalArgumentException if the storage is null or not empty
+     */
+    public Network(GraphStorageADT storage) {
+        this(storage, ShortestPathEngine.BINARY_HEAP);
+    }
+
+    /**
+     * Network class constructor, with room for the given number of vertices.
+     *
+     * @param storage the storage of the edges
+     * @param capacity the number of vertices
+     * @throws IllegalArgumentException if the storage is null or not empty
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public Network(GraphStorageADT storage, int capacity) {
+        this(storage);
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity is invalid.");
         }
-        super.addEdge(vertex1, vertex2);
-        this.setEdgeWeight(vertex1, vertex2, weight);
+        super.ensureCapacity(capacity);
     }
 
-    private void expandCapacity() {
-        int oldLenght = super.vertices.length;
-        int newLenght = super.vertices.length * 2;
-        double[][] temp = new double[newLenght][newLenght];
+    /**
+     * Network class constructor.
+     *
+     * @param storage the storage of the edges
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the storage is null or not empty
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public Network(GraphStorageADT storage,
+            ShortestPathEngine shortestPathEngine) {
 
-        for (int i = 0; i < oldLenght; i++) {
-            System.arraycopy(this.weights[i], 0, temp[i], 0, oldLenght);
+        super(storage);
+        this.setShortestPathEngine(shortestPathEngine);
+    }
+
+    /**
+     * Getter for the algorithm used to find the shortest paths.
+     *
+     * @return the algorithm used to find the shortest paths
+     */
+    public ShortestPathEngine getShortestPathEngine() {
+        return this.shortestPathEngine;
+    }
+
+    /**
+     * Setter for the algorithm used to find the shortest paths.
+     *
+     * @param shortestPathEngine the algorithm used to find the shortest paths
+     * @throws IllegalArgumentException if the shortestPathEngine is null
+     */
+    public void setShortestPathEngine(ShortestPathEngine shortestPathEngine) {
+        if (shortestPathEngine == null) {
+            throw new IllegalArgumentException("Engine is invalid.");
         }
-        this.weights = temp;
+        this.shortestPathEngine = shortestPathEngine;
     }
 
     /**
-     * Removes an edge between two vertices of this graph.
+     * Inserts an edge between two vertices of this graph.
      *
      * @param vertex1 the first vertex
      * @param vertex2 the second vertex
+     * @param weight the weight
      */
     @Override
-    public void removeEdge(T vertex1, T vertex2) {
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must be > 0");
+        }
         if (super.isEmpty()) {
             return;
         }
@@ -76,54 +145,51 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         int index2 = super.findVertex(vertex2);
 
         if (index1 >= 0 && index2 >= 0) {
-            this.weights[index1][index2] = Double.POSITIVE_INFINITY;
-            this.weights[index2][index1] = Double.POSITIVE_INFINITY;
+            super.storage.setEdge(index1, index2, weight);
+            super.modCount++;
         }
     }
 
     /**
-     * Adds a vertex to this graph, associating object with vertex.
+     * Inserts an edge between the vertices at the same positions of two
+     * arrays for each weight, at once. The result is the same as calling
+     * addEdge for each one in order, but the storage is filled in one pass,
+     * in parallel when there are many edges.
      *
-     * @param vertex the vertex to be added to this graph
+     * @param vertices1 the first vertices
+     * @param vertices2 the second vertices
+     * @param weights the weights
+     * @throws IllegalArgumentException if an array is null, the arrays have
+     * different lengths or a weight is negative
      */
     @Override
-    public void addVertex(T vertex) {
-        if (super.numVertices == super.vertices.length) {
-            expandCapacity();
-        }
-        super.addVertex(vertex);
-        for (int i = 0; i < super.numVertices; i++) {
-            this.weights[super.numVertices - 1][i] = Double.POSITIVE_INFINITY;
-            this.weights[i][super.numVertices - 1] = Double.POSITIVE_INFINITY;
+    public void addEdges(T[] vertices1, T[] vertices2, double[] weights) {
+        if (vertices1 == null || vertices2 == null || weights == null
+                || vertices1.length != weights.length
+                || vertices2.length != weights.length) {
+            throw new IllegalArgumentException("The edges are invalid.");
         }
-    }
-
-    private void shiftMatrix(int index) {
-        for (int i = index; i < super.numVertices; i++) {
-            for (int j = 0; j <= super.numVertices; j++) {
-                this.weights[i][j] = this.weights[i + 1][j];
+        int[] indices1 = new int[weights.length];
+        int[] indices2 = new int[weights.length];
+        double[] edgeWeights = new double[weights.length];
+        int count = 0;
+
+        for (int k = 0; k < weights.length; k++) {
+            if (weights[k] < 0) {
+                throw new IllegalArgumentException("Weight must be > 0");
             }
-        }
-        for (int i = index; i < super.numVertices; i++) {
-            for (int j = 0; j < super.numVertices; j++) {
-                this.weights[j][i] = this.weights[j][i + 1];
+            int index1 = super.findVertex(vertices1[k]);
+            int index2 = super.findVertex(vertices2[k]);
+            if (index1 >= 0 && index2 >= 0) {
+                indices1[count] = index1;
+                indices2[count] = index2;
+                edgeWeights[count++] = weights[k];
             }
         }
-    }
-
-    /**
-     * Removes a single vertex with the given value from this graph.
-     *
-     * @param vertex the vertex to be removed from this graph
-     */
-    @Override
-    public void removeVertex(T vertex) {
-        int index = this.findVertex(vertex);
-        if (index < 0) {
-            return;
+        if (count > 0) {
+            super.storage.setEdges(indices1, indices2, edgeWeights, count);
+            super.modCount++;
         }
-        super.removeVertex(vertex);
-        this.shiftMatrix(index);
     }
 
     /**
@@ -140,9 +206,11 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         for (int i = 0; i < super.numVertices; i++) {
             if ((pathWeight[i] == weight) && !visited[i]) {
-                for (int j = 0; j < super.numVertices; j++) {
-                    if ((this.weights[i][j] < Double.POSITIVE_INFINITY)
-                            && visited[j]) {
+                for (int c = super.storage.nextEdge(i, -1); c >= 0;
+                        c = super.storage.nextEdge(i, c)) {
+                    if ((super.storage.edgeWeight(i, c)
+                            < Double.POSITIVE_INFINITY)
+                            && visited[super.storage.edgeTarget(i, c)]) {
                         return i;
                     }
                 }
@@ -162,6 +230,32 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
     protected Iterator<Integer> iteratorShortestPathIndices(int startIndex,
             int targetIndex) {
 
+        long start = SHORTEST_PATH_NANOS.start();
+        Iterator<Integer> path;
+        if (this.shortestPathEngine == ShortestPathEngine.ORDERED_LIST) {
+            DIJKSTRA_RUNS.increment();
+            path = this.iteratorShortestPathIndicesOrderedList(startIndex,
+                    targetIndex);
+        } else {
+            path = this.iteratorShortestPathIndicesBinaryHeap(startIndex,
+                    targetIndex);
+        }
+        SHORTEST_PATH_NANOS.stop(start);
+        return path;
+    }
+
+    /**
+     * Returns an iterator that contains the indices of the vertices that are in
+     * the shortest path between the two given vertices, using a
+     * LinkedOrderedList to pick the next vertex to visit.
+     *
+     * @param startIndex the start index
+     * @param targetIndex the target index
+     * @return the path iterator
+     */
+    protected Iterator<Integer> iteratorShortestPathIndicesOrderedList(
+            int startIndex, int targetIndex) {
+
         int index;
         double weight;
         int[] predecessor = new int[super.numVertices];
@@ -187,7 +281,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         for (int i = 0; i < super.numVertices; i++) {
             if (!visited[i]) {
                 pathWeight[i] = pathWeight[startIndex]
-                        + this.weights[startIndex][i];
+                        + super.storage.getWeight(startIndex, i);
                 predecessor[i] = startIndex;
                 orderedList.add(pathWeight[i]);
             }
@@ -206,13 +300,13 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
             for (int i = 0; i < super.numVertices; i++) {
                 if (!visited[i]) {
+                    double edgeWeight = super.storage.getWeight(index, i);
 
-                    if ((this.weights[index][i] < Double.POSITIVE_INFINITY)
-                            && (pathWeight[index] + this.weights[index][i])
+                    if ((edgeWeight < Double.POSITIVE_INFINITY)
+                            && (pathWeight[index] + edgeWeight)
                             < pathWeight[i]) {
 
-                        pathWeight[i] = pathWeight[index]
-                                + this.weights[index][i];
+                        pathWeight[i] = pathWeight[index] + edgeWeight;
 
                         predecessor[i] = index;
                     }
@@ -235,6 +329,164 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         return resultList.iterator();
     }
 
+    private void relax(int index, boolean[] visited, double[] pathWeight,
+            int[] predecessor, IndexedBinaryHeap heap) {
+
+        for (int c = super.storage.nextEdge(index, -1); c >= 0;
+                c = super.storage.nextEdge(index, c)) {
+            int i = super.storage.edgeTarget(index, c);
+            double edgeWeight = super.storage.edgeWeight(index, c);
+
+            if (!visited[i] && edgeWeight < Double.POSITIVE_INFINITY
+                    && (pathWeight[index] + edgeWeight) < pathWeight[i]) {
+
+                pathWeight[i] = pathWeight[index] + edgeWeight;
+                predecessor[i] = index;
+                if (heap.contains(i)) {
+                    heap.decreaseKey(i, pathWeight[i]);
+                } else {
+                    heap.insert(i, pathWeight[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs Dijkstra over an IndexedBinaryHeap from the start vertex until a
+     * target vertex is visited, or until every reachable vertex is visited.
+     * Vertices with the same path weight are visited by ascending index, so
+     * the paths are the same as the ones found by the LinkedOrderedList
+     * engine.
+     *
+     * @param startIndex the start index
+     * @param isTarget tests if a visited vertex ends the search, null to visit
+     * every reachable vertex
+     * @param pathWeight receives the weight of the path to each vertex
+     * @param predecessor receives the previous vertex of each path
+     * @param visited receives the visited vertices
+     * @return the index of the target that ended the search, -1 if none did
+     */
+    private int dijkstra(int startIndex, IntPredicate isTarget,
+            double[] pathWeight, int[] predecessor, boolean[] visited) {
+
+        DIJKSTRA_RUNS.increment();
+        IndexedBinaryHeap heap = new IndexedBinaryHeap(super.numVertices);
+
+        for (int i = 0; i < super.numVertices; i++) {
+            pathWeight[i] = Double.POSITIVE_INFINITY;
+            predecessor[i] = -1;
+        }
+        pathWeight[startIndex] = 0;
+        visited[startIndex] = true;
+        if (isTarget != null && isTarget.test(startIndex)) {
+            return startIndex;
+        }
+        this.relax(startIndex, visited, pathWeight, predecessor, heap);
+
+        while (!heap.isEmpty()) {
+            int index = heap.removeMin();
+            visited[index] = true;
+            if (isTarget != null && isTarget.test(index)) {
+                return this.lowestTargetWithSameWeight(index, isTarget,
+                        pathWeight, predecessor, visited, heap);
+            }
+            this.relax(index, visited, pathWeight, predecessor, heap);
+        }
+        return -1;
+    }
+
+    /**
+     * With edges of weight zero a vertex can be reached after another one
+     * with the same path weight and a greater index. Keeps visiting the
+     * vertices with the path weight of the found target and returns the one
+     * with the lowest index that is also a target.
+     */
+    private int lowestTargetWithSameWeight(int found, IntPredicate isTarget,
+            double[] pathWeight, int[] predecessor, boolean[] visited,
+            IndexedBinaryHeap heap) {
+
+        double weight = pathWeight[found];
+        int target = found;
+        int index = found;
+
+        while (true) {
+            this.relax(index, visited, pathWeight, predecessor, heap);
+            if (heap.isEmpty() || heap.getKey(heap.min()) != weight) {
+                return target;
+            }
+            index = heap.removeMin();
+            visited[index] = true;
+            if (index < target && isTarget.test(index)) {
+                target = index;
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator that contains the indices of the vertices that are in
+     * the shortest path between the two given vertices, using an
+     * IndexedBinaryHeap to pick the next vertex to visit.
+     *
+     * @param startIndex the start index
+     * @param targetIndex the target index
+     * @return the path iterator
+     */
+    protected Iterator<Integer> iteratorShortestPathIndicesBinaryHeap(
+            int startIndex, int targetIndex) {
+
+        int[] predecessor = new int[super.numVertices];
+        double[] pathWeight = new double[super.numVertices];
+        boolean[] visited = new boolean[super.numVertices];
+        UnorderedListADT<Integer> resultList = new LinkedUnorderedList<>();
+
+        int found = this.dijkstra(startIndex, i -> i == targetIndex,
+                pathWeight, predecessor, visited);
+        if (found < 0) {
+            return resultList.iterator();
+        }
+        for (int index = targetIndex; index != -1; index = predecessor[index]) {
+            resultList.addToFront(index);
+        }
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns the shortest paths from the vertex with the given index to every
+     * vertex of this network.
+     *
+     * @param startIndex the start index
+     * @return the shortest path tree
+     */
+    protected ShortestPathTree shortestPathTree(int startIndex) {
+        int[] predecessor = new int[super.numVertices];
+        double[] pathWeight = new double[super.numVertices];
+        boolean[] visited = new boolean[super.numVertices];
+
+        this.dijkstra(startIndex, null, pathWeight, predecessor, visited);
+        return new ShortestPathTree(startIndex, pathWeight, predecessor);
+    }
+
+    /**
+     * Returns the index of the vertex, matching the predicate, with the
+     * lightest path from the vertex with the given index. The search stops as
+     * soon as the first matching vertex is visited. Ties are broken by the
+     * lowest index.
+     *
+     * @param startIndex the start index
+     * @param predicate the predicate the vertex must match
+     * @return the index of the nearest matching vertex, -1 if no reachable
+     * vertex matches
+     */
+    protected int nearestVertexIndex(int startIndex, Predicate<T> predicate) {
+        int[] predecessor = new int[super.numVertices];
+        double[] pathWeight = new double[super.numVertices];
+        boolean[] visited = new boolean[super.numVertices];
+
+        return this.dijkstra(startIndex,
+                i -> predicate.test(super.vertices[i]), pathWeight, predecessor,
+                visited);
+    }
+
     /**
      * Returns the weight of the shortest path in this network.
      *
@@ -262,7 +514,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
 
         while (it.hasNext()) {
             index2 = it.next();
-            result += this.weights[index1][index2];
+            result += super.storage.getWeight(index1, index2);
             index1 = index2;
         }
         return result;
@@ -1,6 +1,11 @@
 package DataStructures;
 
 import AdaptedDataStructures.AdaptedNetwork;
+import AdaptedDataStructures.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 /**
  *
@@ -8,6 +13,310 @@ import AdaptedDataStructures.AdaptedNetwork;
  */
 public class NewMain {
 
+    private static String pathToString(Iterator<Integer> it) {
+        String str = "";
+        while (it.hasNext()) {
+            str += it.next() + ";";
+        }
+        return str;
+    }
+
+    private static String pathsToString(Iterator<Path<Integer>> it) {
+        String str = "";
+        while (it.hasNext()) {
+            Path<Integer> path = it.next();
+            str += path.getStart() + "-" + path.getDestination() + ":"
+                    + path.getWeight() + ";";
+        }
+        return str;
+    }
+
+    private static int compareNetworks(AdaptedNetwork<Integer> oracle,
+            List<AdaptedNetwork<Integer>> candidates, int size) {
+
+        int mismatches = 0;
+        String expectedRoads = pathsToString(oracle.getPaths());
+        for (AdaptedNetwork<Integer> candidate : candidates) {
+            if (!expectedRoads.equals(pathsToString(candidate.getPaths()))) {
+                System.out.println("Roads mismatch: " + expectedRoads);
+                mismatches++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            String bfs = pathToString(oracle.iteratorBFS(i));
+            String dfs = pathToString(oracle.iteratorDFS(i));
+            for (AdaptedNetwork<Integer> candidate : candidates) {
+                if (!bfs.equals(pathToString(candidate.iteratorBFS(i)))
+                        || !dfs.equals(pathToString(
+                                candidate.iteratorDFS(i)))) {
+                    System.out.println("Traversal mismatch from " + i);
+                    mismatches++;
+                }
+            }
+            for (int j = 0; j < size; j++) {
+                if (i == j) {
+                    continue;
+                }
+                String expected = pathToString(oracle.getShortestPath(i, j));
+                double expectedWeight = oracle.shortestPathWeight(i, j);
+                for (AdaptedNetwork<Integer> candidate : candidates) {
+                    String actual = pathToString(
+                            candidate.getShortestPath(i, j));
+                    if (!expected.equals(actual) || expectedWeight
+                            != candidate.shortestPathWeight(i, j)) {
+                        System.out.println("Mismatch " + i + " -> " + j
+                                + ": " + expected + " != " + actual);
+                        mismatches++;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            Integer expected = nearestMultipleOfThree(oracle, i);
+            for (AdaptedNetwork<Integer> candidate : candidates) {
+                Integer actual = candidate.getNearestVertex(i, v -> v % 3 == 0);
+                if (expected == null ? actual != null
+                        : !expected.equals(actual)) {
+                    System.out.println("Nearest mismatch from " + i + ": "
+                            + expected + " != " + actual);
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private static Integer nearestMultipleOfThree(
+            AdaptedNetwork<Integer> oracle, int source) {
+
+        Integer nearest = null;
+        double min = Double.POSITIVE_INFINITY;
+        if (oracle.getVertexIndex(source) < 0) {
+            return null;
+        }
+        Iterator<Integer> it = oracle.vertices();
+        while (it.hasNext()) {
+            int vertex = it.next();
+            if (vertex % 3 != 0) {
+                continue;
+            }
+            double weight = vertex == source ? 0
+                    : oracle.shortestPathWeight(source, vertex);
+            if (weight < min) {
+                min = weight;
+                nearest = vertex;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Compares the paths and weights found by the BINARY_HEAP engine, over
+     * the adjacency matrix and the adjacency list storages, with and without
+     * the shortest path cache and with a cache of two trees, against the
+     * ORDERED_LIST engine, on random networks with repeated weights and
+     * unreachable vertices. The networks are compared again after random
+     * edges are changed and removed and random vertices are removed. The
+     * traversals, the roads and the nearest vertex queries are also compared.
+     *
+     * @param networks the number of random networks
+     * @param seed the random seed
+     * @return the number of pairs where the engines disagree
+     */
+    private static int shortestPathOracle(int networks, long seed) {
+        Random random = new Random(seed);
+        int mismatches = 0;
+
+        for (int n = 0; n < networks; n++) {
+            int size = 2 + random.nextInt(30);
+            int edges = random.nextInt(size * 3);
+            AdaptedNetwork<Integer> oracle = new AdaptedNetwork<>(
+                    ShortestPathEngine.ORDERED_LIST);
+            AdaptedNetwork<Integer> heap = new AdaptedNetwork<>(
+                    ShortestPathEngine.BINARY_HEAP);
+            AdaptedNetwork<Integer> uncached = new AdaptedNetwork<>(
+                    ShortestPathEngine.BINARY_HEAP);
+            AdaptedNetwork<Integer> bounded = new AdaptedNetwork<>(
+                    ShortestPathEngine.BINARY_HEAP);
+            AdaptedNetwork<Integer> list = new AdaptedNetwork<>(
+                    new AdjacencyListStorage());
+            List<AdaptedNetwork<Integer>> all = List.of(oracle, heap,
+                    uncached, bounded, list);
+            List<AdaptedNetwork<Integer>> candidates = List.of(heap, uncached,
+                    bounded, list);
+            uncached.setShortestPathCacheEnabled(false);
+            bounded.setShortestPathCacheCapacity(2);
+
+            for (int i = 0; i < size; i++) {
+                for (AdaptedNetwork<Integer> network : all) {
+                    network.addVertex(i);
+                }
+            }
+            for (int e = 0; e < edges; e++) {
+                int v1 = random.nextInt(size);
+                int v2 = random.nextInt(size);
+                double weight = 1 + random.nextInt(5);
+                for (AdaptedNetwork<Integer> network : all) {
+                    if (v1 != v2) {
+                        network.addEdge(v1, v2, weight);
+                    }
+                }
+            }
+            mismatches += compareNetworks(oracle, candidates, size);
+
+            for (int r = random.nextInt(size + 1); r > 0; r--) {
+                int v1 = random.nextInt(size);
+                int v2 = random.nextInt(size);
+                int operation = random.nextInt(6);
+                double weight = 1 + random.nextInt(5);
+                for (AdaptedNetwork<Integer> network : all) {
+                    if (operation == 0) {
+                        network.removeVertex(v1);
+                    } else if (operation < 3) {
+                        network.removeEdge(v1, v2);
+                    } else if (v1 != v2) {
+                        network.addEdge(v1, v2, weight);
+                    }
+                }
+                if (random.nextInt(4) == 0) {
+                    mismatches += compareNetworks(oracle, candidates, size);
+                }
+            }
+            mismatches += compareNetworks(oracle, candidates, size);
+        }
+        return mismatches;
+    }
+
+    private static String sortedToString(Iterator<Integer> it) {
+        int[] values = new int[0];
+        while (it.hasNext()) {
+            values = Arrays.copyOf(values, values.length + 1);
+            values[values.length - 1] = it.next();
+        }
+        Arrays.sort(values);
+        return Arrays.toString(values);
+    }
+
+    private static String sortedRoadsToString(Iterator<Path<Integer>> it) {
+        String[] roads = new String[0];
+        while (it.hasNext()) {
+            Path<Integer> path = it.next();
+            int start = Math.min(path.getStart(), path.getDestination());
+            int destination = Math.max(path.getStart(), path.getDestination());
+            roads = Arrays.copyOf(roads, roads.length + 1);
+            roads[roads.length - 1] = start + "-" + destination + ":"
+                    + path.getWeight();
+        }
+        Arrays.sort(roads);
+        return Arrays.toString(roads);
+    }
+
+    private static double nearestWeight(AdaptedNetwork<Integer> network,
+            int source) {
+
+        Integer nearest = network.getNearestVertex(source, v -> v % 3 == 0);
+        if (nearest == null) {
+            return -1;
+        }
+        return nearest == source ? 0
+                : network.shortestPathWeight(source, nearest);
+    }
+
+    private static int compareByValue(AdaptedNetwork<Integer> oracle,
+            List<AdaptedNetwork<Integer>> candidates, int size) {
+
+        int mismatches = 0;
+        String vertices = sortedToString(oracle.vertices());
+        String roads = sortedRoadsToString(oracle.getPaths());
+        for (AdaptedNetwork<Integer> candidate : candidates) {
+            if (!vertices.equals(sortedToString(candidate.vertices()))
+                    || !roads.equals(sortedRoadsToString(
+                            candidate.getPaths()))) {
+                System.out.println("Vertices or roads mismatch: " + roads);
+                mismatches++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            String reachable = sortedToString(oracle.iteratorBFS(i));
+            double nearest = nearestWeight(oracle, i);
+            for (AdaptedNetwork<Integer> candidate : candidates) {
+                if (!reachable.equals(sortedToString(candidate.iteratorBFS(i)))
+                        || nearest != nearestWeight(candidate, i)) {
+                    System.out.println("Reachable mismatch from " + i);
+                    mismatches++;
+                }
+            }
+            for (int j = 0; j < size; j++) {
+                double expected = oracle.shortestPathWeight(i, j);
+                for (AdaptedNetwork<Integer> candidate : candidates) {
+                    if (expected != candidate.shortestPathWeight(i, j)) {
+                        System.out.println("Weight mismatch " + i + " -> "
+                                + j + ": " + expected);
+                        mismatches++;
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Compares networks that remove the vertices with SWAP_WITH_LAST, over
+     * the adjacency matrix and the adjacency list storages, against one that
+     * removes them with SHIFT, on random networks where random edges are
+     * added and removed and random vertices are removed. The vertices end up
+     * in different orders, so the vertices, the roads, the vertices reachable
+     * from each one, the nearest vertex queries and the shortest path weights
+     * are compared by value.
+     *
+     * @param networks the number of random networks
+     * @param seed the random seed
+     * @return the number of values where the networks disagree
+     */
+    private static int vertexRemovalOracle(int networks, long seed) {
+        Random random = new Random(seed);
+        int mismatches = 0;
+
+        for (int n = 0; n < networks; n++) {
+            int size = 2 + random.nextInt(30);
+            AdaptedNetwork<Integer> shift = new AdaptedNetwork<>();
+            AdaptedNetwork<Integer> matrix = new AdaptedNetwork<>();
+            AdaptedNetwork<Integer> list = new AdaptedNetwork<>(
+                    new AdjacencyListStorage());
+            List<AdaptedNetwork<Integer>> all = List.of(shift, matrix, list);
+            List<AdaptedNetwork<Integer>> candidates = List.of(matrix, list);
+            shift.setVertexRemoval(VertexRemoval.SHIFT);
+            matrix.setVertexRemoval(VertexRemoval.SWAP_WITH_LAST);
+            list.setVertexRemoval(VertexRemoval.SWAP_WITH_LAST);
+
+            for (int i = 0; i < size; i++) {
+                for (AdaptedNetwork<Integer> network : all) {
+                    network.addVertex(i);
+                }
+            }
+            for (int r = random.nextInt(size * 4); r > 0; r--) {
+                int v1 = random.nextInt(size);
+                int v2 = random.nextInt(size);
+                int operation = random.nextInt(6);
+                double weight = 1 + random.nextInt(5);
+                for (AdaptedNetwork<Integer> network : all) {
+                    if (operation == 0) {
+                        network.removeVertex(v1);
+                    } else if (operation == 1) {
+                        network.removeEdge(v1, v2);
+                    } else if (v1 != v2) {
+                        network.addEdge(v1, v2, weight);
+                    }
+                }
+                if (random.nextInt(4) == 0) {
+                    mismatches += compareByValue(shift, candidates, size);
+                }
+            }
+            mismatches += compareByValue(shift, candidates, size);
+        }
+        return mismatches;
+    }
+
     /**
      * @param args the command line arguments
      */
@@ -31,9 +340,13 @@ public class NewMain {
         network.addEdge(60, 30, 30);
         network.addEdge(60, 40, 25);
         network.addEdge(40, 30, 5);
-        
+
         double shortestPath = network.shortestPathWeight(10, 50);
         System.out.println(shortestPath);
+        System.out.println("Shortest path oracle mismatches: "
+                + shortestPathOracle(200, 42));
+        System.out.println("Vertex removal oracle mismatches: "
+                + vertexRemovalOracle(200, 42));
         System.out.println("breakpoint");
     }
 
@@ -0,0 +1,19 @@
+package DataStructures;
+
+/**
+ * The algorithms a Network can use to find shortest paths.
+ *
+ * @author Simão
+ */
+public enum ShortestPathEngine {
+
+    /**
+     * Dijkstra that keeps the path weights in a LinkedOrderedList and scans
+     * every vertex to find the next one to visit.
+     */
+    ORDERED_LIST,
+    /**
+     * Dijkstra over an IndexedBinaryHeap with decrease-key.
+     */
+    BINARY_HEAP
+}
@@ -0,0 +1,137 @@
+package DataStructures;
+
+import DataStructuresInterfaces.UnorderedListADT;
+import java.util.Iterator;
+
+/**
+ * The shortest paths from one vertex of a Network to every other vertex,
+ * identified by their index in the Network.
+ *
+ * @author Simão
+ */
+public class ShortestPathTree {
+
+    private final int source;
+    private final double[] distances;
+    private final int[] predecessors;
+
+    /**
+     * ShortestPathTree class constructor.
+     *
+     * @param source the index of the source vertex
+     * @param distances the weight of the shortest path to each vertex,
+     * Double.POSITIVE_INFINITY if it is unreachable
+     * @param predecessors the previous vertex in the shortest path to each
+     * vertex, -1 for the source and for unreachable vertices
+     * @throws IllegalArgumentException if the arrays are null or have
+     * different lengths
+     */
+    public ShortestPathTree(int source, double[] distances, int[] predecessors) {
+        if (distances == null || predecessors == null
+                || distances.length != predecessors.length) {
+            throw new IllegalArgumentException("The tree is invalid.");
+        }
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Getter for the index of the source vertex.
+     *
+     * @return the index of the source vertex
+     */
+    public int getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of vertices the network had when this tree was
+     * built.
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return this.distances.length;
+    }
+
+    /**
+     * Returns a copy of the weights of the shortest paths from the source,
+     * indexed by vertex.
+     *
+     * @return the weights of the shortest paths, Double.POSITIVE_INFINITY for
+     * unreachable vertices
+     */
+    public double[] getDistances() {
+        return this.distances.clone();
+    }
+
+    /**
+     * Returns a copy of the previous vertex in the shortest path to each
+     * vertex, indexed by vertex.
+     *
+     * @return the previous vertices, -1 for the source and for unreachable
+     * vertices
+     */
+    public int[] getPredecessors() {
+        return this.predecessors.clone();
+    }
+
+    /**
+     * Returns the weight of the shortest path from the source to a vertex.
+     * Vertices added after this tree was built are unreachable.
+     *
+     * @param index the index of the vertex
+     * @return the weight of the shortest path, Double.POSITIVE_INFINITY if the
+     * vertex is unreachable
+     */
+    public double getDistance(int index) {
+        if (index < 0 || index >= this.distances.length) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return this.distances[index];
+    }
+
+    /**
+     * Returns the previous vertex in the shortest path from the source to a
+     * vertex.
+     *
+     * @param index the index of the vertex
+     * @return the index of the previous vertex, -1 for the source and for
+     * unreachable vertices
+     */
+    public int getPredecessor(int index) {
+        if (index < 0 || index >= this.predecessors.length) {
+            return -1;
+        }
+        return this.predecessors[index];
+    }
+
+    /**
+     * Returns true if there is a path from the source to a vertex.
+     *
+     * @param index the index of the vertex
+     * @return true if the vertex is reachable
+     */
+    public boolean isReachable(int index) {
+        return this.getDistance(index) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns an iterator that contains the indices of the vertices in the
+     * shortest path from the source to a vertex.
+     *
+     * @param target the index of the target vertex
+     * @return the path iterator, empty if the target is unreachable
+     */
+    public Iterator<Integer> iteratorPathIndices(int target) {
+        UnorderedListADT<Integer> resultList = new LinkedUnorderedList<>();
+        if (!this.isReachable(target)) {
+            return resultList.iterator();
+        }
+        for (int index = target; index != -1; index = this.predecessors[index]) {
+            resultList.addToFront(index);
+        }
+        return resultList.iterator();
+    }
+}
@@ -0,0 +1,22 @@
+package DataStructures;
+
+/**
+ * The ways a Graph can remove a vertex.
+ *
+ * @author Simão
+ */
+public enum VertexRemoval {
+
+    /**
+     * The vertices after the removed one are shifted one index down, so they
+     * keep their order. Moves every vertex after it and, in an adjacency
+     * matrix, O(V²) cells.
+     */
+    SHIFT,
+    /**
+     * The last vertex takes the index of the removed one. Only the edges of
+     * the two vertices are moved, in time proportional to their degree, or to
+     * V in an adjacency matrix, but the order of the vertices changes.
+     */
+    SWAP_WITH_LAST
+}
@@ -0,0 +1,67 @@
+package DataStructuresInterfaces;
+
+/**
+ * Walks the edges of a graph without creating an object for each one. Every
+ * undirected edge is visited once, from the vertex with the lowest index:
+ * <pre>
+ * EdgeCursorADT&lt;T&gt; edges = network.edgeCursor();
+ * while (edges.next()) {
+ *     T start = edges.getStart();
+ *     double weight = edges.getWeight();
+ * }
+ * </pre>
+ *
+ * @author Simão
+ * @param <T>
+ */
+public interface EdgeCursorADT<T> {
+
+    /**
+     * Moves this cursor to the next edge.
+     *
+     * @throws IllegalStateException if the graph was changed after this cursor
+     * was created
+     * @return true if there is a next edge, false if there are no more edges
+     */
+    public boolean next();
+
+    /**
+     * Returns the index of the start of the current edge.
+     *
+     * @throws IllegalStateException if the cursor is not on an edge
+     * @return the index of the start
+     */
+    public int getStartIndex();
+
+    /**
+     * Returns the index of the destination of the current edge.
+     *
+     * @throws IllegalStateException if the cursor is not on an edge
+     * @return the index of the destination
+     */
+    public int getDestinationIndex();
+
+    /**
+     * Returns the start of the current edge.
+     *
+     * @throws IllegalStateException if the cursor is not on an edge
+     * @return the start
+     */
+    public T getStart();
+
+    /**
+     * Returns the destination of the current edge.
+     *
+     * @throws IllegalStateException if the cursor is not on an edge
+     * @return the destination
+     */
+    public T getDestination();
+
+    /**
+     * Returns the weight of the current edge.
+     *
+     * @throws IllegalStateException if the cursor is not on an edge
+     * @return the weight
+     */
+    public double getWeight();
+}
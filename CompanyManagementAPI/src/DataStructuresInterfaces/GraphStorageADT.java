@@ -0,0 +1,145 @@
+package DataStructuresInterfaces;
+
+/**
+ * Stores the undirected, weighted edges of a graph whose vertices are
+ * identified by their index, [0, size()[.
+ *
+ * <p>
+ * The neighbours of a vertex are walked with a cursor, in ascending order of
+ * the neighbour index:
+ * <pre>
+ * for (int c = storage.nextEdge(v, -1); c &gt;= 0; c = storage.nextEdge(v, c)) {
+ *     int neighbour = storage.edgeTarget(v, c);
+ *     double weight = storage.edgeWeight(v, c);
+ * }
+ * </pre>
+ *
+ * @author Simão
+ */
+public interface GraphStorageADT {
+
+    /**
+     * Adds a vertex without edges, its index is the previous size().
+     */
+    public void addVertex();
+
+    /**
+     * Adds the given number of vertices without edges, their indices follow
+     * the previous size().
+     *
+     * @param count the number of vertices
+     * @throws IllegalArgumentException if the count is negative
+     */
+    public void addVertices(int count);
+
+    /**
+     * Makes room for the given number of vertices, so adding them does not
+     * expand this storage again.
+     *
+     * @param capacity the number of vertices
+     */
+    public void ensureCapacity(int capacity);
+
+    /**
+     * Removes the vertex with the given index and all its edges. The vertices
+     * after it are shifted one index down.
+     *
+     * @param index the index of the vertex to be removed
+     */
+    public void removeVertex(int index);
+
+    /**
+     * Removes the vertex with the given index and all its edges. The last
+     * vertex takes its index, the other vertices keep theirs.
+     *
+     * @param index the index of the vertex to be removed
+     */
+    public void swapRemoveVertex(int index);
+
+    /**
+     * Inserts an edge between two vertices, or replaces its weight if it
+     * already exists.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @param weight the weight of the edge
+     */
+    public void setEdge(int index1, int index2, double weight);
+
+    /**
+     * Inserts the edges between the vertices at the same positions of two
+     * arrays, or replaces their weights if they already exist. The result is
+     * the same as calling setEdge for each one in order, so the last weight
+     * given to an edge is the one kept.
+     *
+     * @param indices1 the indices of the first vertices
+     * @param indices2 the indices of the second vertices
+     * @param weights the weights of the edges
+     * @param count the number of edges, from the start of the arrays
+     * @throws IllegalArgumentException if an array is null or shorter than the
+     * count, or if an index is not a vertex
+     */
+    public void setEdges(int[] indices1, int[] indices2, double[] weights,
+            int count);
+
+    /**
+     * Removes the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     */
+    public void removeEdge(int index1, int index2);
+
+    /**
+     * Returns true if there is an edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return true if there is an edge between the vertices
+     */
+    public boolean hasEdge(int index1, int index2);
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the weight of the edge, Double.POSITIVE_INFINITY if there is no
+     * edge
+     */
+    public double getWeight(int index1, int index2);
+
+    /**
+     * Returns the cursor of the next edge of a vertex.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the previous edge, -1 for the first edge
+     * @return the cursor of the next edge, -1 if there are no more edges
+     */
+    public int nextEdge(int index, int cursor);
+
+    /**
+     * Returns the index of the neighbour at the other end of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the index of the neighbour
+     */
+    public int edgeTarget(int index, int cursor);
+
+    /**
+     * Returns the weight of an edge.
+     *
+     * @param index the index of the vertex
+     * @param cursor the cursor of the edge
+     * @return the weight of the edge
+     */
+    public double edgeWeight(int index, int cursor);
+
+    /**
+     * Returns the number of vertices in this storage.
+     *
+     * @return the number of vertices
+     */
+    public int size();
+}
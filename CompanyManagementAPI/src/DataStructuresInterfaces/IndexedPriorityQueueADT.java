@@ -0,0 +1,77 @@
+package DataStructuresInterfaces;
+
+/**
+ *
+ * @author Simão
+ */
+public interface IndexedPriorityQueueADT {
+
+    /**
+     * Inserts an index into this queue with the given key.
+     *
+     * @param index the index to be inserted
+     * @param key the key associated with the index
+     * @throws IllegalArgumentException if the index is out of bounds or is
+     * already in this queue
+     */
+    public void insert(int index, double key);
+
+    /**
+     * Decreases the key associated with an index of this queue.
+     *
+     * @param index the index whose key is decreased
+     * @param key the new key
+     * @throws IllegalArgumentException if the index is not in this queue or if
+     * the new key is greater than the current key
+     */
+    public void decreaseKey(int index, double key);
+
+    /**
+     * Removes and returns the index with the smallest key. Ties are broken by
+     * the smallest index.
+     *
+     * @return the index with the smallest key
+     * @throws IllegalStateException if this queue is empty
+     */
+    public int removeMin();
+
+    /**
+     * Returns without removing the index with the smallest key. Ties are
+     * broken by the smallest index.
+     *
+     * @return the index with the smallest key
+     * @throws IllegalStateException if this queue is empty
+     */
+    public int min();
+
+    /**
+     * Returns true if this queue contains the given index.
+     *
+     * @param index the index
+     * @return true if this queue contains the index
+     */
+    public boolean contains(int index);
+
+    /**
+     * Returns the key associated with an index of this queue.
+     *
+     * @param index the index
+     * @return the key associated with the index
+     * @throws IllegalArgumentException if the index is not in this queue
+     */
+    public double getKey(int index);
+
+    /**
+     * Returns true if this queue contains no indices.
+     *
+     * @return true if this queue is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of indices in this queue.
+     *
+     * @return the number of indices in this queue
+     */
+    public int size();
+}
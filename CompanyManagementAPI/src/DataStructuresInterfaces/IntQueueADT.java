@@ -0,0 +1,118 @@
+package DataStructuresInterfaces;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A queue of primitive int values.
+ *
+ * @author Simão
+ */
+public interface IntQueueADT {
+
+    /**
+     * Adds one element to the rear of this queue.
+     *
+     * @param element the element to be added to the rear of this queue
+     */
+    public void enqueue(int element);
+
+    /**
+     * Removes and returns the element at the front of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the element at the front of this queue
+     */
+    public int dequeue();
+
+    /**
+     * Returns without removing the element at the front of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the first element in this queue
+     */
+    public int first();
+
+    /**
+     * Replaces the element at the front of this queue, keeping its place.
+     *
+     * @param element the new first element
+     * @throws IllegalStateException if this queue is empty
+     * @return the replaced element
+     */
+    public int updateFirst(int element);
+
+    /**
+     * Returns the element at a position of this queue, counted from the
+     * front, without removing it.
+     *
+     * @param index the position, 0 for the front
+     * @throws IllegalArgumentException if the index is out of bounds
+     * @return the element at the position
+     */
+    public int get(int index);
+
+    /**
+     * Returns the number of times this queue was changed. It differs from a
+     * value read before if an element was added, removed or replaced since.
+     *
+     * @return the number of changes
+     */
+    public int getModCount();
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if this queue is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the integer representation of the size of this queue
+     */
+    public int size();
+
+    /**
+     * Returns a read-only iterator over the elements of this queue, from the
+     * front, without copying or boxing them.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    public PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Returns the sum of the elements of this queue.
+     *
+     * @return the sum, 0 if this queue is empty
+     */
+    public long sum();
+
+    /**
+     * Returns the greatest element of this queue.
+     *
+     * @throws IllegalStateException if this queue is empty
+     * @return the greatest element
+     */
+    public int max();
+
+    /**
+     * Returns the nearest-rank percentile of the elements of this queue, the
+     * smallest element that is greater or equal than the given percentage of
+     * the elements.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @throws IllegalArgumentException if the percentile is out of bounds
+     * @throws IllegalStateException if this queue is empty
+     * @return the element at the percentile
+     */
+    public int percentile(double percentile);
+
+    /**
+     * Returns a string representation of this queue.
+     *
+     * @return the string representation of this queue
+     */
+    @Override
+    public String toString();
+}
@@ -0,0 +1,74 @@
+package DataStructuresInterfaces;
+
+import java.util.Iterator;
+
+/**
+ *
+ * @author Simão
+ * @param <K>
+ * @param <V>
+ */
+public interface MapADT<K, V> {
+
+    /**
+     * Associates a value with a key, replacing the previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @throws IllegalArgumentException if the key is null
+     * @return the previous value associated with the key, or null
+     */
+    public V put(K key, V value);
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param key the key
+     * @return the value associated with the key, or null
+     */
+    public V get(K key);
+
+    /**
+     * Removes a key and its value from this map.
+     *
+     * @param key the key to be removed
+     * @return the value that was associated with the key, or null
+     */
+    public V remove(K key);
+
+    /**
+     * Returns true if this map contains the key.
+     *
+     * @param key the key
+     * @return true if this map contains the key
+     */
+    public boolean containsKey(K key);
+
+    /**
+     * Returns true if this map contains no keys.
+     *
+     * @return true if this map is empty
+     */
+    public boolean isEmpty();
+
+    /**
+     * Returns the number of keys in this map.
+     *
+     * @return the number of keys in this map
+     */
+    public int size();
+
+    /**
+     * Returns an iterator over the keys of this map.
+     *
+     * @return an iterator over the keys of this map
+     */
+    public Iterator<K> keys();
+
+    /**
+     * Returns an iterator over the values of this map.
+     *
+     * @return an iterator over the values of this map
+     */
+    public Iterator<V> values();
+}
@@ -20,6 +20,24 @@ public interface NetworkADT<T> extends GraphADT<T> {
      */
     public void addEdge(T vertex1, T vertex2, double weight);
 
+    /**
+     * Adds the vertices to this network at once, in their order.
+     *
+     * @param vertices the vertices to be added to this network
+     */
+    public void addVertices(T[] vertices);
+
+    /**
+     * Inserts an edge between the vertices at the same positions of two
+     * arrays for each weight, at once. The edges with a vertex that is not in
+     * this network are ignored.
+     *
+     * @param vertices1 the first vertices
+     * @param vertices2 the second vertices
+     * @param weights the weights
+     */
+    public void addEdges(T[] vertices1, T[] vertices2, double[] weights);
+
     /**
      * Returns the weight of the shortest path in this network.
      *
@@ -1,5 +1,7 @@
 package DataStructuresInterfaces;
 
+import java.util.Iterator;
+
 /**
  *
  * @author Simão
@@ -42,6 +44,14 @@ public interface QueueADT<T> {
      */
     public int size();
 
+    /**
+     * Returns a read-only iterator over the elements of this queue, from the
+     * front, without copying them.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    public Iterator<T> iterator();
+
     /**
      * Returns a string representation of this queue.
      *
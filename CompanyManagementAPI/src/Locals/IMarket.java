@@ -1,5 +1,7 @@
 package Locals;
 
+import java.util.Iterator;
+
 /**
  *
  * @author Rui Neto
@@ -39,4 +41,53 @@ public interface IMarket extends ILocal {
      * @return the number of clients
      */
     public int getNumberOfClients();
+
+    /**
+     * Returns the stock that a client needs, by its position in the queue.
+     *
+     * @param index the position of the client, 0 for the first client
+     * @throws IllegalArgumentException if there is no client at the position
+     * @return the stock
+     */
+    public int getNeededStock(int index);
+
+    /**
+     * Returns the number of times the clients of this market changed. It
+     * differs from a value read before if a client was added or served since.
+     *
+     * @return the number of changes
+     */
+    public int getModCount();
+
+    /**
+     * Returns the stock that all the clients need.
+     *
+     * @return the stock
+     */
+    public int getTotalNeededStock();
+
+    /**
+     * Returns the most stock that a client needs.
+     *
+     * @throws IllegalStateException if there are no clients
+     * @return the stock
+     */
+    public int getMaxNeededStock();
+
+    /**
+     * Returns the nearest-rank percentile of the stock that the clients need.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @throws IllegalArgumentException if the percentile is out of bounds
+     * @throws IllegalStateException if there are no clients
+     * @return the stock
+     */
+    public int getNeededStockPercentile(double percentile);
+
+    /**
+     * Returns the stock that each client needs, from the first client.
+     *
+     * @return the clients iterator
+     */
+    public Iterator<Integer> getClients();
 }
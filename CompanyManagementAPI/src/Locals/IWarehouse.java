@@ -46,4 +46,12 @@ public interface IWarehouse extends ILocal {
      * @return the unloaded stock
      */
     public int unloadStock(int stock);
+
+    /**
+     * Returns the number of times the Warehouse changed. It differs from a
+     * value read before if the capacity or the stock changed since.
+     *
+     * @return the number of changes
+     */
+    public int getModCount();
 }
@@ -1,9 +1,10 @@
 package Locals;
 
-import DataStructures.LinkedQueue;
-import DataStructures.LinkedUnorderedList;
-import DataStructuresInterfaces.QueueADT;
-import DataStructuresInterfaces.UnorderedListADT;
+import DataStructures.CircularIntQueue;
+import DataStructuresInterfaces.IntQueueADT;
+import Metrics.Counter;
+import Metrics.Histogram;
+import Metrics.MetricsRegistry;
 import java.util.Iterator;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -14,7 +15,19 @@ import org.json.simple.JSONObject;
  */
 public class Market extends Local implements IMarket {
 
-    private QueueADT<Integer> queue;
+    /**
+     * The number of clients in the queue of a market when one is served.
+     */
+    private static final Histogram QUEUE_LENGTH = MetricsRegistry.getDefault()
+            .histogram("market.queueLength");
+
+    /**
+     * The number of clients served completely, by every market.
+     */
+    private static final Counter CLIENTS_SERVED = MetricsRegistry.getDefault()
+            .counter("market.clientsServed");
+
+    private final IntQueueADT queue;
 
     /**
      * Market class constructor.
@@ -24,7 +37,7 @@ public class Market extends Local implements IMarket {
      */
     public Market(String name) {
         super(name);
-        this.queue = new LinkedQueue<>();
+        this.queue = new CircularIntQueue();
     }
 
     /**
@@ -58,21 +71,14 @@ public class Market extends Local implements IMarket {
         if (this.queue.isEmpty()) {
             throw new IllegalStateException("There are no Clients to serve.");
         }
+        QUEUE_LENGTH.record(this.queue.size());
         if (stock >= this.queue.first()) {
             this.queue.dequeue();
+            CLIENTS_SERVED.increment();
             return 0;
         }
         int leftToServe = this.queue.first() - stock;
-        UnorderedListADT<Integer> unorderedList = new LinkedUnorderedList<>();
-        this.queue.dequeue();
-        unorderedList.addToRear(leftToServe);
-
-        while (!this.queue.isEmpty()) {
-            unorderedList.addToRear(this.queue.dequeue());
-        }
-        while (!unorderedList.isEmpty()) {
-            this.queue.enqueue(unorderedList.removeFirst());
-        }
+        this.queue.updateFirst(leftToServe);
         return leftToServe;
     }
 
@@ -100,17 +106,79 @@ public class Market extends Local implements IMarket {
         return this.queue.size();
     }
 
-    private Iterator<Integer> getClients() {
-        UnorderedListADT<Integer> unorderedList = new LinkedUnorderedList<>();
-        QueueADT<Integer> temp = new LinkedQueue<>();
+    /**
+     * Returns the stock that a client needs, by its position in the queue.
+     *
+     * @param index the position of the client, 0 for the first client
+     * @throws IllegalArgumentException if there is no client at the position
+     * @return the stock
+     */
+    @Override
+    public int getNeededStock(int index) {
+        return this.queue.get(index);
+    }
+
+    /**
+     * Returns the number of times the clients of this market changed. It
+     * differs from a value read before if a client was added or served since.
+     *
+     * @return the number of changes
+     */
+    @Override
+    public int getModCount() {
+        return this.queue.getModCount();
+    }
 
-        while (!this.queue.isEmpty()) {
-            int value = this.queue.dequeue();
-            unorderedList.addToRear(value);
-            temp.enqueue(value);
+    /**
+     * Returns the stock that all the clients need.
+     *
+     * @return the stock
+     */
+    @Override
+    public int getTotalNeededStock() {
+        return (int) Math.min(this.queue.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the most stock that a client needs.
+     *
+     * @throws IllegalStateException if there are no clients
+     * @return the stock
+     */
+    @Override
+    public int getMaxNeededStock() {
+        if (this.queue.isEmpty()) {
+            throw new IllegalStateException("There are no Clients.");
         }
-        this.queue = temp;
-        return unorderedList.iterator();
+        return this.queue.max();
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the stock that the clients need.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @throws IllegalArgumentException if the percentile is out of bounds
+     * @throws IllegalStateException if there are no clients
+     * @return the stock
+     */
+    @Override
+    public int getNeededStockPercentile(double percentile) {
+        if (this.queue.isEmpty()) {
+            throw new IllegalStateException("There are no Clients.");
+        }
+        return this.queue.percentile(percentile);
+    }
+
+    /**
+     * Returns the stock that each client needs, from the first client. The
+     * iterator reads the clients in place and can not be used after a client
+     * is added or served.
+     *
+     * @return the clients iterator
+     */
+    @Override
+    public Iterator<Integer> getClients() {
+        return this.queue.iterator();
     }
 
     /**
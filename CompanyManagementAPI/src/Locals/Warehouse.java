@@ -10,6 +10,7 @@ public class Warehouse extends Local implements IWarehouse {
 
     private int capacity;
     private int stock;
+    private int modCount;
 
     /**
      * Warehouse class constructor.
@@ -50,6 +51,7 @@ public class Warehouse extends Local implements IWarehouse {
             throw new IllegalArgumentException("Capacity is invalid.");
         }
         this.capacity = capacity;
+        this.modCount++;
     }
 
     /**
@@ -74,6 +76,7 @@ public class Warehouse extends Local implements IWarehouse {
         if (stock <= 0) {
             throw new IllegalArgumentException("Stock is invalid.");
         }
+        this.modCount++;
         int leftSpace = this.capacity - this.stock;
         if (stock >= leftSpace) {
             this.stock += leftSpace;
@@ -95,6 +98,7 @@ public class Warehouse extends Local implements IWarehouse {
         if (stock <= 0) {
             throw new IllegalArgumentException("Stock is invalid.");
         }
+        this.modCount++;
         if (this.stock <= stock) {
             int unloaded = this.stock;
             this.stock = 0;
@@ -104,6 +108,17 @@ public class Warehouse extends Local implements IWarehouse {
         return stock;
     }
 
+    /**
+     * Returns the number of times the Warehouse changed. It differs from a
+     * value read before if the capacity or the stock changed since.
+     *
+     * @return the number of changes
+     */
+    @Override
+    public int getModCount() {
+        return this.modCount;
+    }
+
     /**
      * Prints the object to the console.
      */
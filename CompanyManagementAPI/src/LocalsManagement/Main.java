@@ -1,7 +1,6 @@
 package LocalsManagement;
 
-import AdaptedDataStructures.AdaptedNetwork;
-import Locals.ILocal;
+import AdaptedDataStructures.LocalsNetwork;
 import Locals.IMarket;
 import Locals.IWarehouse;
 import Locals.Market;
@@ -17,7 +16,7 @@ public class Main {
      * @param args the command line arguments
      */
     public static void main(String[] args) {
-        AdaptedNetwork<ILocal> network = new AdaptedNetwork<>();
+        LocalsNetwork network = new LocalsNetwork();
         IMarket market1 = new Market("Market1");
         IMarket market2 = new Market("Market2");
         IWarehouse warehouse1 = new Warehouse("Warehouse1", 15);
@@ -1,8 +1,7 @@
 package LocalsManagement;
 
-import AdaptedDataStructures.IAdaptedNetwork;
+import AdaptedDataStructures.ILocalsNetwork;
 import Locals.ILocal;
-import java.util.Iterator;
 import org.json.simple.JSONArray;
 
 /**
@@ -11,7 +10,7 @@ import org.json.simple.JSONArray;
  */
 public abstract class ManageLocals implements IManageLocals {
 
-    protected IAdaptedNetwork<ILocal> network;
+    protected ILocalsNetwork network;
 
     /**
      * ManageLocals class constructor.
@@ -19,7 +18,7 @@ public abstract class ManageLocals implements IManageLocals {
      * @param network the network
      * @throws IllegalArgumentException if the network is null or not empty
      */
-    public ManageLocals(IAdaptedNetwork<ILocal> network) {
+    public ManageLocals(ILocalsNetwork network) {
         if (network == null || (!network.isEmpty())) {
             throw new IllegalArgumentException("The network is invalid");
         }
@@ -27,15 +26,7 @@ public abstract class ManageLocals implements IManageLocals {
     }
 
     protected ILocal getLocal(String name) {
-        Iterator<ILocal> localsIterator = this.network.vertices();
-
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
-            if (currentLocal.getName().equals(name)) {
-                return currentLocal;
-            }
-        }
-        return null;
+        return this.network.getLocal(name);
     }
 
     /**
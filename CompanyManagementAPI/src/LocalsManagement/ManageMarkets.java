@@ -1,8 +1,6 @@
 package LocalsManagement;
 
-import AdaptedDataStructures.IAdaptedNetwork;
-import DataStructures.LinkedUnorderedList;
-import DataStructuresInterfaces.UnorderedListADT;
+import AdaptedDataStructures.ILocalsNetwork;
 import Locals.ILocal;
 import Locals.IMarket;
 import Locals.Market;
@@ -23,7 +21,7 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
      * @param network the network
      * @throws IllegalArgumentException if the network is null or not empty
      */
-    public ManageMarkets(IAdaptedNetwork<ILocal> network) {
+    public ManageMarkets(ILocalsNetwork network) {
         super(network);
         this.counter = 0;
     }
@@ -75,11 +73,10 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
     @Override
     public boolean addMarketClient(String name, int neededStock) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Market)) {
+        IMarket market = super.network.getMarket(name);
+        if (market == null) {
             return false;
         }
-        Market market = (Market) local;
         market.addClient(neededStock);
         return true;
     }
@@ -98,11 +95,10 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
     @Override
     public int serveMarketClient(String name, int stock) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Market)) {
+        IMarket market = super.network.getMarket(name);
+        if (market == null) {
             return -1;
         }
-        Market market = (Market) local;
         return market.serveClient(stock);
     }
 
@@ -118,11 +114,10 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
     @Override
     public int howMuchTheMarketClientNeeds(String name) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Market)) {
+        IMarket market = super.network.getMarket(name);
+        if (market == null) {
             return -1;
         }
-        Market market = (Market) local;
         return market.HowMuchTheClientNeeds();
     }
 
@@ -137,11 +132,10 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
     @Override
     public int getNumberOfMarketClients(String name) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Market)) {
+        IMarket market = super.network.getMarket(name);
+        if (market == null) {
             return -1;
         }
-        Market market = (Market) local;
         return market.getNumberOfClients();
     }
 
@@ -158,19 +152,13 @@ public class ManageMarkets extends ManageLocals implements IManageMarkets {
     /**
      * Getter for the Markets.
      *
+     * The iterator fails if a Local is added or removed while it is used.
+     *
      * @return the Markets iterator
      */
     @Override
     public Iterator<IMarket> getMarkets() {
-        Iterator<ILocal> localsIterator = super.network.vertices();
-        UnorderedListADT<IMarket> marketsList = new LinkedUnorderedList<>();
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
-            if (currentLocal instanceof Market) {
-                marketsList.addToRear((IMarket) currentLocal);
-            }
-        }
-        return marketsList.iterator();
+        return super.network.markets();
     }
 
     /**
@@ -1,8 +1,6 @@
 package LocalsManagement;
 
-import AdaptedDataStructures.IAdaptedNetwork;
-import DataStructures.LinkedUnorderedList;
-import DataStructuresInterfaces.UnorderedListADT;
+import AdaptedDataStructures.ILocalsNetwork;
 import Locals.ILocal;
 import Locals.IWarehouse;
 import Locals.Warehouse;
@@ -23,7 +21,7 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
      * @param network the network
      * @throws IllegalArgumentException if the network is null or not empty
      */
-    public ManageWarehouses(IAdaptedNetwork<ILocal> network) {
+    public ManageWarehouses(ILocalsNetwork network) {
         super(network);
         this.counter = 0;
     }
@@ -72,11 +70,10 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     @Override
     public int getWarehouseCapacity(String name) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Warehouse)) {
+        IWarehouse warehouse = super.network.getWarehouse(name);
+        if (warehouse == null) {
             return -1;
         }
-        Warehouse warehouse = (Warehouse) local;
         return warehouse.getCapacity();
     }
 
@@ -94,11 +91,10 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     @Override
     public boolean setWarehouseCapacity(String name, int capacity) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Warehouse)) {
+        IWarehouse warehouse = super.network.getWarehouse(name);
+        if (warehouse == null) {
             return false;
         }
-        Warehouse warehouse = (Warehouse) local;
         warehouse.setCapacity(capacity);
         return true;
     }
@@ -114,11 +110,10 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     @Override
     public int getWarehouseStock(String name) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Warehouse)) {
+        IWarehouse warehouse = super.network.getWarehouse(name);
+        if (warehouse == null) {
             return -1;
         }
-        Warehouse warehouse = (Warehouse) local;
         return warehouse.getStock();
     }
 
@@ -135,11 +130,10 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     @Override
     public int loadWarehouseStock(String name, int stock) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Warehouse)) {
+        IWarehouse warehouse = super.network.getWarehouse(name);
+        if (warehouse == null) {
             return -1;
         }
-        Warehouse warehouse = (Warehouse) local;
         return warehouse.loadStock(stock);
     }
 
@@ -156,11 +150,10 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     @Override
     public int unloadWarehouseStock(String name, int stock) {
         super.checkIfArgumentAndStateAreValids(name);
-        ILocal local = super.getLocal(name);
-        if (local == null || !(local instanceof Warehouse)) {
+        IWarehouse warehouse = super.network.getWarehouse(name);
+        if (warehouse == null) {
             return -1;
         }
-        Warehouse warehouse = (Warehouse) local;
         return warehouse.unloadStock(stock);
     }
 
@@ -177,19 +170,13 @@ public class ManageWarehouses extends ManageLocals implements IManageWarehouses
     /**
      * Getter for the Warehouses.
      *
+     * The iterator fails if a Local is added or removed while it is used.
+     *
      * @return the Warehouses iterator
      */
     @Override
     public Iterator<IWarehouse> getWarehouses() {
-        Iterator<ILocal> localsIterator = super.network.vertices();
-        UnorderedListADT<IWarehouse> warehousesList = new LinkedUnorderedList<>();
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
-            if (currentLocal instanceof Warehouse) {
-                warehousesList.addToRear((IWarehouse) currentLocal);
-            }
-        }
-        return warehousesList.iterator();
+        return super.network.warehouses();
     }
 
     /**
@@ -0,0 +1,66 @@
+package Metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count that only goes up, such as the number of shortest paths found. It
+ * is only changed while its registry is enabled, and many threads can add to
+ * it at once without waiting for each other.
+ *
+ * @author Simão
+ */
+public class Counter {
+
+    private final MetricsRegistry registry;
+    private final LongAdder count;
+
+    /**
+     * Counter class constructor, counters are created by their registry.
+     *
+     * @param registry the registry of the counter
+     */
+    Counter(MetricsRegistry registry) {
+        this.registry = registry;
+        this.count = new LongAdder();
+    }
+
+    /**
+     * Adds one to the count, if the registry is enabled.
+     */
+    public void increment() {
+        if (this.registry.isEnabled()) {
+            this.count.increment();
+        }
+    }
+
+    /**
+     * Adds to the count, if the registry is enabled.
+     *
+     * @param amount the amount to add
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount is invalid.");
+        }
+        if (this.registry.isEnabled()) {
+            this.count.add(amount);
+        }
+    }
+
+    /**
+     * Getter for the count.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Sets the count back to zero.
+     */
+    public void reset() {
+        this.count.reset();
+    }
+}
@@ -0,0 +1,19 @@
+package Metrics;
+
+/**
+ * A value read when the metrics are exported, such as the number of locals.
+ * It is read by the thread that exports the metrics, so it must only read
+ * what can be read while other threads change it.
+ *
+ * @author Simão
+ */
+@FunctionalInterface
+public interface Gauge {
+
+    /**
+     * Getter for the value.
+     *
+     * @return the value
+     */
+    public long getValue();
+}
@@ -0,0 +1,184 @@
+package Metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The distribution of a value, such as how long an operation takes or how
+ * many clients a market has. The values are counted in buckets: one for each
+ * value below 4 and then four for each power of two, so a percentile is off
+ * by less than a quarter of its value. Recording only adds to the buckets,
+ * so many threads can record at once without waiting for each other.
+ *
+ * <p>
+ * A histogram only records while its registry is enabled. The durations are
+ * measured by start and stop, that only read the clock while it is
+ * enabled:</p>
+ *
+ * <pre>
+ * long start = histogram.start();
+ * ...
+ * histogram.stop(start);
+ * </pre>
+ *
+ * @author Simão
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = SUB_BUCKETS * 64;
+
+    private final MetricsRegistry registry;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    /**
+     * Histogram class constructor, histograms are created by their registry.
+     *
+     * @param registry the registry of the histogram
+     */
+    Histogram(MetricsRegistry registry) {
+        this.registry = registry;
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return (exponent - 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        long sub = SUB_BUCKETS + bucket % SUB_BUCKETS;
+        return ((sub + 1) << (exponent - 2)) - 1;
+    }
+
+    /**
+     * Records a value, if the registry is enabled.
+     *
+     * @param value the value, negative values are recorded as zero
+     */
+    public void record(long value) {
+        if (this.registry.isEnabled()) {
+            value = Math.max(value, 0);
+            this.buckets.incrementAndGet(bucket(value));
+            this.count.increment();
+            this.sum.add(value);
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Starts measuring a duration.
+     *
+     * @return the start, in nanoseconds, 0 if the registry is disabled
+     */
+    public long start() {
+        return this.registry.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the nanoseconds since start, if it was enabled then.
+     *
+     * @param start what start returned
+     */
+    public void stop(long start) {
+        if (start != 0L) {
+            this.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Getter for the number of values recorded.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Getter for the sum of the values recorded.
+     *
+     * @return the sum of the values
+     */
+    public long getSum() {
+        return this.sum.sum();
+    }
+
+    /**
+     * Getter for the greatest value recorded.
+     *
+     * @return the greatest value, 0 if there are no values
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Getter for the mean of the values recorded.
+     *
+     * @return the mean, 0 if there are no values
+     */
+    public double getMean() {
+        long count = this.getCount();
+        return count == 0 ? 0 : (double) this.getSum() / count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the values are,
+     * rounded up to the end of its bucket.
+     *
+     * @param percentile the percentage, from 0 to 100
+     * @throws IllegalArgumentException if the percentage is invalid
+     * @return the percentile, 0 if there are no values
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile is invalid.");
+        }
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), this.getMax());
+            }
+        }
+        return this.getMax();
+    }
+
+    /**
+     * Removes every value recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.reset();
+        this.sum.reset();
+        this.max.set(0);
+    }
+}
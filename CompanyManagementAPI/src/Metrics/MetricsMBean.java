@@ -0,0 +1,185 @@
+package Metrics;
+
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.UnorderedListADT;
+import java.util.Iterator;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InvalidAttributeValueException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ReflectionException;
+
+/**
+ * The metrics of a registry as JMX attributes, read when they are asked for.
+ * A counter or a gauge is one attribute with its name, a histogram is one
+ * attribute for each of its count, mean, p50, p90, p99 and max, named with
+ * the name of the histogram and a dot. Enabled can also be set, and the
+ * operations snapshot and reset call the ones of the registry.
+ *
+ * @author Simão
+ */
+class MetricsMBean implements DynamicMBean {
+
+    private static final String ENABLED = "Enabled";
+    private static final String[] HISTOGRAM_FIELDS = {"count", "mean", "p50",
+        "p90", "p99", "max"};
+
+    private final MetricsRegistry registry;
+
+    /**
+     * MetricsMBean class constructor.
+     *
+     * @param registry the registry
+     */
+    MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    private static Object histogramField(Histogram histogram, String field) {
+        return switch (field) {
+            case "count" ->
+                histogram.getCount();
+            case "mean" ->
+                histogram.getMean();
+            case "p50" ->
+                histogram.getPercentile(50);
+            case "p90" ->
+                histogram.getPercentile(90);
+            case "p99" ->
+                histogram.getPercentile(99);
+            case "max" ->
+                histogram.getMax();
+            default ->
+                null;
+        };
+    }
+
+    @Override
+    public Object getAttribute(String attribute)
+            throws AttributeNotFoundException {
+
+        if (ENABLED.equals(attribute)) {
+            return this.registry.isEnabled();
+        }
+        Object metric = this.registry.get(attribute);
+        if (metric instanceof Counter counter) {
+            return counter.getCount();
+        }
+        if (metric instanceof Gauge gauge) {
+            return gauge.getValue();
+        }
+        int dot = attribute == null ? -1 : attribute.lastIndexOf('.');
+        if (dot > 0 && this.registry.get(attribute.substring(0, dot))
+                instanceof Histogram histogram) {
+
+            Object value = histogramField(histogram,
+                    attribute.substring(dot + 1));
+            if (value != null) {
+                return value;
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute)
+            throws AttributeNotFoundException, InvalidAttributeValueException {
+
+        if (!ENABLED.equals(attribute.getName())) {
+            throw new AttributeNotFoundException(attribute.getName());
+        }
+        if (!(attribute.getValue() instanceof Boolean enabled)) {
+            throw new InvalidAttributeValueException(ENABLED
+                    + " must be a boolean.");
+        }
+        this.registry.setEnabled(enabled);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute,
+                        this.getAttribute(attribute)));
+            } catch (AttributeNotFoundException ex) {
+                // left out, as the interface allows
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        AttributeList list = new AttributeList();
+        for (Attribute attribute : attributes.asList()) {
+            try {
+                this.setAttribute(attribute);
+                list.add(attribute);
+            } catch (AttributeNotFoundException
+                    | InvalidAttributeValueException ex) {
+                // left out, as the interface allows
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params,
+            String[] signature) throws ReflectionException {
+
+        if ("snapshot".equals(actionName)) {
+            return this.registry.snapshot();
+        }
+        if ("reset".equals(actionName)) {
+            this.registry.reset();
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        UnorderedListADT<MBeanAttributeInfo> infos
+                = new ArrayUnorderedList<>();
+        infos.addToRear(new MBeanAttributeInfo(ENABLED, "boolean",
+                "True if the metrics are recorded.", true, true, true));
+        Iterator<String> iterator = this.registry.getNames();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            Object metric = this.registry.get(name);
+            if (metric instanceof Counter) {
+                infos.addToRear(new MBeanAttributeInfo(name, "long", "Counter.",
+                        true, false, false));
+            } else if (metric instanceof Gauge) {
+                infos.addToRear(new MBeanAttributeInfo(name, "long", "Gauge.",
+                        true, false, false));
+            } else if (metric instanceof Histogram) {
+                for (String field : HISTOGRAM_FIELDS) {
+                    infos.addToRear(new MBeanAttributeInfo(name + "." + field,
+                            field.equals("mean") ? "double" : "long",
+                            "Histogram " + field + ".", true, false, false));
+                }
+            }
+        }
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[infos.size()];
+        Iterator<MBeanAttributeInfo> it = infos.iterator();
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = it.next();
+        }
+        MBeanOperationInfo[] operations = {
+            new MBeanOperationInfo("snapshot", "The metrics as text.",
+            new MBeanParameterInfo[0], "java.lang.String",
+            MBeanOperationInfo.INFO),
+            new MBeanOperationInfo("reset", "Sets the metrics back to zero.",
+            new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION)};
+        return new MBeanInfo(MetricsRegistry.class.getName(),
+                "The metrics of the registry " + this.registry.getName() + ".",
+                attributes, null, operations, null);
+    }
+}
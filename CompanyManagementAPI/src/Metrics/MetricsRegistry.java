@@ -0,0 +1,306 @@
+package Metrics;
+
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.UnorderedListADT;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The counters, histograms and gauges of the company, by name. The registry
+ * starts disabled, and while it is disabled the counters and histograms do
+ * not record anything, so the code that uses them only reads one field.
+ *
+ * <p>
+ * The default registry is the one the company is instrumented with. It is
+ * enabled at startup by the system property metrics.enabled=true. The
+ * metrics can be read as text with snapshot, or through JMX once the
+ * registry is registered with registerMBean.</p>
+ *
+ * @author Simão
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry(
+            "default", Boolean.getBoolean("metrics.enabled"));
+
+    private final String name;
+    private final ConcurrentHashMap<String, Object> metrics;
+    private volatile boolean enabled;
+    private ObjectName objectName;
+
+    /**
+     * MetricsRegistry class constructor, disabled.
+     *
+     * @param name the name of the registry
+     * @throws IllegalArgumentException if the name is null or blank
+     */
+    public MetricsRegistry(String name) {
+        this(name, false);
+    }
+
+    /**
+     * MetricsRegistry class constructor.
+     *
+     * @param name the name of the registry
+     * @param enabled true if the metrics are recorded
+     * @throws IllegalArgumentException if the name is null or blank
+     */
+    public MetricsRegistry(String name, boolean enabled) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The name is invalid.");
+        }
+        this.name = name;
+        this.metrics = new ConcurrentHashMap<>();
+        this.enabled = enabled;
+    }
+
+    /**
+     * Getter for the registry the company is instrumented with.
+     *
+     * @return the default registry
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Getter for the name of the registry.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns true if the metrics are recorded.
+     *
+     * @return true if the registry is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Setter for whether the metrics are recorded.
+     *
+     * @param enabled true if the metrics are recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private <M> M metric(String name, Class<M> type, M metric) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The name is invalid.");
+        }
+        Object current = this.metrics.putIfAbsent(name, metric);
+        if (current == null) {
+            return metric;
+        }
+        if (!type.isInstance(current)) {
+            throw new IllegalArgumentException("The name is already used: "
+                    + name);
+        }
+        return type.cast(current);
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if there is none.
+     *
+     * @param name the name of the counter
+     * @throws IllegalArgumentException if the name is null, blank or used by
+     * a metric that is not a counter
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        Object current = this.metrics.get(name == null ? "" : name);
+        if (current instanceof Counter counter) {
+            return counter;
+        }
+        return this.metric(name, Counter.class, new Counter(this));
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it if there is
+     * none.
+     *
+     * @param name the name of the histogram
+     * @throws IllegalArgumentException if the name is null, blank or used by
+     * a metric that is not a histogram
+     * @return the histogram
+     */
+    public Histogram histogram(String name) {
+        Object current = this.metrics.get(name == null ? "" : name);
+        if (current instanceof Histogram histogram) {
+            return histogram;
+        }
+        return this.metric(name, Histogram.class, new Histogram(this));
+    }
+
+    /**
+     * Adds a gauge, replacing the gauge with the same name.
+     *
+     * @param name the name of the gauge
+     * @param gauge the gauge
+     * @throws IllegalArgumentException if the name is null, blank or used by
+     * a metric that is not a gauge, or if the gauge is null
+     */
+    public void gauge(String name, Gauge gauge) {
+        if (gauge == null) {
+            throw new IllegalArgumentException("The gauge is null.");
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The name is invalid.");
+        }
+        Object current = this.metrics.get(name);
+        if (current != null && !(current instanceof Gauge)) {
+            throw new IllegalArgumentException("The name is already used: "
+                    + name);
+        }
+        this.metrics.put(name, gauge);
+    }
+
+    /**
+     * Removes a metric.
+     *
+     * @param name the name of the metric
+     * @return true if the metric was removed otherwise false
+     */
+    public boolean remove(String name) {
+        return name != null && this.metrics.remove(name) != null;
+    }
+
+    /**
+     * Returns the metric with the given name.
+     *
+     * @param name the name of the metric
+     * @return the counter, histogram or gauge, null if there is none
+     */
+    Object get(String name) {
+        return name == null ? null : this.metrics.get(name);
+    }
+
+    /**
+     * Returns the names of the metrics, in alphabetical order.
+     *
+     * @return the names iterator
+     */
+    public Iterator<String> getNames() {
+        String[] sorted = this.metrics.keySet().toArray(new String[0]);
+        Arrays.sort(sorted);
+        UnorderedListADT<String> names
+                = new ArrayUnorderedList<>(sorted.length);
+        for (String name : sorted) {
+            names.addToRear(name);
+        }
+        return names.iterator();
+    }
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    public void reset() {
+        for (Object metric : this.metrics.values()) {
+            if (metric instanceof Counter counter) {
+                counter.reset();
+            } else if (metric instanceof Histogram histogram) {
+                histogram.reset();
+            }
+        }
+    }
+
+    /**
+     * Returns the metrics as text, one per line in alphabetical order: the
+     * count of a counter, the value of a gauge, and the count, mean,
+     * percentiles and max of a histogram.
+     *
+     * @return the metrics
+     */
+    public String snapshot() {
+        StringBuilder builder = new StringBuilder();
+        Iterator<String> names = this.getNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            Object metric = this.metrics.get(name);
+            if (metric instanceof Counter counter) {
+                builder.append(name).append(" counter ")
+                        .append(counter.getCount());
+            } else if (metric instanceof Gauge gauge) {
+                builder.append(name).append(" gauge ")
+                        .append(gauge.getValue());
+            } else if (metric instanceof Histogram histogram) {
+                builder.append(name).append(" histogram count=")
+                        .append(histogram.getCount())
+                        .append(String.format(" mean=%.1f",
+                                histogram.getMean()))
+                        .append(" p50=").append(histogram.getPercentile(50))
+                        .append(" p90=").append(histogram.getPercentile(90))
+                        .append(" p99=").append(histogram.getPercentile(99))
+                        .append(" max=").append(histogram.getMax());
+            } else {
+                continue;
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Registers the registry with the platform MBean server, as
+     * CompanyManagementAPI:type=Metrics,name= and the name of the registry.
+     *
+     * @throws IllegalStateException if the registry is already registered or
+     * can't be registered
+     * @return the name of the MBean
+     */
+    public synchronized ObjectName registerMBean() {
+        if (this.objectName != null) {
+            throw new IllegalStateException("The registry is registered.");
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(
+                    "CompanyManagementAPI:type=Metrics,name="
+                    + ObjectName.quote(this.name));
+            server.registerMBean(new MetricsMBean(this), objectName);
+            this.objectName = objectName;
+            return objectName;
+        } catch (InstanceAlreadyExistsException ex) {
+            throw new IllegalStateException(
+                    "A registry with the same name is registered.", ex);
+        } catch (JMException ex) {
+            throw new IllegalStateException("The registry can't be registered.",
+                    ex);
+        }
+    }
+
+    /**
+     * Unregisters the registry from the platform MBean server.
+     *
+     * @return true if the registry was unregistered otherwise false
+     */
+    public synchronized boolean unregisterMBean() {
+        if (this.objectName == null) {
+            return false;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(
+                    this.objectName);
+        } catch (InstanceNotFoundException ex) {
+            // unregistered by someone else
+        } catch (JMException ex) {
+            throw new IllegalStateException(
+                    "The registry can't be unregistered.", ex);
+        }
+        this.objectName = null;
+        return true;
+    }
+}
@@ -64,6 +64,52 @@ public interface IManageRoutes {
      */
     Iterator<ILocal> generateRouteForSeller(ILocal start, ISeller seller);
 
+    /**
+     * Simulates the route generateRouteForSeller generates, without serving
+     * the clients, unloading the warehouses or changing the goods of the
+     * seller until the simulation is committed.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     * @return the simulation, with the route
+     */
+    RouteSimulation simulateRouteForSeller(ILocal start, ISeller seller);
+
+    /**
+     * Generates a route for the seller that orders the markets he has to visit
+     * and the warehouses to restock at, to shorten the route. The markets are
+     * served and the warehouses unloaded as with generateRouteForSeller.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @param timeBudget the milliseconds the optimization can take
+     * @throws IllegalArgumentException if the start or seller are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route plan, with the distance saved against the greedy route
+     */
+    RoutePlan generateOptimizedRouteForSeller(ILocal start, ISeller seller,
+            long timeBudget);
+
+    /**
+     * Plans the routes of the sellers in parallel. The plans only read a
+     * snapshot of the network and each one has its own copy of the clients
+     * and the stock, so they do not see each other and nothing is changed.
+     *
+     * @param start the starting point of the routes
+     * @param sellers the sellers
+     * @param timeBudget the milliseconds the optimization of each route can
+     * take
+     * @throws IllegalArgumentException if the start or sellers are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route summaries, in the order of the sellers
+     */
+    Iterator<RouteSummary> planRoutesForSellers(ILocal start,
+            Iterator<ISeller> sellers, long timeBudget);
+
     /**
      * Prints the shortest route for the seller considering the markets that he
      * has to visit.
@@ -1,7 +1,10 @@
 package RoutesManagement;
 
-import AdaptedDataStructures.AdaptedNetwork;
 import AdaptedDataStructures.IAdaptedNetwork;
+import AdaptedDataStructures.ILocalsNetwork;
+import AdaptedDataStructures.LocalsNetwork;
+import DataStructures.LinkedUnorderedList;
+import DataStructuresInterfaces.UnorderedListADT;
 import Locals.ILocal;
 import Locals.IMarket;
 import Locals.Local;
@@ -13,6 +16,8 @@ import LocalsManagement.ManageMarkets;
 import LocalsManagement.ManageWarehouses;
 import SellersManagement.ISeller;
 import SellersManagement.Seller;
+import java.util.Iterator;
+import java.util.Random;
 
 /**
  *
@@ -24,7 +29,7 @@ public class Main {
      * @param args the command line arguments
      */
     public static void main(String[] args) {
-        IAdaptedNetwork network = new AdaptedNetwork();
+        ILocalsNetwork network = new LocalsNetwork();
         IManageMarkets manageMarkets = new ManageMarkets(network);
         IManageWarehouses manageWarehouses = new ManageWarehouses(network);
         ManageRoutes manageRoutes = new ManageRoutes(network);
@@ -86,6 +91,172 @@ public class Main {
         manageRoutes.printRoads();
         System.out.println(manageRoutes.roadsToJson());
         manageRoutes.printRouteForSeller(company, seller);
+
+        System.out.println("Route optimizer mismatches: "
+                + routeOptimizerOracle(200, 42));
+    }
+
+    private static ILocalsNetwork createWorld(long seed,
+            ISeller seller) {
+
+        Random random = new Random(seed);
+        ILocalsNetwork network = new LocalsNetwork();
+        IManageMarkets manageMarkets = new ManageMarkets(network);
+        IManageWarehouses manageWarehouses = new ManageWarehouses(network);
+        ManageRoutes manageRoutes = new ManageRoutes(network);
+        int markets = 1 + random.nextInt(8);
+        int warehouses = 1 + random.nextInt(4);
+        String[] names = new String[1 + markets + warehouses];
+
+        names[0] = "Company";
+        network.addVertex(new Local(names[0]));
+        for (int i = 1; i <= markets; i++) {
+            names[i] = "Market" + i;
+            manageMarkets.addLocal(new Market(names[i]));
+            for (int c = random.nextInt(4); c > 0; c--) {
+                manageMarkets.addMarketClient(names[i], 1 + random.nextInt(15));
+            }
+            if (random.nextInt(4) != 0) {
+                seller.addMarketToVisit(names[i]);
+            }
+        }
+        for (int i = markets + 1; i < names.length; i++) {
+            names[i] = "Warehouse" + i;
+            int capacity = 5 + random.nextInt(40);
+            manageWarehouses.addLocal(new Warehouse(names[i], capacity));
+            manageWarehouses.loadWarehouseStock(names[i], capacity);
+        }
+        for (int i = 1; i < names.length; i++) {
+            manageRoutes.addRoad(names[random.nextInt(i)], names[i],
+                    1 + random.nextInt(9));
+        }
+        for (int r = random.nextInt(names.length * 2); r > 0; r--) {
+            int from = random.nextInt(names.length);
+            int to = random.nextInt(names.length);
+            if (from != to) {
+                manageRoutes.addRoad(names[from], names[to],
+                        1 + random.nextInt(9));
+            }
+        }
+        return network;
+    }
+
+    private static double routeDistance(IAdaptedNetwork<ILocal> network,
+            ILocal start, Iterator<ILocal> route) {
+
+        double distance = 0;
+        ILocal previous = start;
+        while (route.hasNext()) {
+            ILocal current = route.next();
+            distance += network.shortestPathWeight(previous, current);
+            previous = current;
+        }
+        return distance;
+    }
+
+    private static int neededStock(IAdaptedNetwork<ILocal> network) {
+        int needed = 0;
+        Iterator<ILocal> locals = network.vertices();
+        while (locals.hasNext()) {
+            if (locals.next() instanceof IMarket market) {
+                needed += market.getTotalNeededStock();
+            }
+        }
+        return needed;
+    }
+
+    /**
+     * Builds the same random connected world twice and compares, for a
+     * seller, the greedy route of one with the optimized plan of the other.
+     * The plan must report the greedy distance and delivered stock, execute
+     * exactly what it reports and never be worse than the greedy route. The
+     * same seller is also planned in a parallel batch and simulated, which
+     * must not change the world.
+     *
+     * @param worlds the number of random worlds
+     * @param seed the random seed
+     * @return the number of worlds where the plan is wrong
+     */
+    private static int routeOptimizerOracle(int worlds, long seed) {
+        Random random = new Random(seed);
+        int mismatches = 0;
+
+        for (int w = 0; w < worlds; w++) {
+            long worldSeed = random.nextLong();
+            int maxWeight = 5 + random.nextInt(25);
+            ISeller greedySeller = new Seller("1", "Greedy", maxWeight);
+            ISeller optimizedSeller = new Seller("1", "Optimized", maxWeight);
+            ILocalsNetwork greedyNetwork = createWorld(worldSeed,
+                    greedySeller);
+            ILocalsNetwork optimizedNetwork = createWorld(worldSeed,
+                    optimizedSeller);
+            ManageRoutes greedyRoutes = new ManageRoutes(greedyNetwork);
+            ManageRoutes optimizedRoutes = new ManageRoutes(optimizedNetwork);
+            ILocal greedyStart = greedyNetwork.getVertex(0);
+            ILocal optimizedStart = optimizedNetwork.getVertex(0);
+
+            int needed = neededStock(greedyNetwork);
+            RouteSimulation simulation = greedyRoutes.simulateRouteForSeller(
+                    greedyStart, greedySeller);
+            double simulatedDistance = routeDistance(greedyNetwork,
+                    greedyStart, simulation.getRoute());
+            simulation.discard();
+            if (neededStock(greedyNetwork) != needed
+                    || greedySeller.getCurrentWeight() != 0) {
+                System.out.println("Simulation changed world " + w);
+                mismatches++;
+            }
+            double greedyDistance = routeDistance(greedyNetwork, greedyStart,
+                    greedyRoutes.generateRouteForSeller(greedyStart,
+                            greedySeller));
+            int greedyDelivered = needed - neededStock(greedyNetwork);
+            if (simulatedDistance != greedyDistance) {
+                System.out.println("Simulation mismatch in world " + w);
+                mismatches++;
+            }
+
+            UnorderedListADT<ISeller> batch = new LinkedUnorderedList<>();
+            for (int i = 0; i < 4; i++) {
+                batch.addToRear(optimizedSeller);
+            }
+            Iterator<RouteSummary> summaries = optimizedRoutes
+                    .planRoutesForSellers(optimizedStart, batch.iterator(), 0);
+            while (summaries.hasNext()) {
+                RoutePlan planned = summaries.next().getPlan();
+                if (planned.getGreedyDistance() != greedyDistance
+                        || planned.getGreedyDeliveredStock() != greedyDelivered
+                        || planned.getDistance() != routeDistance(
+                                optimizedNetwork, optimizedStart,
+                                planned.getRoute())
+                        || neededStock(optimizedNetwork) != needed) {
+                    System.out.println("Batch mismatch in world " + w);
+                    mismatches++;
+                }
+            }
+
+            RoutePlan plan = optimizedRoutes.generateOptimizedRouteForSeller(
+                    optimizedStart, optimizedSeller, 50);
+            double distance = routeDistance(optimizedNetwork, optimizedStart,
+                    plan.getRoute());
+            int delivered = needed - neededStock(optimizedNetwork);
+
+            if (plan.getGreedyDistance() != greedyDistance
+                    || plan.getGreedyDeliveredStock() != greedyDelivered
+                    || plan.getDistance() != distance
+                    || plan.getDeliveredStock() != delivered
+                    || delivered < greedyDelivered
+                    || (delivered == greedyDelivered
+                    && distance > greedyDistance)) {
+                System.out.println("Route mismatch in world " + w + ": "
+                        + greedyDistance + "/" + greedyDelivered + " -> "
+                        + plan.getGreedyDistance() + "/"
+                        + plan.getGreedyDeliveredStock() + ", " + distance
+                        + "/" + delivered + " -> " + plan.getDistance() + "/"
+                        + plan.getDeliveredStock());
+                mismatches++;
+            }
+        }
+        return mismatches;
     }
 
 }
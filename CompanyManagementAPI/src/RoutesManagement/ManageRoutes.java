@@ -1,16 +1,20 @@
 package RoutesManagement;
 
-import AdaptedDataStructures.IAdaptedNetwork;
-import AdaptedDataStructures.Path;
-import DataStructures.LinkedUnorderedList;
+import AdaptedDataStructures.ILocalsNetwork;
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.EdgeCursorADT;
 import DataStructuresInterfaces.UnorderedListADT;
 import Locals.ILocal;
 import Locals.IMarket;
 import Locals.IWarehouse;
-import Locals.Market;
 import Locals.Warehouse;
+import Metrics.Counter;
+import Metrics.Histogram;
+import Metrics.MetricsRegistry;
 import SellersManagement.ISeller;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
@@ -20,7 +24,33 @@ import org.json.simple.JSONObject;
  */
 public class ManageRoutes implements IManageRoutes {
 
-    private IAdaptedNetwork<ILocal> network;
+    /**
+     * The number of times Dijkstra's algorithm was run, by any network.
+     */
+    private static final Counter DIJKSTRA_RUNS = MetricsRegistry.getDefault()
+            .counter("network.dijkstra.runs");
+
+    /**
+     * How long generateRouteForSeller takes.
+     */
+    private static final Histogram ROUTE_NANOS = MetricsRegistry.getDefault()
+            .histogram("routes.generate.nanos");
+
+    /**
+     * How many times generateRouteForSeller runs Dijkstra's algorithm. Routes
+     * generated at the same time are counted in each other.
+     */
+    private static final Histogram ROUTE_DIJKSTRA_RUNS = MetricsRegistry
+            .getDefault().histogram("routes.generate.dijkstraRuns");
+
+    /**
+     * How long finding the nearest warehouse with stock and loading the
+     * seller there takes.
+     */
+    private static final Histogram VISIT_WAREHOUSE_NANOS = MetricsRegistry
+            .getDefault().histogram("routes.visitWarehouse.nanos");
+
+    private ILocalsNetwork network;
 
     /**
      * ManageRoutes class constructor.
@@ -28,23 +58,10 @@ public class ManageRoutes implements IManageRoutes {
      * @param network the network
      * @throws IllegalArgumentException if the network is null
      */
-    public ManageRoutes(IAdaptedNetwork<ILocal> network) {
+    public ManageRoutes(ILocalsNetwork network) {
         this.network = network;
     }
 
-    private ILocal getLocal(String name) {
-        Iterator<ILocal> localsIterator = this.network.vertices();
-
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
-
-            if (currentLocal.getName().equals(name)) {
-                return currentLocal;
-            }
-        }
-        return null;
-    }
-
     private void checkIfArgumentsAreValid(String start, String destination) {
         if (this.network.isEmpty()) {
             throw new IllegalStateException("There are no locations.");
@@ -57,23 +74,9 @@ public class ManageRoutes implements IManageRoutes {
         }
     }
 
-    private boolean roadExists(ILocal startLocal, ILocal destinationLocal) {
-        Iterator<Path<ILocal>> roads = this.network.getPaths();
-
-        while (roads.hasNext()) {
-            Path<ILocal> currentRoad = roads.next();
-
-            if (currentRoad.getStart().equals(startLocal)
-                    && currentRoad.getDestination().equals(destinationLocal)) {
-
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
-     * Adds a road between two locals.
+     * Adds a road between two locals, if there is no road between them in
+     * either direction.
      *
      * @param start the start local
      * @param destination the distination local
@@ -91,11 +94,11 @@ public class ManageRoutes implements IManageRoutes {
         if (distance <= 0) {
             throw new IllegalArgumentException("Distance must be > 0.");
         }
-        ILocal startLocal = this.getLocal(start);
-        ILocal destinationLocal = this.getLocal(destination);
+        ILocal startLocal = this.network.getLocal(start);
+        ILocal destinationLocal = this.network.getLocal(destination);
 
         if (startLocal == null || destinationLocal == null
-                || this.roadExists(startLocal, destinationLocal)) {
+                || this.network.hasEdge(startLocal, destinationLocal)) {
 
             return false;
         }
@@ -104,7 +107,7 @@ public class ManageRoutes implements IManageRoutes {
     }
 
     /**
-     * Removes a road between two locals.
+     * Removes the road between two locals, in either direction.
      *
      * @param start the start local
      * @param destination the distination local
@@ -116,11 +119,11 @@ public class ManageRoutes implements IManageRoutes {
     @Override
     public boolean removeRoad(String start, String destination) {
         this.checkIfArgumentsAreValid(start, destination);
-        ILocal startLocal = this.getLocal(start);
-        ILocal destinationLocal = this.getLocal(destination);
+        ILocal startLocal = this.network.getLocal(start);
+        ILocal destinationLocal = this.network.getLocal(destination);
 
         if (startLocal == null || destinationLocal == null
-                || !this.roadExists(startLocal, destinationLocal)) {
+                || !this.network.hasEdge(startLocal, destinationLocal)) {
 
             return false;
         }
@@ -129,7 +132,7 @@ public class ManageRoutes implements IManageRoutes {
     }
 
     /**
-     * Sets the road distance between two Locals.
+     * Sets the distance of the road between two Locals, in either direction.
      *
      * @param start the start local
      * @param destination the destination local
@@ -149,11 +152,11 @@ public class ManageRoutes implements IManageRoutes {
         if (distance <= 0) {
             throw new IllegalArgumentException("Distance must be > 0.");
         }
-        ILocal startLocal = this.getLocal(start);
-        ILocal destinationLocal = this.getLocal(destination);
+        ILocal startLocal = this.network.getLocal(start);
+        ILocal destinationLocal = this.network.getLocal(destination);
 
         if (startLocal == null || destinationLocal == null
-                || !this.roadExists(startLocal, destinationLocal)) {
+                || !this.network.hasEdge(startLocal, destinationLocal)) {
 
             return false;
         }
@@ -161,55 +164,33 @@ public class ManageRoutes implements IManageRoutes {
         return true;
     }
 
-    private void loadSeller(ISeller seller, IWarehouse warehouse) {
-        int sellerFreeSpace = seller.getMaxWeight() - seller.getCurrentWeight();
-        seller.loadGoods(warehouse.unloadStock(sellerFreeSpace));
-    }
-
-    private Iterator<IWarehouse> getWarehouses() {
-        Iterator<ILocal> localsIterator = this.network.vertices();
-        UnorderedListADT<IWarehouse> warehouses = new LinkedUnorderedList<>();
-
-        while (localsIterator.hasNext()) {
-            ILocal currentLocal = localsIterator.next();
+    private void loadSeller(RouteSimulation simulation,
+            IWarehouse warehouse) {
 
-            if (currentLocal instanceof Warehouse) {
-                IWarehouse warehouse = (IWarehouse) currentLocal;
-
-                if (warehouse.getStock() > 0) {
-                    warehouses.addToRear(warehouse);
-                }
-            }
-        }
-        return warehouses.iterator();
+        int sellerFreeSpace = simulation.getSeller().getMaxWeight()
+                - simulation.getCurrentWeight();
+        simulation.loadGoods(simulation.unloadStock(warehouse,
+                sellerFreeSpace));
     }
 
-    private IWarehouse visitWarehouse(ILocal market, ISeller seller) {
-        IWarehouse minWarehouse = null;
-        Iterator<IWarehouse> warehousesIt = this.getWarehouses();
+    private IWarehouse visitWarehouse(ILocal market,
+            RouteSimulation simulation) {
 
-        if (warehousesIt.hasNext()) {
-            minWarehouse = warehousesIt.next();
-            double min = this.network.shortestPathWeight(market, minWarehouse);
+        long start = VISIT_WAREHOUSE_NANOS.start();
+        ILocal nearest = this.network.getNearestVertex(market,
+                local -> local instanceof Warehouse warehouse
+                && simulation.getStock(warehouse) > 0);
 
-            while (warehousesIt.hasNext()) {
-                IWarehouse currentWarehouse = warehousesIt.next();
-                double toCompare = this.network.shortestPathWeight(market,
-                        currentWarehouse);
-
-                if (min > toCompare) {
-                    min = toCompare;
-                    minWarehouse = currentWarehouse;
-                }
-            }
+        IWarehouse warehouse = null;
+        if (nearest != null) {
+            warehouse = (IWarehouse) nearest;
+            this.loadSeller(simulation, warehouse);
         }
-        if (minWarehouse != null) {
-            this.loadSeller(seller, minWarehouse);
-        }
-        return minWarehouse;
+        VISIT_WAREHOUSE_NANOS.stop(start);
+        return warehouse;
     }
 
-    private void addLocalsToRoute(UnorderedListADT<ILocal> route,
+    private void addLocalsToRoute(RouteSimulation simulation,
             Iterator<ILocal> it) {
 
         if (it.hasNext()) {
@@ -217,24 +198,25 @@ public class ManageRoutes implements IManageRoutes {
         }
         while (it.hasNext()) {
             ILocal currentLocal = it.next();
-            route.addToRear(currentLocal);
+            simulation.addToRoute(currentLocal);
         }
     }
 
-    private Iterator<IMarket> getMarketsFromSeller(Iterator<String> markets) {
-        UnorderedListADT<IMarket> marketsList = new LinkedUnorderedList<>();
+    private UnorderedListADT<IMarket> getMarketsFromSeller(
+            Iterator<String> markets) {
+
+        UnorderedListADT<IMarket> marketsList = new ArrayUnorderedList<>();
 
         while (markets.hasNext()) {
             String currentMarket = markets.next();
-            ILocal local = this.getLocal(currentMarket);
+            IMarket market = this.network.getMarket(currentMarket);
 
-            if (local instanceof Market market) {
-                marketsList.addToRear(market);
-            } else {
+            if (market == null) {
                 return null;
             }
+            marketsList.addToRear(market);
         }
-        return marketsList.iterator();
+        return marketsList;
     }
 
     /**
@@ -249,58 +231,257 @@ public class ManageRoutes implements IManageRoutes {
      */
     @Override
     public Iterator<ILocal> generateRouteForSeller(ILocal start, ISeller seller) {
+        long begin = ROUTE_NANOS.start();
+        long runs = begin == 0L ? 0 : DIJKSTRA_RUNS.getCount();
+        RouteSimulation simulation = this.simulateRouteForSeller(start, seller);
+        simulation.commit();
+        if (begin != 0L) {
+            ROUTE_DIJKSTRA_RUNS.record(DIJKSTRA_RUNS.getCount() - runs);
+        }
+        ROUTE_NANOS.stop(begin);
+        return simulation.getRoute();
+    }
+
+    /**
+     * Simulates the route generateRouteForSeller generates, without serving
+     * the clients, unloading the warehouses or changing the goods of the
+     * seller until the simulation is committed.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @throws IllegalArgumentException if the start or seller are null
+     * @throws IllegalStateException if there are no locations
+     * @return the simulation, with the route
+     */
+    @Override
+    public RouteSimulation simulateRouteForSeller(ILocal start,
+            ISeller seller) {
+
         if (start == null || seller == null) {
             throw new IllegalArgumentException("Null arguments are invalid.");
         }
         if (this.network.isEmpty()) {
             throw new IllegalStateException("There are no Locations.");
         }
-        UnorderedListADT<ILocal> route = new LinkedUnorderedList<>();
-        Iterator<IMarket> marketsIterator = this.getMarketsFromSeller(seller.
+        RouteSimulation simulation = new RouteSimulation(seller);
+        UnorderedListADT<IMarket> markets = this.getMarketsFromSeller(seller.
                 getMarketsToVisit());
 
         ILocal currentLocal = start;
 
-        if (this.getLocal(start.getName()) == null || marketsIterator == null) {
-            return route.iterator();
+        if (this.network.getLocal(start.getName()) == null
+                || markets == null) {
+
+            return simulation;
         }
+        Iterator<IMarket> marketsIterator = markets.iterator();
 
         while (marketsIterator.hasNext()) {
             IMarket marketToGo = marketsIterator.next();
 
-            if (marketToGo.getNumberOfClients() != 0) {
+            if (simulation.getNumberOfClients(marketToGo) != 0) {
                 Iterator<ILocal> it = this.network.getShortestPath(currentLocal,
                         marketToGo);
 
-                this.addLocalsToRoute(route, it);
+                this.addLocalsToRoute(simulation, it);
                 currentLocal = marketToGo;
             }
-            while (marketToGo.getNumberOfClients() != 0) {
-                int clientNeeds = marketToGo.HowMuchTheClientNeeds();
-                int unloadFromSeller = seller.unloadGoods(clientNeeds);
+            while (simulation.getNumberOfClients(marketToGo) != 0) {
+                int clientNeeds = simulation.HowMuchTheClientNeeds(marketToGo);
+                int unloadFromSeller = simulation.unloadGoods(clientNeeds);
 
-                while (marketToGo.serveClient(unloadFromSeller) > 0) {
+                while (simulation.serveClient(marketToGo, unloadFromSeller)
+                        > 0) {
                     IWarehouse warehouse = this.visitWarehouse(currentLocal,
-                            seller);
+                            simulation);
 
                     if (warehouse != null) {
                         Iterator<ILocal> it = this.network.getShortestPath(
                                 currentLocal, warehouse);
 
-                        this.addLocalsToRoute(route, it);
+                        this.addLocalsToRoute(simulation, it);
                         it = this.network.getShortestPath(warehouse,
                                 currentLocal);
 
-                        this.addLocalsToRoute(route, it);
-                        clientNeeds = marketToGo.HowMuchTheClientNeeds();
-                        unloadFromSeller = seller.unloadGoods(clientNeeds);
+                        this.addLocalsToRoute(simulation, it);
+                        clientNeeds = simulation.HowMuchTheClientNeeds(
+                                marketToGo);
+                        unloadFromSeller = simulation.unloadGoods(clientNeeds);
                     } else {
-                        return route.iterator();
+                        return simulation;
                     }
                 }
             }
         }
-        return route.iterator();
+        return simulation;
+    }
+
+    private void executeStops(RouteSimulation simulation,
+            Iterator<ILocal> stops) {
+
+        ISeller seller = simulation.getSeller();
+        while (stops.hasNext()) {
+            ILocal stop = stops.next();
+
+            if (stop instanceof IWarehouse warehouse) {
+                if (simulation.getCurrentWeight() < seller.getMaxWeight()
+                        && simulation.getStock(warehouse) > 0) {
+                    this.loadSeller(simulation, warehouse);
+                }
+            } else if (stop instanceof IMarket market) {
+                while (simulation.getNumberOfClients(market) != 0
+                        && simulation.getCurrentWeight() > 0) {
+                    int clientNeeds = simulation.HowMuchTheClientNeeds(market);
+                    simulation.serveClient(market,
+                            simulation.unloadGoods(clientNeeds));
+                }
+            }
+        }
+    }
+
+    /**
+     * Simulates a seller going through the given markets and warehouses, in
+     * order, as the optimized routes do: loading at the warehouses while he
+     * has free space and serving the markets while he has goods.
+     *
+     * @param seller the seller
+     * @param stops the markets and warehouses, in order
+     * @throws IllegalArgumentException if the seller or stops are null
+     * @return the simulation
+     */
+    public RouteSimulation simulateStopsForSeller(ISeller seller,
+            Iterator<ILocal> stops) {
+
+        if (seller == null || stops == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        RouteSimulation simulation = new RouteSimulation(seller);
+        this.executeStops(simulation, stops);
+        return simulation;
+    }
+
+    /**
+     * Generates a route for the seller that orders the markets he has to visit
+     * and the warehouses to restock at, to shorten the route. The markets are
+     * served and the warehouses unloaded as with generateRouteForSeller.
+     *
+     * @param start the starting point of the route
+     * @param seller the seller
+     * @param timeBudget the milliseconds the optimization can take
+     * @throws IllegalArgumentException if the start or seller are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route plan, with the distance saved against the greedy route
+     */
+    @Override
+    public RoutePlan generateOptimizedRouteForSeller(ILocal start,
+            ISeller seller, long timeBudget) {
+
+        if (start == null || seller == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        if (timeBudget < 0) {
+            throw new IllegalArgumentException("Time budget is invalid.");
+        }
+        if (this.network.isEmpty()) {
+            throw new IllegalStateException("There are no Locations.");
+        }
+        if (this.network.getVertexIndex(start) < 0) {
+            return new RoutePlan(new ArrayUnorderedList<>(),
+                    new ArrayUnorderedList<>(), 0, 0, 0, 0);
+        }
+        UnorderedListADT<IMarket> markets = this.getMarketsFromSeller(seller.
+                getMarketsToVisit());
+
+        if (markets == null) {
+            markets = new ArrayUnorderedList<>();
+        }
+        RouteOptimizer optimizer = new RouteOptimizer(new RouteSnapshot(
+                this.network, start, markets.iterator()));
+        RoutePlan plan = optimizer.optimize(seller, markets.iterator(),
+                timeBudget);
+
+        this.simulateStopsForSeller(seller, plan.getStops()).commit();
+        return plan;
+    }
+
+    /**
+     * Plans the routes of the sellers in parallel, on the common fork-join
+     * pool. The plans share one snapshot of the network, over the markets of
+     * every seller, and each one has its own copy of the clients and the
+     * stock, so they do not see each other and nothing is changed.
+     *
+     * @param start the starting point of the routes
+     * @param sellers the sellers
+     * @param timeBudget the milliseconds the optimization of each route can
+     * take
+     * @throws IllegalArgumentException if the start or sellers are null or if
+     * the time budget is negative
+     * @throws IllegalStateException if there are no locations
+     * @return the route summaries, in the order of the sellers
+     */
+    @Override
+    public Iterator<RouteSummary> planRoutesForSellers(ILocal start,
+            Iterator<ISeller> sellers, long timeBudget) {
+
+        if (start == null || sellers == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        if (timeBudget < 0) {
+            throw new IllegalArgumentException("Time budget is invalid.");
+        }
+        if (this.network.isEmpty()) {
+            throw new IllegalStateException("There are no Locations.");
+        }
+        UnorderedListADT<RouteSummary> summaries = new ArrayUnorderedList<>();
+        if (this.network.getVertexIndex(start) < 0) {
+            return summaries.iterator();
+        }
+        UnorderedListADT<ISeller> sellersList = new ArrayUnorderedList<>();
+        UnorderedListADT<UnorderedListADT<IMarket>> sellersMarkets
+                = new ArrayUnorderedList<>();
+        UnorderedListADT<IMarket> allMarkets = new ArrayUnorderedList<>();
+
+        while (sellers.hasNext()) {
+            ISeller seller = sellers.next();
+            UnorderedListADT<IMarket> markets = this.getMarketsFromSeller(
+                    seller.getMarketsToVisit());
+            if (markets == null) {
+                markets = new ArrayUnorderedList<>();
+            }
+            Iterator<IMarket> it = markets.iterator();
+            while (it.hasNext()) {
+                allMarkets.addToRear(it.next());
+            }
+            sellersList.addToRear(seller);
+            sellersMarkets.addToRear(markets);
+        }
+        RouteOptimizer optimizer = new RouteOptimizer(new RouteSnapshot(
+                this.network, start, allMarkets.iterator()));
+        UnorderedListADT<ForkJoinTask<RouteSummary>> tasks
+                = new ArrayUnorderedList<>();
+        Iterator<ISeller> sellersIterator = sellersList.iterator();
+        Iterator<UnorderedListADT<IMarket>> marketsIterator = sellersMarkets
+                .iterator();
+
+        while (sellersIterator.hasNext()) {
+            ISeller seller = sellersIterator.next();
+            int[] marketNodes = optimizer.getSnapshot().getMarketNodes(
+                    marketsIterator.next().iterator());
+            String id = seller.getId();
+            String name = seller.getName();
+            int maxWeight = seller.getMaxWeight();
+            int load = seller.getCurrentWeight();
+
+            tasks.addToRear(ForkJoinPool.commonPool().submit(()
+                    -> new RouteSummary(id, name, optimizer.optimize(maxWeight,
+                            load, marketNodes, timeBudget))));
+        }
+        Iterator<ForkJoinTask<RouteSummary>> tasksIterator = tasks.iterator();
+        while (tasksIterator.hasNext()) {
+            summaries.addToRear(tasksIterator.next().join());
+        }
+        return summaries.iterator();
     }
 
     /**
@@ -330,16 +511,15 @@ public class ManageRoutes implements IManageRoutes {
      */
     @Override
     public void printRoads() {
-        Iterator<Path<ILocal>> roads = this.network.getPaths();
+        EdgeCursorADT<ILocal> roads = this.network.edgeCursor();
         System.out.println("*********************");
         System.out.println("--------Roads--------");
         System.out.println("*********************");
 
-        while (roads.hasNext()) {
-            Path<ILocal> current = roads.next();
-            System.out.println("From " + current.getStart().getName()
-                    + " to " + current.getDestination().getName()
-                    + ": " + current.getWeight());
+        while (roads.next()) {
+            System.out.println("From " + roads.getStart().getName()
+                    + " to " + roads.getDestination().getName()
+                    + ": " + roads.getWeight());
         }
     }
 
@@ -350,14 +530,13 @@ public class ManageRoutes implements IManageRoutes {
      */
     public JSONArray roadsToJson() {
         JSONArray jRoads = new JSONArray();
-        Iterator<Path<ILocal>> roads = this.network.getPaths();
+        EdgeCursorADT<ILocal> roads = this.network.edgeCursor();
 
-        while (roads.hasNext()) {
-            Path<ILocal> currentRoad = roads.next();
+        while (roads.next()) {
             JSONObject jRoad = new JSONObject();
-            jRoad.put("from", currentRoad.getStart().getName());
-            jRoad.put("to", currentRoad.getDestination().getName());
-            jRoad.put("distance", currentRoad.getWeight());
+            jRoad.put("from", roads.getStart().getName());
+            jRoad.put("to", roads.getDestination().getName());
+            jRoad.put("distance", roads.getWeight());
             jRoads.add(jRoad);
         }
         return jRoads;
@@ -0,0 +1,421 @@
+package RoutesManagement;
+
+import DataStructures.ArrayUnorderedList;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import SellersManagement.ISeller;
+import java.util.Iterator;
+
+/**
+ * Plans the route of a seller over a distance matrix between the start, the
+ * markets to visit and the warehouses with stock. The markets are ordered by a
+ * nearest neighbour construction improved with 2-opt and Or-opt moves. Before
+ * going to a market it cannot fully serve the seller restocks at the warehouse
+ * that adds the least distance, and at a market it runs out of goods it goes
+ * to the nearest warehouse and back, as the greedy route does.
+ *
+ * <p>
+ * Plans only read a RouteSnapshot, markets and warehouses that can not be
+ * reached from the start are left out. A route that delivers more stock is
+ * better, between routes that deliver the same stock the shortest one is
+ * better.</p>
+ *
+ * @author Simão
+ */
+public class RouteOptimizer {
+
+    private final RouteSnapshot snapshot;
+
+    /**
+     * RouteOptimizer class constructor.
+     *
+     * @param snapshot the snapshot the routes are planned on
+     * @throws IllegalArgumentException if the snapshot is null
+     */
+    public RouteOptimizer(RouteSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot is null.");
+        }
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Getter for the snapshot the routes are planned on.
+     *
+     * @return the snapshot
+     */
+    public RouteSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Plans the route of a seller from the start of the snapshot through the
+     * given markets. Nothing is changed, the plan has to be executed by the
+     * caller.
+     *
+     * @param seller the seller
+     * @param markets the markets to visit, in the order of the greedy route
+     * @param timeBudget the milliseconds the improvement can take
+     * @throws IllegalArgumentException if an argument is null or if the time
+     * budget is negative
+     * @return the best plan found, the greedy route if nothing better is found
+     */
+    public RoutePlan optimize(ISeller seller, Iterator<IMarket> markets,
+            long timeBudget) {
+
+        if (seller == null || markets == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        return this.optimize(seller.getMaxWeight(), seller.getCurrentWeight(),
+                this.snapshot.getMarketNodes(markets), timeBudget);
+    }
+
+    /**
+     * Plans a route from the start of the snapshot through the given market
+     * nodes. Only the snapshot is read, so plans can run in parallel.
+     *
+     * @param maxWeight the weight the seller can carry
+     * @param load the weight the seller carries at the start
+     * @param markets the market nodes to visit, in the order of the greedy
+     * route
+     * @param timeBudget the milliseconds the improvement can take
+     * @throws IllegalArgumentException if the time budget is negative
+     * @return the best plan found, the greedy route if nothing better is found
+     */
+    public RoutePlan optimize(int maxWeight, int load, int[] markets,
+            long timeBudget) {
+
+        if (timeBudget < 0) {
+            throw new IllegalArgumentException("Time budget is invalid.");
+        }
+        long deadline = System.nanoTime() + timeBudget * 1000000L;
+        Instance instance = new Instance(this.snapshot, markets, maxWeight,
+                load);
+        int[] order = instance.improve(instance.construct(), deadline);
+
+        UnorderedListADT<Integer> greedyStops = new ArrayUnorderedList<>();
+        instance.greedy(greedyStops);
+        double greedyDistance = instance.distance;
+        int greedyDelivered = instance.delivered;
+
+        UnorderedListADT<Integer> stops = new ArrayUnorderedList<>();
+        instance.decode(order, stops);
+        if (!Instance.isBetter(instance.delivered, instance.distance,
+                greedyDelivered, greedyDistance)) {
+            stops = greedyStops;
+            instance.greedy(null);
+        }
+        return this.toPlan(instance, stops, greedyDistance, greedyDelivered);
+    }
+
+    private RoutePlan toPlan(Instance instance,
+            UnorderedListADT<Integer> stops, double greedyDistance,
+            int greedyDelivered) {
+
+        UnorderedListADT<ILocal> stopLocals = new ArrayUnorderedList<>();
+        UnorderedListADT<ILocal> route = new ArrayUnorderedList<>();
+        int previous = 0;
+        Iterator<Integer> it = stops.iterator();
+
+        while (it.hasNext()) {
+            int stop = instance.nodes[it.next()];
+            stopLocals.addToRear(this.snapshot.getLocal(stop));
+            this.snapshot.addPath(previous, stop, route);
+            previous = stop;
+        }
+        return new RoutePlan(stopLocals, route, instance.distance,
+                instance.delivered, greedyDistance, greedyDelivered);
+    }
+
+    /**
+     * The matrix and a copy of the stock of one planning. Node 0 is the start,
+     * nodes 1 to numMarkets are the markets and the rest are the warehouses,
+     * each mapped to its node in the snapshot.
+     */
+    private static class Instance {
+
+        private final int[] nodes;
+        private final double[][] distances;
+        private final int numMarkets;
+        private final int[] demands;
+        private final int[] stocks;
+        private final int maxWeight;
+        private final int initialLoad;
+
+        private final int[] remaining;
+        private final int[] stockLeft;
+        private int current;
+        private int load;
+        private double distance;
+        private int delivered;
+
+        private Instance(RouteSnapshot snapshot, int[] markets, int maxWeight,
+                int load) {
+
+            int[] warehouses = snapshot.getWarehouses();
+            int size = 1 + markets.length + warehouses.length;
+            this.nodes = new int[size];
+            this.distances = new double[size][size];
+            this.numMarkets = markets.length;
+            this.demands = new int[size];
+            this.stocks = new int[size];
+            this.maxWeight = maxWeight;
+            this.initialLoad = load;
+            this.remaining = new int[size];
+            this.stockLeft = new int[size];
+
+            System.arraycopy(markets, 0, this.nodes, 1, markets.length);
+            System.arraycopy(warehouses, 0, this.nodes, 1 + markets.length,
+                    warehouses.length);
+            for (int i = 0; i < size; i++) {
+                this.demands[i] = snapshot.getDemand(this.nodes[i]);
+                this.stocks[i] = snapshot.getStock(this.nodes[i]);
+                for (int j = 0; j < size; j++) {
+                    this.distances[i][j] = snapshot.getDistance(this.nodes[i],
+                            this.nodes[j]);
+                }
+            }
+        }
+
+        private static boolean isBetter(int delivered1, double distance1,
+                int delivered2, double distance2) {
+
+            return delivered1 > delivered2
+                    || (delivered1 == delivered2 && distance1 < distance2);
+        }
+
+        private void reset() {
+            System.arraycopy(this.demands, 0, this.remaining, 0,
+                    this.demands.length);
+            System.arraycopy(this.stocks, 0, this.stockLeft, 0,
+                    this.stocks.length);
+            this.current = 0;
+            this.load = this.initialLoad;
+            this.distance = 0;
+            this.delivered = 0;
+        }
+
+        private void travel(int node, UnorderedListADT<Integer> stops) {
+            this.distance += this.distances[this.current][node];
+            this.current = node;
+            if (stops != null) {
+                stops.addToRear(node);
+            }
+        }
+
+        private void restock(int warehouse, UnorderedListADT<Integer> stops) {
+            this.travel(warehouse, stops);
+            int taken = Math.min(this.maxWeight - this.load,
+                    this.stockLeft[warehouse]);
+            this.stockLeft[warehouse] -= taken;
+            this.load += taken;
+        }
+
+        /**
+         * Returns the warehouse with stock that adds the least distance to the
+         * way between two nodes, ties are broken by the order in the network.
+         */
+        private int nearestWarehouse(int from, int to) {
+            int nearest = -1;
+            double min = Double.POSITIVE_INFINITY;
+            for (int w = this.numMarkets + 1; w < this.nodes.length; w++) {
+                if (this.stockLeft[w] > 0) {
+                    double detour = this.distances[from][w]
+                            + this.distances[w][to];
+                    if (nearest < 0 || detour < min) {
+                        nearest = w;
+                        min = detour;
+                    }
+                }
+            }
+            return nearest;
+        }
+
+        /**
+         * Serves a market, going to the nearest warehouse and back every time
+         * the seller runs out of goods. Returns false if the stock runs out.
+         */
+        private boolean serve(int market, UnorderedListADT<Integer> stops) {
+            while (true) {
+                int used = Math.min(this.load, this.remaining[market]);
+                this.load -= used;
+                this.remaining[market] -= used;
+                this.delivered += used;
+                if (this.remaining[market] == 0) {
+                    return true;
+                }
+                int warehouse = this.nearestWarehouse(market, market);
+                if (warehouse < 0) {
+                    return false;
+                }
+                this.restock(warehouse, stops);
+                this.travel(market, stops);
+            }
+        }
+
+        /**
+         * Simulates the greedy route, the markets in the order of the seller
+         * and a warehouse only when the seller runs out of goods.
+         */
+        private void greedy(UnorderedListADT<Integer> stops) {
+            this.reset();
+            for (int market = 1; market <= this.numMarkets; market++) {
+                this.travel(market, stops);
+                if (!this.serve(market, stops)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Simulates the route that visits the markets in the given order.
+         */
+        private void decode(int[] order, UnorderedListADT<Integer> stops) {
+            this.reset();
+            for (int market : order) {
+                if (this.load < this.remaining[market]
+                        && this.load < this.maxWeight) {
+                    int warehouse = this.nearestWarehouse(this.current, market);
+                    if (warehouse >= 0) {
+                        this.restock(warehouse, stops);
+                    }
+                }
+                this.travel(market, stops);
+                if (!this.serve(market, stops)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns the better of the seller order and the nearest neighbour
+         * order from the start.
+         */
+        private int[] construct() {
+            int[] sellerOrder = new int[this.numMarkets];
+            int[] nearestOrder = new int[this.numMarkets];
+            boolean[] visited = new boolean[this.numMarkets + 1];
+            int from = 0;
+
+            for (int i = 0; i < this.numMarkets; i++) {
+                sellerOrder[i] = i + 1;
+                int nearest = -1;
+                for (int market = 1; market <= this.numMarkets; market++) {
+                    if (!visited[market] && (nearest < 0
+                            || this.distances[from][market]
+                            < this.distances[from][nearest])) {
+                        nearest = market;
+                    }
+                }
+                visited[nearest] = true;
+                nearestOrder[i] = nearest;
+                from = nearest;
+            }
+
+            this.decode(sellerOrder, null);
+            double sellerDistance = this.distance;
+            int sellerDelivered = this.delivered;
+            this.decode(nearestOrder, null);
+            if (isBetter(this.delivered, this.distance, sellerDelivered,
+                    sellerDistance)) {
+                return nearestOrder;
+            }
+            return sellerOrder;
+        }
+
+        /**
+         * Applies improving 2-opt and Or-opt moves until none improves the
+         * order or the deadline is reached.
+         */
+        private int[] improve(int[] order, long deadline) {
+            int n = order.length;
+            int[] best = order.clone();
+            int[] candidate = new int[n];
+            this.decode(best, null);
+            double bestDistance = this.distance;
+            int bestDelivered = this.delivered;
+            boolean improved = true;
+
+            while (improved) {
+                improved = false;
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        if (System.nanoTime() - deadline > 0) {
+                            return best;
+                        }
+                        reverse(best, i, j, candidate);
+                        this.decode(candidate, null);
+                        if (isBetter(this.delivered, this.distance,
+                                bestDelivered, bestDistance)) {
+                            System.arraycopy(candidate, 0, best, 0, n);
+                            bestDistance = this.distance;
+                            bestDelivered = this.delivered;
+                            improved = true;
+                        }
+                    }
+                }
+                for (int length = 1; length <= 3 && length < n; length++) {
+                    for (int i = 0; i + length <= n; i++) {
+                        for (int j = 0; j <= n - length; j++) {
+                            if (j == i) {
+                                continue;
+                            }
+                            if (System.nanoTime() - deadline > 0) {
+                                return best;
+                            }
+                            move(best, i, length, j, candidate);
+                            this.decode(candidate, null);
+                            if (isBetter(this.delivered, this.distance,
+                                    bestDelivered, bestDistance)) {
+                                System.arraycopy(candidate, 0, best, 0, n);
+                                bestDistance = this.distance;
+                                bestDelivered = this.delivered;
+                                improved = true;
+                            }
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Copies the order into the result with the markets from i to j
+         * reversed.
+         */
+        private static void reverse(int[] order, int i, int j, int[] result) {
+            System.arraycopy(order, 0, result, 0, order.length);
+            while (i < j) {
+                result[i] = order[j];
+                result[j] = order[i];
+                i++;
+                j--;
+            }
+        }
+
+        /**
+         * Copies the order into the result with the segment of the given length
+         * that starts at i moved to start at j.
+         */
+        private static void move(int[] order, int i, int length, int j,
+                int[] result) {
+
+            int r = 0;
+            for (int k = 0; k < order.length && r < j; k++) {
+                if (k < i || k >= i + length) {
+                    result[r++] = order[k];
+                }
+            }
+            System.arraycopy(order, i, result, r, length);
+            r += length;
+            for (int k = 0, skipped = 0; k < order.length; k++) {
+                if (k < i || k >= i + length) {
+                    if (skipped++ >= j) {
+                        result[r++] = order[k];
+                    }
+                }
+            }
+        }
+    }
+}
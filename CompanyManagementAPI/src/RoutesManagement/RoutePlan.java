@@ -0,0 +1,111 @@
+package RoutesManagement;
+
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import java.util.Iterator;
+
+/**
+ * A planned route for a seller, with the distance of the greedy route that
+ * visits the markets in the order the seller has them.
+ *
+ * @author Simão
+ */
+public class RoutePlan {
+
+    private final UnorderedListADT<ILocal> stops;
+    private final UnorderedListADT<ILocal> route;
+    private final double distance;
+    private final int deliveredStock;
+    private final double greedyDistance;
+    private final int greedyDeliveredStock;
+
+    /**
+     * RoutePlan class constructor.
+     *
+     * @param stops the markets and warehouses the seller stops at, in order
+     * @param route every local of the route, in order, without the start
+     * @param distance the distance of the route
+     * @param deliveredStock the stock delivered to the markets
+     * @param greedyDistance the distance of the greedy route
+     * @param greedyDeliveredStock the stock the greedy route delivers
+     * @throws IllegalArgumentException if the stops or route are null
+     */
+    public RoutePlan(UnorderedListADT<ILocal> stops,
+            UnorderedListADT<ILocal> route, double distance,
+            int deliveredStock, double greedyDistance,
+            int greedyDeliveredStock) {
+
+        if (stops == null || route == null) {
+            throw new IllegalArgumentException("The plan is invalid.");
+        }
+        this.stops = stops;
+        this.route = route;
+        this.distance = distance;
+        this.deliveredStock = deliveredStock;
+        this.greedyDistance = greedyDistance;
+        this.greedyDeliveredStock = greedyDeliveredStock;
+    }
+
+    /**
+     * Returns the markets and warehouses the seller stops at, in order.
+     *
+     * @return the stops iterator
+     */
+    public Iterator<ILocal> getStops() {
+        return this.stops.iterator();
+    }
+
+    /**
+     * Returns every local of the route, in order, without the start.
+     *
+     * @return the Locals iterator representing the route
+     */
+    public Iterator<ILocal> getRoute() {
+        return this.route.iterator();
+    }
+
+    /**
+     * Getter for the distance of the route.
+     *
+     * @return the distance of the route
+     */
+    public double getDistance() {
+        return this.distance;
+    }
+
+    /**
+     * Getter for the stock delivered to the markets.
+     *
+     * @return the delivered stock
+     */
+    public int getDeliveredStock() {
+        return this.deliveredStock;
+    }
+
+    /**
+     * Getter for the distance of the greedy route.
+     *
+     * @return the distance of the greedy route
+     */
+    public double getGreedyDistance() {
+        return this.greedyDistance;
+    }
+
+    /**
+     * Getter for the stock the greedy route delivers.
+     *
+     * @return the stock the greedy route delivers
+     */
+    public int getGreedyDeliveredStock() {
+        return this.greedyDeliveredStock;
+    }
+
+    /**
+     * Returns the distance saved against the greedy route.
+     *
+     * @return the greedy distance minus the distance of this route
+     */
+    public double getSavedDistance() {
+        return this.greedyDistance - this.distance;
+    }
+}
@@ -0,0 +1,351 @@
+package RoutesManagement;
+
+import DataStructures.ArrayUnorderedList;
+import DataStructures.HashMap;
+import DataStructuresInterfaces.MapADT;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.IWarehouse;
+import SellersManagement.ISeller;
+import java.util.Iterator;
+
+/**
+ * A route computed without changing the company. The clients served, the
+ * stock unloaded from the warehouses and the goods of the seller are kept as
+ * changes on top of the live state, recorded the first time each one is
+ * touched with its modification count. The simulation can then be committed,
+ * which applies every change at once, or discarded.
+ *
+ * @author Simão
+ */
+public class RouteSimulation {
+
+    private final ISeller seller;
+    private final int baseModCount;
+    private final int baseWeight;
+    private int currentWeight;
+    private final MapADT<IWarehouse, int[]> stocks;
+    private final MapADT<IMarket, MarketOverlay> markets;
+    private final UnorderedListADT<ILocal> route;
+    private boolean finished;
+
+    /**
+     * RouteSimulation class constructor.
+     *
+     * @param seller the seller that does the route
+     * @throws IllegalArgumentException if the seller is null
+     */
+    public RouteSimulation(ISeller seller) {
+        if (seller == null) {
+            throw new IllegalArgumentException("Seller is null.");
+        }
+        this.seller = seller;
+        this.baseModCount = seller.getModCount();
+        this.baseWeight = seller.getCurrentWeight();
+        this.currentWeight = this.baseWeight;
+        this.stocks = new HashMap<>();
+        this.markets = new HashMap<>();
+        this.route = new ArrayUnorderedList<>();
+        this.finished = false;
+    }
+
+    private void checkIfNotFinished() {
+        if (this.finished) {
+            throw new IllegalStateException("The simulation is finished.");
+        }
+    }
+
+    private int[] stockOf(IWarehouse warehouse) {
+        int[] stock = this.stocks.get(warehouse);
+        if (stock == null) {
+            stock = new int[]{warehouse.getStock(), warehouse.getStock(),
+                warehouse.getModCount()};
+            this.stocks.put(warehouse, stock);
+        }
+        return stock;
+    }
+
+    private MarketOverlay overlayOf(IMarket market) {
+        MarketOverlay overlay = this.markets.get(market);
+        if (overlay == null) {
+            overlay = new MarketOverlay(market);
+            this.markets.put(market, overlay);
+        }
+        return overlay;
+    }
+
+    /**
+     * Getter for the seller that does the route.
+     *
+     * @return the seller
+     */
+    public ISeller getSeller() {
+        return this.seller;
+    }
+
+    /**
+     * Getter for the simulated weight of the seller.
+     *
+     * @return the simulated weight
+     */
+    public int getCurrentWeight() {
+        return this.currentWeight;
+    }
+
+    /**
+     * Simulates the seller loading goods.
+     *
+     * @param weight the weight to load
+     * @throws IllegalArgumentException if the weight is less or equal than
+     * zero
+     * @throws IllegalStateException if the simulation is finished
+     * @return the loaded weight
+     */
+    public int loadGoods(int weight) {
+        this.checkIfNotFinished();
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight is invalid.");
+        }
+        int loaded = Math.min(weight,
+                this.seller.getMaxWeight() - this.currentWeight);
+        this.currentWeight += loaded;
+        return loaded;
+    }
+
+    /**
+     * Simulates the seller unloading goods.
+     *
+     * @param weight the weight to unload
+     * @throws IllegalArgumentException if the weight is less or equal than
+     * zero
+     * @throws IllegalStateException if the simulation is finished
+     * @return the unloaded weight
+     */
+    public int unloadGoods(int weight) {
+        this.checkIfNotFinished();
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight is invalid.");
+        }
+        int unloaded = Math.min(weight, this.currentWeight);
+        this.currentWeight -= unloaded;
+        return unloaded;
+    }
+
+    /**
+     * Getter for the simulated stock of a warehouse.
+     *
+     * @param warehouse the warehouse
+     * @return the simulated stock
+     */
+    public int getStock(IWarehouse warehouse) {
+        int[] stock = this.stocks.get(warehouse);
+        return stock == null ? warehouse.getStock() : stock[1];
+    }
+
+    /**
+     * Simulates unloading stock from a warehouse.
+     *
+     * @param warehouse the warehouse
+     * @param stock the stock to unload
+     * @throws IllegalArgumentException if the stock is less or equal than zero
+     * @throws IllegalStateException if the simulation is finished
+     * @return the unloaded stock
+     */
+    public int unloadStock(IWarehouse warehouse, int stock) {
+        this.checkIfNotFinished();
+        if (stock <= 0) {
+            throw new IllegalArgumentException("Stock is invalid.");
+        }
+        int[] current = this.stockOf(warehouse);
+        int unloaded = Math.min(stock, current[1]);
+        current[1] -= unloaded;
+        return unloaded;
+    }
+
+    /**
+     * Getter for the simulated number of clients of a market.
+     *
+     * @param market the market
+     * @return the simulated number of clients
+     */
+    public int getNumberOfClients(IMarket market) {
+        MarketOverlay overlay = this.markets.get(market);
+        return overlay == null ? market.getNumberOfClients()
+                : overlay.clients - overlay.first;
+    }
+
+    /**
+     * Returns the simulated stock that the first client of a market needs.
+     *
+     * @param market the market
+     * @throws IllegalStateException if there are no clients
+     * @return the stock
+     */
+    public int HowMuchTheClientNeeds(IMarket market) {
+        MarketOverlay overlay = this.markets.get(market);
+        if (overlay == null) {
+            return market.HowMuchTheClientNeeds();
+        }
+        return overlay.firstNeeds();
+    }
+
+    /**
+     * Simulates serving the first client of a market.
+     *
+     * @param market the market
+     * @param stock the served stock
+     * @throws IllegalArgumentException if the stock is less than zero
+     * @throws IllegalStateException if there are no clients or if the
+     * simulation is finished
+     * @return the stock left to serve
+     */
+    public int serveClient(IMarket market, int stock) {
+        this.checkIfNotFinished();
+        if (stock < 0) {
+            throw new IllegalArgumentException("Invalid Stock.");
+        }
+        MarketOverlay overlay = this.overlayOf(market);
+        int needs = overlay.firstNeeds();
+        if (stock >= needs) {
+            overlay.served += needs;
+            overlay.first++;
+            overlay.partial = 0;
+            return 0;
+        }
+        overlay.served += stock;
+        overlay.partial += stock;
+        return needs - stock;
+    }
+
+    /**
+     * Adds a local to the end of the simulated route.
+     *
+     * @param local the local
+     * @throws IllegalStateException if the simulation is finished
+     */
+    public void addToRoute(ILocal local) {
+        this.checkIfNotFinished();
+        this.route.addToRear(local);
+    }
+
+    /**
+     * Returns the simulated route.
+     *
+     * @return the Locals iterator representing the route
+     */
+    public Iterator<ILocal> getRoute() {
+        return this.route.iterator();
+    }
+
+    /**
+     * Returns true if the simulation was committed or discarded.
+     *
+     * @return true if the simulation is finished
+     */
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Applies every simulated change to the company. Nothing is applied if the
+     * seller, a warehouse or a market touched by the simulation changed since
+     * it was first read, which is known by their modification counts.
+     *
+     * @throws IllegalStateException if the simulation is finished or if the
+     * company changed since the simulation read it
+     */
+    public void commit() {
+        this.checkIfNotFinished();
+        if (this.seller.getModCount() != this.baseModCount) {
+            throw new IllegalStateException("The seller changed.");
+        }
+        Iterator<IWarehouse> warehouses = this.stocks.keys();
+        while (warehouses.hasNext()) {
+            IWarehouse warehouse = warehouses.next();
+            if (warehouse.getModCount() != this.stocks.get(warehouse)[2]) {
+                throw new IllegalStateException("A warehouse changed.");
+            }
+        }
+        Iterator<MarketOverlay> overlays = this.markets.values();
+        while (overlays.hasNext()) {
+            if (!overlays.next().isUnchanged()) {
+                throw new IllegalStateException("A market changed.");
+            }
+        }
+
+        warehouses = this.stocks.keys();
+        while (warehouses.hasNext()) {
+            IWarehouse warehouse = warehouses.next();
+            int[] stock = this.stocks.get(warehouse);
+            if (stock[0] > stock[1]) {
+                warehouse.unloadStock(stock[0] - stock[1]);
+            }
+        }
+        overlays = this.markets.values();
+        while (overlays.hasNext()) {
+            MarketOverlay overlay = overlays.next();
+            int served = overlay.served;
+            while (served > 0) {
+                int stock = Math.min(served,
+                        overlay.market.HowMuchTheClientNeeds());
+                overlay.market.serveClient(stock);
+                served -= stock;
+            }
+        }
+        if (this.currentWeight > this.baseWeight) {
+            this.seller.loadGoods(this.currentWeight - this.baseWeight);
+        } else if (this.currentWeight < this.baseWeight) {
+            this.seller.unloadGoods(this.baseWeight - this.currentWeight);
+        }
+        this.finished = true;
+    }
+
+    /**
+     * Discards every simulated change.
+     *
+     * @throws IllegalStateException if the simulation is finished
+     */
+    public void discard() {
+        this.checkIfNotFinished();
+        this.finished = true;
+    }
+
+    /**
+     * The clients of a market as the simulation sees them: the clients served
+     * from the front of the live queue, which is not copied, and the stock
+     * served to the first client left.
+     */
+    private static class MarketOverlay {
+
+        private final IMarket market;
+        private final int baseModCount;
+        private final int clients;
+        private int first;
+        private int partial;
+        private int served;
+
+        private MarketOverlay(IMarket market) {
+            this.market = market;
+            this.baseModCount = market.getModCount();
+            this.clients = market.getNumberOfClients();
+            this.first = 0;
+            this.partial = 0;
+            this.served = 0;
+        }
+
+        private int firstNeeds() {
+            if (this.market.getModCount() != this.baseModCount) {
+                throw new IllegalStateException("A market changed.");
+            }
+            if (this.first == this.clients) {
+                throw new IllegalStateException("There are no Clients to serve.");
+            }
+            return this.market.getNeededStock(this.first) - this.partial;
+        }
+
+        private boolean isUnchanged() {
+            return this.market.getModCount() == this.baseModCount;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package RoutesManagement;
+
+import AdaptedDataStructures.IAdaptedNetwork;
+import DataStructures.ArrayUnorderedList;
+import DataStructures.HashMap;
+import DataStructures.ShortestPathTree;
+import DataStructuresInterfaces.MapADT;
+import DataStructuresInterfaces.UnorderedListADT;
+import Locals.ILocal;
+import Locals.IMarket;
+import Locals.Warehouse;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A read-only copy of what route planning needs from a network: the distances
+ * and shortest paths between the start, the markets to visit and the
+ * warehouses with stock, the stock the markets need and the stock of the
+ * warehouses. The shortest paths from a node are only searched the first time
+ * they are read, without the cache of the network, so a snapshot costs one
+ * search per node that is actually used. Nothing in the network is changed,
+ * so a snapshot can be shared by plans running in parallel while nothing
+ * changes the network.
+ *
+ * <p>
+ * Node 0 is the start, followed by the given markets that have clients and
+ * can be reached from it, in the given order, and then by the warehouses with
+ * stock that can be reached from it, by their order in the network.</p>
+ *
+ * @author Simão
+ */
+public class RouteSnapshot {
+
+    private final IAdaptedNetwork<ILocal> network;
+    private final ILocal[] vertices;
+    private final ILocal[] nodes;
+    private final int[] nodeVertices;
+    private final MapADT<ILocal, Integer> nodeIndices;
+    private final AtomicReferenceArray<ShortestPathTree> trees;
+    private final int[] demands;
+    private final int[] stocks;
+    private final int[] warehouses;
+
+    /**
+     * RouteSnapshot class constructor.
+     *
+     * @param network the network
+     * @param start the starting point of the routes
+     * @param markets the markets the routes can visit
+     * @throws IllegalArgumentException if an argument is null or if the start
+     * is not in the network
+     */
+    public RouteSnapshot(IAdaptedNetwork<ILocal> network, ILocal start,
+            Iterator<IMarket> markets) {
+
+        if (network == null || start == null || markets == null) {
+            throw new IllegalArgumentException("Null arguments are invalid.");
+        }
+        ShortestPathTree startTree = network.buildShortestPathTree(start);
+        if (startTree == null) {
+            throw new IllegalArgumentException("Start is invalid.");
+        }
+        this.network = network;
+
+        UnorderedListADT<IMarket> visited = new ArrayUnorderedList<>();
+        MapADT<ILocal, Integer> seen = new HashMap<>();
+        while (markets.hasNext()) {
+            IMarket market = markets.next();
+            int index = network.getVertexIndex(market);
+            if (index >= 0 && startTree.isReachable(index)
+                    && market.getNumberOfClients() != 0
+                    && seen.put(market, index) == null) {
+                visited.addToRear(market);
+            }
+        }
+        UnorderedListADT<Warehouse> stocked = new ArrayUnorderedList<>();
+        this.vertices = new ILocal[network.size()];
+        Iterator<ILocal> locals = network.vertices();
+        for (int i = 0; locals.hasNext(); i++) {
+            ILocal local = locals.next();
+            this.vertices[i] = local;
+            if (local instanceof Warehouse warehouse
+                    && startTree.isReachable(i) && warehouse.getStock() > 0) {
+                stocked.addToRear(warehouse);
+            }
+        }
+
+        int size = 1 + visited.size() + stocked.size();
+        this.nodes = new ILocal[size];
+        this.nodeVertices = new int[size];
+        this.nodeIndices = new HashMap<>(size);
+        this.trees = new AtomicReferenceArray<>(size);
+        this.demands = new int[size];
+        this.stocks = new int[size];
+        this.warehouses = new int[stocked.size()];
+
+        this.nodes[0] = start;
+        this.nodeVertices[0] = startTree.getSource();
+        this.trees.set(0, startTree);
+        int node = 1;
+        Iterator<IMarket> it = visited.iterator();
+        while (it.hasNext()) {
+            IMarket market = it.next();
+            this.nodes[node] = market;
+            this.nodeVertices[node] = seen.get(market);
+            this.demands[node++] = market.getTotalNeededStock();
+        }
+        Iterator<Warehouse> stockedIterator = stocked.iterator();
+        for (int w = 0; stockedIterator.hasNext(); w++) {
+            Warehouse warehouse = stockedIterator.next();
+            this.nodes[node] = warehouse;
+            this.nodeVertices[node] = network.getVertexIndex(warehouse);
+            this.stocks[node] = warehouse.getStock();
+            this.warehouses[w] = node++;
+        }
+        for (int i = 1; i < size; i++) {
+            this.nodeIndices.put(this.nodes[i], i);
+        }
+    }
+
+    /**
+     * Returns the shortest paths from a node, searching them the first time.
+     * Two threads can search the same node at once, only the first tree is
+     * kept.
+     *
+     * @param node the node
+     * @return the shortest path tree
+     */
+    private ShortestPathTree tree(int node) {
+        ShortestPathTree tree = this.trees.get(node);
+        if (tree == null) {
+            tree = this.network.buildShortestPathTree(this.nodes[node]);
+            if (!this.trees.compareAndSet(node, null, tree)) {
+                tree = this.trees.get(node);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the number of nodes, the start included.
+     *
+     * @return the number of nodes
+     */
+    public int size() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Returns the local of a node.
+     *
+     * @param node the node
+     * @return the local
+     */
+    public ILocal getLocal(int node) {
+        return this.nodes[node];
+    }
+
+    /**
+     * Returns the node of a market or warehouse.
+     *
+     * @param local the local
+     * @return the node, -1 if the local is not a market with clients or a
+     * warehouse with stock reachable from the start
+     */
+    public int getNode(ILocal local) {
+        Integer node = this.nodeIndices.get(local);
+        return node == null ? -1 : node;
+    }
+
+    /**
+     * Returns the distance of the shortest path between two nodes.
+     *
+     * @param from the first node
+     * @param to the second node
+     * @return the distance
+     */
+    public double getDistance(int from, int to) {
+        return this.tree(from).getDistance(this.nodeVertices[to]);
+    }
+
+    /**
+     * Returns the stock a market node needed when the snapshot was taken.
+     *
+     * @param node the node
+     * @return the stock, 0 if the node is not a market
+     */
+    public int getDemand(int node) {
+        return this.demands[node];
+    }
+
+    /**
+     * Returns the stock a warehouse node had when the snapshot was taken.
+     *
+     * @param node the node
+     * @return the stock, 0 if the node is not a warehouse
+     */
+    public int getStock(int node) {
+        return this.stocks[node];
+    }
+
+    /**
+     * Returns the warehouse nodes, by their order in the network.
+     *
+     * @return a copy of the warehouse nodes
+     */
+    public int[] getWarehouses() {
+        return this.warehouses.clone();
+    }
+
+    /**
+     * Returns the nodes of the given markets, in the same order, without the
+     * markets that are not in this snapshot.
+     *
+     * @param markets the markets
+     * @return the market nodes
+     */
+    public int[] getMarketNodes(Iterator<IMarket> markets) {
+        UnorderedListADT<Integer> found = new ArrayUnorderedList<>();
+        while (markets.hasNext()) {
+            int node = this.getNode(markets.next());
+            if (node > 0 && this.demands[node] > 0) {
+                found.addToRear(node);
+            }
+        }
+        int[] result = new int[found.size()];
+        Iterator<Integer> it = found.iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            result[i] = it.next();
+        }
+        return result;
+    }
+
+    /**
+     * Adds the locals of the shortest path between two nodes to a route,
+     * without the first one.
+     *
+     * @param from the first node
+     * @param to the second node
+     * @param route the route
+     */
+    public void addPath(int from, int to, UnorderedListADT<ILocal> route) {
+        Iterator<Integer> it = this.tree(from).iteratorPathIndices(
+                this.nodeVertices[to]);
+        if (it.hasNext()) {
+            it.next();
+        }
+        while (it.hasNext()) {
+            route.addToRear(this.vertices[it.next()]);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package RoutesManagement;
+
+/**
+ * The route planned for a seller in a batch.
+ *
+ * @author Simão
+ */
+public class RouteSummary {
+
+    private final String sellerId;
+    private final String sellerName;
+    private final RoutePlan plan;
+
+    /**
+     * RouteSummary class constructor.
+     *
+     * @param sellerId the id of the seller
+     * @param sellerName the name of the seller
+     * @param plan the planned route
+     * @throws IllegalArgumentException if the plan is null
+     */
+    public RouteSummary(String sellerId, String sellerName, RoutePlan plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("Plan is null.");
+        }
+        this.sellerId = sellerId;
+        this.sellerName = sellerName;
+        this.plan = plan;
+    }
+
+    /**
+     * Getter for the id of the seller.
+     *
+     * @return the id of the seller
+     */
+    public String getSellerId() {
+        return this.sellerId;
+    }
+
+    /**
+     * Getter for the name of the seller.
+     *
+     * @return the name of the seller
+     */
+    public String getSellerName() {
+        return this.sellerName;
+    }
+
+    /**
+     * Getter for the planned route.
+     *
+     * @return the planned route
+     */
+    public RoutePlan getPlan() {
+        return this.plan;
+    }
+
+    /**
+     * Returns a string representation of this summary.
+     *
+     * @return a string representation of this summary
+     */
+    @Override
+    public String toString() {
+        return this.sellerId + " (" + this.sellerName + "): distance "
+                + this.plan.getDistance() + ", delivered "
+                + this.plan.getDeliveredStock() + ", saved "
+                + this.plan.getSavedDistance();
+    }
+}
@@ -97,6 +97,14 @@ public interface ISeller {
      */
     Iterator<String> getMarketsToVisit();
 
+    /**
+     * Returns the number of times the Seller changed. It differs from a value
+     * read before if the weights or the Markets to visit changed since.
+     *
+     * @return the number of changes
+     */
+    int getModCount();
+
     /**
      * Prints the object to the console.
      *
@@ -1,7 +1,7 @@
 package SellersManagement;
 
-import DataStructures.LinkedUnorderedList;
-import DataStructuresInterfaces.UnorderedListADT;
+import DataStructures.LinkedHashMap;
+import DataStructuresInterfaces.MapADT;
 import java.util.Iterator;
 import org.json.simple.JSONArray;
 
@@ -11,14 +11,14 @@ import org.json.simple.JSONArray;
  */
 public class ManageSellers implements IManageSellers {
 
-    private UnorderedListADT<ISeller> sellers;
+    private final MapADT<String, ISeller> sellers;
 
     /**
      * ManageSellers class constructor.
      *
      */
     public ManageSellers() {
-        this.sellers = new LinkedUnorderedList<>();
+        this.sellers = new LinkedHashMap<>();
     }
 
     /**
@@ -33,10 +33,10 @@ public class ManageSellers implements IManageSellers {
         if (seller == null) {
             throw new IllegalArgumentException("Seller is null.");
         }
-        if (this.getSeller(seller.getId()) != null) {
+        if (this.sellers.containsKey(seller.getId())) {
             return false;
         }
-        this.sellers.addToRear(seller);
+        this.sellers.put(seller.getId(), seller);
         return true;
     }
 
@@ -60,13 +60,7 @@ public class ManageSellers implements IManageSellers {
     @Override
     public boolean removeSeller(String id) {
         this.checkIfArgumentAndStateAreValids(id);
-        ISeller seller = this.getSeller(id);
-
-        if (seller == null) {
-            return false;
-        }
-        this.sellers.remove(seller);
-        return true;
+        return this.sellers.remove(id) != null;
     }
 
     /**
@@ -86,7 +80,7 @@ public class ManageSellers implements IManageSellers {
      */
     @Override
     public Iterator<ISeller> getSellers() {
-        return this.sellers.iterator();
+        return this.sellers.values();
     }
 
     /**
@@ -101,15 +95,7 @@ public class ManageSellers implements IManageSellers {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("The id is invalid.");
         }
-        Iterator<ISeller> sellersIterator = this.sellers.iterator();
-
-        while (sellersIterator.hasNext()) {
-            ISeller currentSeller = sellersIterator.next();
-            if (currentSeller.getId().equals(id)) {
-                return currentSeller;
-            }
-        }
-        return null;
+        return this.sellers.get(id);
     }
 
     /**
@@ -325,7 +311,7 @@ public class ManageSellers implements IManageSellers {
         System.out.println("-------Sellers-------");
         System.out.println("*********************");
         System.out.println("Number of Sellers: " + this.getNumberOfSellers());
-        Iterator<ISeller> sellersIterator = this.sellers.iterator();
+        Iterator<ISeller> sellersIterator = this.sellers.values();
 
         while (sellersIterator.hasNext()) {
             ISeller currentSeller = sellersIterator.next();
@@ -340,7 +326,7 @@ public class ManageSellers implements IManageSellers {
      */
     public JSONArray sellersToJson() {
         JSONArray jSellers = new JSONArray();
-        Iterator<ISeller> sellersIterator = this.sellers.iterator();
+        Iterator<ISeller> sellersIterator = this.sellers.values();
 
         while (sellersIterator.hasNext()) {
             ISeller currentSeller = sellersIterator.next();
@@ -1,6 +1,6 @@
 package SellersManagement;
 
-import DataStructures.LinkedUnorderedList;
+import DataStructures.DoublyLinkedUnorderedList;
 import DataStructuresInterfaces.UnorderedListADT;
 import java.util.Iterator;
 import org.json.simple.JSONArray;
@@ -17,6 +17,7 @@ public class Seller implements ISeller {
     private int maxWeight;
     private int currentWeight;
     private final UnorderedListADT<String> marketsToVisit;
+    private int modCount;
 
     /**
      * Seller class constructor.
@@ -42,7 +43,7 @@ public class Seller implements ISeller {
         this.id = id;
         this.name = name;
         this.maxWeight = maxWeight;
-        this.marketsToVisit = new LinkedUnorderedList<>();
+        this.marketsToVisit = new DoublyLinkedUnorderedList<>();
     }
 
     /**
@@ -102,6 +103,7 @@ public class Seller implements ISeller {
             throw new IllegalArgumentException("Weight is invalid.");
         }
         this.maxWeight = maxWeight;
+        this.modCount++;
     }
 
     /**
@@ -126,6 +128,7 @@ public class Seller implements ISeller {
         if (weight <= 0) {
             throw new IllegalArgumentException("Weight is invalid.");
         }
+        this.modCount++;
 
         int leftSpace = this.maxWeight - this.currentWeight;
         if (weight >= leftSpace) {
@@ -148,6 +151,7 @@ public class Seller implements ISeller {
         if (weight <= 0) {
             throw new IllegalArgumentException("Weight is invalid.");
         }
+        this.modCount++;
         if (this.currentWeight <= weight) {
             int unloaded = this.currentWeight;
             this.currentWeight = 0;
@@ -157,17 +161,6 @@ public class Seller implements ISeller {
         return weight;
     }
 
-    private String getMarket(String name) {
-        Iterator<String> marketsToVisitIterator = this.marketsToVisit.iterator();
-        while (marketsToVisitIterator.hasNext()) {
-            String currentMarket = marketsToVisitIterator.next();
-            if (currentMarket.equals(name)) {
-                return currentMarket;
-            }
-        }
-        return null;
-    }
-
     /**
      * Adds a Market to the Seller.
      *
@@ -180,10 +173,11 @@ public class Seller implements ISeller {
         if (market == null || market.isBlank()) {
             throw new IllegalArgumentException("market is null.");
         }
-        if (this.getMarket(market) != null) {
+        if (this.marketsToVisit.contains(market)) {
             return false;
         }
         this.marketsToVisit.addToRear(market);
+        this.modCount++;
         return true;
     }
 
@@ -199,10 +193,11 @@ public class Seller implements ISeller {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Name is invalid.");
         }
-        if (this.marketsToVisit.isEmpty()) {
+        if (this.marketsToVisit.remove(name) == null) {
             return false;
         }
-        return this.marketsToVisit.remove(this.getMarket(name)) != null;
+        this.modCount++;
+        return true;
     }
 
     /**
@@ -215,6 +210,17 @@ public class Seller implements ISeller {
         return this.marketsToVisit.iterator();
     }
 
+    /**
+     * Returns the number of times the Seller changed. It differs from a value
+     * read before if the weights or the Markets to visit changed since.
+     *
+     * @return the number of changes
+     */
+    @Override
+    public int getModCount() {
+        return this.modCount;
+    }
+
     /**
      * Prints the object to the console.
      *